@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * The {@link BulkCacheable} annotation marks a method taking a single {@link java.util.Collection} of keys
+ * and returning a {@link java.util.Map} of those keys to their values as cacheable per key.
+ *
+ * The values of all keys are looked up with a single {@link org.apache.geode.cache.Region#getAll(java.util.Collection)}
+ * call, the method is invoked only with the keys missing from the cache, and the values it returns are stored
+ * with a single {@link org.apache.geode.cache.Region#putAll(java.util.Map)} call.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.cache.BulkCacheableInterceptor
+ * @see org.springframework.data.gemfire.cache.GemfireCache#getAll(java.util.Collection, java.util.function.Function)
+ * @see org.springframework.data.gemfire.cache.config.EnableBulkCaching
+ * @since 2.3.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BulkCacheable {
+
+	/**
+	 * Alias for {@link #cacheNames()}.
+	 */
+	@AliasFor("cacheNames")
+	String[] value() default {};
+
+	/**
+	 * Names of the caches in which the values are stored; only the first cache is used to look up values.
+	 */
+	@AliasFor("value")
+	String[] cacheNames() default {};
+
+}
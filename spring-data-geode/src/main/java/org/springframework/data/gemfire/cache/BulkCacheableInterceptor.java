@@ -0,0 +1,224 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * AOP {@link MethodInterceptor} caching the values returned by {@link BulkCacheable} methods per key.
+ *
+ * When the cache is a {@link GemfireCache}, the cached values are retrieved with a single
+ * {@link org.apache.geode.cache.Region#getAll(Collection)} and the loaded values are stored with a single
+ * {@link org.apache.geode.cache.Region#putAll(Map)}.  Other {@link Cache} implementations are accessed per key.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.data.gemfire.cache.BulkCacheable
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @since 2.3.0
+ */
+public class BulkCacheableInterceptor implements MethodInterceptor {
+
+	private final Supplier<CacheManager> cacheManagerSupplier;
+
+	/**
+	 * Constructs a new instance of {@link BulkCacheableInterceptor} with the given {@link CacheManager}.
+	 *
+	 * @param cacheManager {@link CacheManager} used to resolve the {@link Cache caches}.
+	 * @throws IllegalArgumentException if {@link CacheManager} is {@literal null}.
+	 */
+	public BulkCacheableInterceptor(CacheManager cacheManager) {
+		this(requireCacheManager(cacheManager));
+	}
+
+	private static Supplier<CacheManager> requireCacheManager(CacheManager cacheManager) {
+
+		Assert.notNull(cacheManager, "CacheManager must not be null");
+
+		return () -> cacheManager;
+	}
+
+	/**
+	 * Constructs a new instance of {@link BulkCacheableInterceptor} resolving the {@link CacheManager} lazily,
+	 * on first invocation.
+	 *
+	 * @param cacheManagerSupplier {@link Supplier} of the {@link CacheManager} used to resolve
+	 * the {@link Cache caches}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null}.
+	 */
+	public BulkCacheableInterceptor(Supplier<CacheManager> cacheManagerSupplier) {
+
+		Assert.notNull(cacheManagerSupplier, "CacheManager Supplier must not be null");
+
+		this.cacheManagerSupplier = cacheManagerSupplier;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		BulkCacheable bulkCacheable = resolveBulkCacheable(invocation);
+
+		if (bulkCacheable == null) {
+			return invocation.proceed();
+		}
+
+		Assert.state(method.getParameterCount() == 1 && Collection.class.isAssignableFrom(method.getParameterTypes()[0])
+			&& Map.class.isAssignableFrom(method.getReturnType()), String.format(
+				"@BulkCacheable method [%s] must accept a single Collection of keys and return a Map", method));
+
+		Assert.state(!ObjectUtils.isEmpty(bulkCacheable.cacheNames()),
+			String.format("@BulkCacheable method [%s] must declare a cache name", method));
+
+		Collection<Object> keys = (Collection<Object>) invocation.getArguments()[0];
+
+		if (keys == null || keys.isEmpty()) {
+			return invocation.proceed();
+		}
+
+		Cache cache = resolveCache(bulkCacheable.cacheNames()[0]);
+
+		Function<Collection<Object>, Map<Object, Object>> valueLoader =
+			missingKeys -> invokeWith(invocation, missingKeys);
+
+		try {
+			return cache instanceof GemfireCache
+				? ((GemfireCache) cache).getAll(keys, valueLoader)
+				: getAll(cache, keys, valueLoader);
+		}
+		catch (Cache.ValueRetrievalException cause) {
+			throw unwrap(cause.getCause());
+		}
+		catch (UndeclaredThrowableException cause) {
+			throw unwrap(cause);
+		}
+	}
+
+	// rethrow the exception thrown by the BulkCacheable method as is
+	private Throwable unwrap(Throwable cause) {
+		return cause instanceof UndeclaredThrowableException ? cause.getCause() : cause;
+	}
+
+	private BulkCacheable resolveBulkCacheable(MethodInvocation invocation) {
+
+		Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+
+		Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+
+		return AnnotatedElementUtils.findMergedAnnotation(method, BulkCacheable.class);
+	}
+
+	private Cache resolveCache(String cacheName) {
+
+		Cache cache = this.cacheManagerSupplier.get().getCache(cacheName);
+
+		Assert.state(cache != null, String.format("Cache [%s] not found", cacheName));
+
+		return cache;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> invokeWith(MethodInvocation invocation, Collection<Object> missingKeys) {
+
+		Class<?> keysType = invocation.getMethod().getParameterTypes()[0];
+
+		Collection<Object> arguments = keysType.isAssignableFrom(ArrayList.class) ? new ArrayList<>(missingKeys)
+			: keysType.isAssignableFrom(LinkedHashSet.class) ? new LinkedHashSet<>(missingKeys)
+			: null;
+
+		Assert.state(arguments != null, String.format("Collection type [%s] of @BulkCacheable method [%s]"
+			+ " must be assignable from List or Set", keysType.getName(), invocation.getMethod()));
+
+		invocation.getArguments()[0] = arguments;
+
+		try {
+			return (Map<Object, Object>) invocation.proceed();
+		}
+		catch (RuntimeException | Error cause) {
+			throw cause;
+		}
+		catch (Throwable cause) {
+			throw new UndeclaredThrowableException(cause);
+		}
+	}
+
+	private Map<Object, Object> getAll(Cache cache, Collection<Object> keys,
+			Function<Collection<Object>, Map<Object, Object>> valueLoader) {
+
+		Map<Object, Object> values = new LinkedHashMap<>();
+
+		Collection<Object> missingKeys = new ArrayList<>();
+
+		for (Object key : keys) {
+
+			Cache.ValueWrapper valueWrapper = cache.get(key);
+
+			if (valueWrapper != null && valueWrapper.get() != null) {
+				values.put(key, valueWrapper.get());
+			}
+			else {
+				missingKeys.add(key);
+			}
+		}
+
+		if (!missingKeys.isEmpty()) {
+
+			Map<Object, Object> loadedValues = valueLoader.apply(missingKeys);
+
+			if (loadedValues != null) {
+				loadedValues.forEach((key, value) -> {
+					if (value != null) {
+						cache.put(key, value);
+						values.put(key, value);
+					}
+				});
+			}
+		}
+
+		Map<Object, Object> orderedValues = new LinkedHashMap<>();
+
+		keys.forEach(key -> {
+			if (values.containsKey(key)) {
+				orderedValues.put(key, values.get(key));
+			}
+		});
+
+		return orderedValues;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.management.internal.security.ResourcePermissions;
+import org.apache.geode.security.ResourcePermission;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link ClusterLoadLeaseFunction} is a server-side {@link Region} {@link Function} granting {@literal clients}
+ * leases on loading the value for a missing key, so that only one {@literal client} loads the value at a time.
+ *
+ * The {@link Function} is routed by key, therefore, for a {@link org.apache.geode.cache.PartitionAttributes
+ * partitioned} {@link Region}, leases for a key are always granted by the member hosting the primary bucket
+ * of the key.  Only partitioned {@link Region Regions} are supported since any member hosting
+ * a non-partitioned {@link Region} could grant a lease, which would not exclude the other members; the
+ * execution fails for any other {@link Region}.  This {@link Function} must be registered on the servers.
+ *
+ * Expired leases, including those of {@literal clients} that died while holding the lease, are purged
+ * at most once per {@link #PURGE_INTERVAL purge interval} when a lease is acquired.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.data.gemfire.cache.FunctionClusterLoadLock
+ * @since 2.3.0
+ */
+@SuppressWarnings("serial")
+public class ClusterLoadLeaseFunction implements Function<Object[]> {
+
+	public static final String ID = ClusterLoadLeaseFunction.class.getName();
+
+	static final String ACQUIRE = "ACQUIRE";
+	static final String RELEASE = "RELEASE";
+
+	static final long PURGE_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+	private static final AtomicLong NEXT_PURGE_TIME = new AtomicLong(0L);
+
+	private static final Map<List<Object>, Lease> LEASES = new ConcurrentHashMap<>();
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	@Override
+	public Collection<ResourcePermission> getRequiredPermissions(String regionName) {
+		return Collections.singleton(ResourcePermissions.DATA_WRITE);
+	}
+
+	/**
+	 * Acquires or releases the lease for a key.
+	 *
+	 * The {@link Function} arguments are the action ({@literal ACQUIRE} or {@literal RELEASE}), the key,
+	 * the {@link String owner} of the lease and the lease time in milliseconds.
+	 *
+	 * @param functionContext {@link FunctionContext} of the execution.
+	 * @throws IllegalStateException if the {@link Region} is not partitioned.
+	 */
+	@Override
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		Assert.isInstanceOf(RegionFunctionContext.class, functionContext,
+			String.format("Function [%s] must be executed on a Region", getId()));
+
+		Object[] arguments = functionContext.getArguments();
+
+		Assert.isTrue(!ObjectUtils.isEmpty(arguments) && arguments.length >= 4,
+			"An action, key, owner and lease time are required");
+
+		Region<?, ?> region = ((RegionFunctionContext) functionContext).getDataSet();
+
+		Assert.state(PartitionRegionHelper.isPartitionedRegion(region), () -> String.format(
+			"Function [%1$s] requires a partitioned Region; Region [%2$s] is not partitioned",
+				getId(), region.getFullPath()));
+
+		String regionPath = region.getFullPath();
+
+		List<Object> leaseName = Arrays.asList(regionPath, arguments[1]);
+
+		String owner = String.valueOf(arguments[2]);
+
+		boolean result = ACQUIRE.equals(arguments[0])
+			? acquire(leaseName, owner, ((Number) arguments[3]).longValue())
+			: release(leaseName, owner);
+
+		functionContext.getResultSender().lastResult(result);
+	}
+
+	boolean acquire(List<Object> leaseName, String owner, long leaseTime) {
+
+		long now = System.currentTimeMillis();
+
+		purgeExpired(now);
+
+		Lease lease = LEASES.compute(leaseName, (name, currentLease) ->
+			currentLease == null || currentLease.isExpired(now) || currentLease.isOwnedBy(owner)
+				? new Lease(owner, now + leaseTime)
+				: currentLease);
+
+		return lease.isOwnedBy(owner);
+	}
+
+	boolean release(List<Object> leaseName, String owner) {
+
+		LEASES.computeIfPresent(leaseName, (name, currentLease) -> currentLease.isOwnedBy(owner) ? null : currentLease);
+
+		return true;
+	}
+
+	void purgeExpired(long now) {
+
+		long nextPurgeTime = NEXT_PURGE_TIME.get();
+
+		if (now >= nextPurgeTime && NEXT_PURGE_TIME.compareAndSet(nextPurgeTime, now + PURGE_INTERVAL)) {
+			LEASES.values().removeIf(lease -> lease.isExpired(now));
+		}
+	}
+
+	int getLeaseCount() {
+		return LEASES.size();
+	}
+
+	private static final class Lease {
+
+		private final long expiresAt;
+
+		private final String owner;
+
+		private Lease(String owner, long expiresAt) {
+			this.owner = owner;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now >= this.expiresAt;
+		}
+
+		boolean isOwnedBy(String owner) {
+			return this.owner.equals(owner);
+		}
+	}
+}
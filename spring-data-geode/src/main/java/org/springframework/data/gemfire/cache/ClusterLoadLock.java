@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.util.RegionUtils;
+
+/**
+ * Cluster-wide lock ensuring only one member loads the value for a missing key in a {@link Region}
+ * while all other members wait for the value to appear in the {@link Region}.
+ *
+ * A lock is leased; if the member holding the lock does not release it before the lease expires,
+ * the lock is released automatically so that another member can load the value.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.cache.DistributedLockServiceClusterLoadLock
+ * @see org.springframework.data.gemfire.cache.FunctionClusterLoadLock
+ * @since 2.3.0
+ */
+public interface ClusterLoadLock {
+
+	/**
+	 * Factory method used to construct a {@link ClusterLoadLock} suitable for the given {@link Region}.
+	 *
+	 * A {@literal client} {@link Region} acquires locks from the servers using the {@link ClusterLoadLeaseFunction},
+	 * while a {@literal peer} {@link Region} uses a {@link org.apache.geode.distributed.DistributedLockService}.
+	 *
+	 * @param region {@link Region} for which values are loaded.
+	 * @return a new {@link ClusterLoadLock} for the given {@link Region}.
+	 * @see org.springframework.data.gemfire.util.RegionUtils#isClient(Region)
+	 */
+	static ClusterLoadLock from(Region<?, ?> region) {
+
+		return RegionUtils.isClient(region)
+			? new FunctionClusterLoadLock(region)
+			: new DistributedLockServiceClusterLoadLock(region);
+	}
+
+	/**
+	 * Attempts to acquire the lock for loading the value of the given key without waiting.
+	 *
+	 * @param key key of the value to load.
+	 * @param leaseTime time, in milliseconds, after which the lock is released automatically.
+	 * @return a boolean value indicating whether the lock was acquired.
+	 */
+	boolean tryLock(Object key, long leaseTime);
+
+	/**
+	 * Releases the lock for loading the value of the given key.
+	 *
+	 * @param key key of the loaded value.
+	 */
+	void unlock(Object key);
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.Arrays;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.distributed.LeaseExpiredException;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ClusterLoadLock} implementation for {@literal peer} {@link Region Regions} backed by
+ * a {@link DistributedLockService}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.distributed.DistributedLockService
+ * @see org.springframework.data.gemfire.cache.ClusterLoadLock
+ * @since 2.3.0
+ */
+public class DistributedLockServiceClusterLoadLock implements ClusterLoadLock {
+
+	public static final String DEFAULT_LOCK_SERVICE_NAME = "SpringDataGemFireCacheLoadLockService";
+
+	private final Region<?, ?> region;
+
+	private final String lockServiceName;
+
+	/**
+	 * Constructs a new instance of {@link DistributedLockServiceClusterLoadLock} using
+	 * the {@link #DEFAULT_LOCK_SERVICE_NAME default lock service}.
+	 *
+	 * @param region {@literal peer} {@link Region} for which values are loaded.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 */
+	public DistributedLockServiceClusterLoadLock(Region<?, ?> region) {
+		this(region, DEFAULT_LOCK_SERVICE_NAME);
+	}
+
+	/**
+	 * Constructs a new instance of {@link DistributedLockServiceClusterLoadLock}.
+	 *
+	 * @param region {@literal peer} {@link Region} for which values are loaded.
+	 * @param lockServiceName {@link String name} of the {@link DistributedLockService}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null} or the lock service name is not set.
+	 */
+	public DistributedLockServiceClusterLoadLock(Region<?, ?> region, String lockServiceName) {
+
+		Assert.notNull(region, "Region must not be null");
+		Assert.hasText(lockServiceName, "Lock service name must be specified");
+
+		this.region = region;
+		this.lockServiceName = lockServiceName;
+	}
+
+	/**
+	 * Returns the {@link DistributedLockService} used to acquire locks, creating it on first use.
+	 *
+	 * @return the {@link DistributedLockService} used to acquire locks.
+	 * @throws IllegalStateException if the {@link Region} is not a {@literal peer} {@link Region}.
+	 */
+	protected DistributedLockService getLockService() {
+
+		DistributedLockService lockService = DistributedLockService.getServiceNamed(this.lockServiceName);
+
+		if (lockService == null) {
+			synchronized (DistributedLockServiceClusterLoadLock.class) {
+
+				lockService = DistributedLockService.getServiceNamed(this.lockServiceName);
+
+				if (lockService == null) {
+
+					RegionService regionService = this.region.getRegionService();
+
+					Assert.state(regionService instanceof Cache,
+						String.format("Region [%s] must be a peer Region", this.region.getFullPath()));
+
+					lockService = DistributedLockService.create(this.lockServiceName,
+						((Cache) regionService).getDistributedSystem());
+				}
+			}
+		}
+
+		return lockService;
+	}
+
+	private Object lockName(Object key) {
+		return Arrays.asList(this.region.getFullPath(), key);
+	}
+
+	@Override
+	public boolean tryLock(Object key, long leaseTime) {
+		return getLockService().lock(lockName(key), 0L, leaseTime);
+	}
+
+	@Override
+	public void unlock(Object key) {
+
+		try {
+			getLockService().unlock(lockName(key));
+		}
+		catch (LeaseExpiredException ignore) {
+			// the lock was already released when the lease expired
+		}
+	}
+}
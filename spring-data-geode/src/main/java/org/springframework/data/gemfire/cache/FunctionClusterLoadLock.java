@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ClusterLoadLock} implementation for {@literal client} {@link Region Regions} acquiring leases
+ * from the servers by executing the {@link ClusterLoadLeaseFunction}.
+ *
+ * Exclusion is only guaranteed when the {@link Region} is partitioned on the servers, where the lease for a key
+ * is granted by the member hosting the primary bucket of the key.  For other {@link Region Regions}, acquiring
+ * a lease fails with a {@link org.apache.geode.cache.execute.FunctionException}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.data.gemfire.cache.ClusterLoadLeaseFunction
+ * @see org.springframework.data.gemfire.cache.ClusterLoadLock
+ * @since 2.3.0
+ */
+public class FunctionClusterLoadLock implements ClusterLoadLock {
+
+	private final Region<?, ?> region;
+
+	private final String owner = UUID.randomUUID().toString();
+
+	/**
+	 * Constructs a new instance of {@link FunctionClusterLoadLock}.
+	 *
+	 * @param region {@literal client} {@link Region} for which values are loaded.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 */
+	public FunctionClusterLoadLock(Region<?, ?> region) {
+
+		Assert.notNull(region, "Region must not be null");
+
+		this.region = region;
+	}
+
+	@Override
+	public boolean tryLock(Object key, long leaseTime) {
+		return execute(ClusterLoadLeaseFunction.ACQUIRE, key, leaseTime);
+	}
+
+	@Override
+	public void unlock(Object key) {
+		execute(ClusterLoadLeaseFunction.RELEASE, key, 0L);
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean execute(String action, Object key, long leaseTime) {
+
+		Execution execution = FunctionService.onRegion(this.region)
+			.withFilter(Collections.singleton(key))
+			.setArguments(new Object[] { action, key, this.owner, leaseTime });
+
+		Object result = execution.execute(ClusterLoadLeaseFunction.ID).getResult();
+
+		return result instanceof List
+			? ((List<Object>) result).stream().anyMatch(Boolean.TRUE::equals)
+			: Boolean.TRUE.equals(result);
+	}
+}
@@ -17,13 +17,39 @@
 
 package org.springframework.data.gemfire.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.CustomExpiry;
+import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.StatisticsDisabledException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 /**
@@ -37,8 +63,61 @@ import org.springframework.util.Assert;
  */
 public class GemfireCache implements Cache {
 
+	public static final int DEFAULT_EXECUTOR_POOL_SIZE = 8;
+	public static final int DEFAULT_REFRESH_CONCURRENCY = 4;
+
+	public static final long DEFAULT_LOAD_LEASE_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+	private static final long CLUSTER_LOAD_MINIMUM_POLL_INTERVAL = 5L;
+	private static final long CLUSTER_LOAD_MAXIMUM_POLL_INTERVAL = 1000L;
+
+	private static final long IDLE_THREAD_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
+	private volatile ClusterLoadLock clusterLoadLock;
+
+	private volatile double refreshAheadFactor = 0.0d;
+
+	private Executor executor;
+
+	private volatile long loadLeaseTimeout = DEFAULT_LOAD_LEASE_TIMEOUT;
+	private volatile long loadTimeout = 0L;
+
+	private final ConcurrentMap<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Object, Boolean> inFlightRefreshes = new ConcurrentHashMap<>();
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final GemfireCacheStatistics statistics = new GemfireCacheStatistics();
+
 	private final Region region;
 
+	private volatile Semaphore refreshPermits = new Semaphore(DEFAULT_REFRESH_CONCURRENCY);
+
+	/**
+	 * Constructs a new, bounded {@link ThreadPoolExecutor} used to access {@link Region Regions} asynchronously.
+	 *
+	 * The pool runs at most {@link #DEFAULT_EXECUTOR_POOL_SIZE} daemon {@link Thread Threads}, which terminate
+	 * after being idle for {@literal 60} seconds.
+	 *
+	 * @param threadNamePrefix {@link String} prefix of the names of the {@link Thread Threads} in the pool.
+	 * @return a new, bounded {@link ThreadPoolExecutor}.
+	 * @see java.util.concurrent.ThreadPoolExecutor
+	 */
+	static ThreadPoolExecutor newExecutor(String threadNamePrefix) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_EXECUTOR_POOL_SIZE, DEFAULT_EXECUTOR_POOL_SIZE,
+			IDLE_THREAD_TIMEOUT, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
 	/**
 	 * Wraps a GemFire {@link Region} in an instance of {@link GemfireCache} to adapt the GemFire {@link Region}
 	 * to function as a Spring {@link Cache} in Spring's caching infrastructure.
@@ -76,6 +155,207 @@ public class GemfireCache implements Cache {
 		return this.region;
 	}
 
+	/**
+	 * Sets the maximum time, in milliseconds, a caller waits on a value being loaded for the same key
+	 * by another caller in {@link #get(Object, Callable)}.
+	 *
+	 * Defaults to {@literal 0}, which waits until the load completes.
+	 *
+	 * @param loadTimeout maximum time, in milliseconds, to wait on an in-flight load.
+	 */
+	public void setLoadTimeout(long loadTimeout) {
+		this.loadTimeout = loadTimeout;
+	}
+
+	/**
+	 * Returns the maximum time, in milliseconds, a caller waits on a value being loaded by another caller.
+	 *
+	 * @return the maximum time, in milliseconds, a caller waits on a value being loaded by another caller.
+	 */
+	public long getLoadTimeout() {
+		return this.loadTimeout;
+	}
+
+	/**
+	 * Sets the {@link ClusterLoadLock} used to load the value for a missing key on only one member of the cluster
+	 * in {@link #get(Object, Callable)}, while all other members wait for the value to appear in the {@link Region}.
+	 *
+	 * When {@literal null}, the default, values are only loaded once per key by this member.
+	 *
+	 * @param clusterLoadLock {@link ClusterLoadLock} used to coordinate loads across the cluster.
+	 * @see org.springframework.data.gemfire.cache.ClusterLoadLock
+	 */
+	public void setClusterLoadLock(ClusterLoadLock clusterLoadLock) {
+		this.clusterLoadLock = clusterLoadLock;
+	}
+
+	/**
+	 * Returns the {@link ClusterLoadLock} used to coordinate loads across the cluster.
+	 *
+	 * @return the {@link ClusterLoadLock} used to coordinate loads across the cluster; may be {@literal null}.
+	 * @see org.springframework.data.gemfire.cache.ClusterLoadLock
+	 */
+	public ClusterLoadLock getClusterLoadLock() {
+		return this.clusterLoadLock;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to access the {@link Region} in {@link #retrieve(Object)}
+	 * and {@link #retrieve(Object, Supplier)} so the caller is never blocked, and to refresh entries ahead
+	 * of expiration.
+	 *
+	 * The {@link GemfireCacheManager} sets the {@link Executor} shared by all the caches it manages.  When not set,
+	 * this cache lazily creates its own bounded pool of daemon {@link Thread Threads}, which terminate when idle.
+	 *
+	 * @param executor {@link Executor} used to access the {@link Region} asynchronously.
+	 * @throws IllegalArgumentException if {@link Executor} is {@literal null}.
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheManager#setExecutor(Executor)
+	 */
+	public synchronized void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to access the {@link Region} asynchronously.
+	 *
+	 * @return the {@link Executor} used to access the {@link Region} asynchronously.
+	 */
+	protected synchronized Executor getExecutor() {
+
+		if (this.executor == null) {
+			this.executor = newExecutor(String.format("GemfireCache-%s-", getName()));
+		}
+
+		return this.executor;
+	}
+
+	/**
+	 * Sets the fraction of an entry's time-to-live (TTL) after which a hit in {@link #get(Object, Callable)}
+	 * reloads the value in the background, replacing the value in the {@link Region} before the entry expires.
+	 *
+	 * Refresh-ahead requires entry TTL expiration, configured with either {@link ExpirationAttributes}
+	 * or a {@link CustomExpiry} (e.g. by {@literal @EnableExpiration}), and statistics to be enabled on the {@link Region},
+	 * and the entry to be held locally (i.e. not a {@literal PROXY} {@literal client} {@link Region}).
+	 * Defaults to {@literal 0}, which disables refresh-ahead.
+	 *
+	 * @param refreshAheadFactor fraction of the TTL, greater than {@literal 0} and less than {@literal 1},
+	 * after which an entry is refreshed; {@literal 0} disables refresh-ahead.
+	 * @throws IllegalArgumentException if the factor is less than {@literal 0} or not less than {@literal 1}.
+	 */
+	public void setRefreshAheadFactor(double refreshAheadFactor) {
+
+		Assert.isTrue(refreshAheadFactor >= 0.0d && refreshAheadFactor < 1.0d,
+			String.format("Refresh-ahead factor [%s] must be greater than or equal to 0 and less than 1",
+				refreshAheadFactor));
+
+		this.refreshAheadFactor = refreshAheadFactor;
+	}
+
+	/**
+	 * Returns the fraction of an entry's time-to-live (TTL) after which the entry is refreshed.
+	 *
+	 * @return the fraction of an entry's time-to-live (TTL) after which the entry is refreshed.
+	 */
+	public double getRefreshAheadFactor() {
+		return this.refreshAheadFactor;
+	}
+
+	/**
+	 * Sets the maximum number of entries refreshed concurrently.  When reached, further refreshes are skipped.
+	 *
+	 * Defaults to {@literal 4}.
+	 *
+	 * @param refreshConcurrency maximum number of entries refreshed concurrently; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code refreshConcurrency} is less than {@literal 1}.
+	 * @see #setRefreshAheadFactor(double)
+	 */
+	public void setRefreshConcurrency(int refreshConcurrency) {
+
+		Assert.isTrue(refreshConcurrency > 0,
+			String.format("Refresh concurrency [%d] must be greater than 0", refreshConcurrency));
+
+		this.refreshPermits = new Semaphore(refreshConcurrency);
+	}
+
+	/**
+	 * Returns the number of entries refreshed ahead of expiration.
+	 *
+	 * @return the number of entries refreshed ahead of expiration.
+	 */
+	public long getRefreshCount() {
+		return getStatistics().getRefreshCount();
+	}
+
+	/**
+	 * Sets the lease time, in milliseconds, of the {@link ClusterLoadLock}.  Members waiting on the value
+	 * loaded by another member load the value themselves if it does not appear within the lease time.
+	 *
+	 * Defaults to {@literal 30} seconds.
+	 *
+	 * @param loadLeaseTimeout lease time, in milliseconds, of the {@link ClusterLoadLock}.
+	 */
+	public void setLoadLeaseTimeout(long loadLeaseTimeout) {
+		this.loadLeaseTimeout = loadLeaseTimeout;
+	}
+
+	/**
+	 * Returns the lease time, in milliseconds, of the {@link ClusterLoadLock}.
+	 *
+	 * @return the lease time, in milliseconds, of the {@link ClusterLoadLock}.
+	 */
+	public long getLoadLeaseTimeout() {
+		return this.loadLeaseTimeout;
+	}
+
+	/**
+	 * Returns the {@link GemfireCacheStatistics} of this cache.
+	 *
+	 * @return the {@link GemfireCacheStatistics} of this cache.
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+	 */
+	public GemfireCacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Returns the number of values loaded with a {@link Callable} {@code valueLoader}, including failed loads.
+	 *
+	 * @return the number of values loaded with a {@link Callable} {@code valueLoader}.
+	 */
+	public long getLoadCount() {
+		return getStatistics().getLoadCount();
+	}
+
+	/**
+	 * Returns the number of value loads that threw an {@link Exception}.
+	 *
+	 * @return the number of value loads that threw an {@link Exception}.
+	 */
+	public long getLoadFailureCount() {
+		return getStatistics().getLoadFailureCount();
+	}
+
+	/**
+	 * Returns the total time, in nanoseconds, spent loading values.
+	 *
+	 * @return the total time, in nanoseconds, spent loading values.
+	 */
+	public long getTotalLoadTime() {
+		return getStatistics().getLoadLatency().getTotalTime();
+	}
+
+	/**
+	 * Returns the average time, in nanoseconds, spent loading a value.
+	 *
+	 * @return the average time, in nanoseconds, spent loading a value; {@literal 0} if no value was loaded.
+	 */
+	public long getAverageLoadTime() {
+		return getStatistics().getLoadLatency().getMean();
+	}
+
 	/**
 	 * Returns the name of this Spring {@link Cache}.
 	 *
@@ -103,6 +383,7 @@ public class GemfireCache implements Cache {
 	 */
 	public void evict(Object key) {
 		getNativeCache().remove(key);
+		getStatistics().recordEviction();
 	}
 
 	/**
@@ -115,7 +396,7 @@ public class GemfireCache implements Cache {
 	 * @see org.apache.geode.cache.Region#get(Object)
 	 */
 	public ValueWrapper get(Object key) {
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
 
 		return (value != null ? new SimpleValueWrapper(value) : null);
 	}
@@ -132,7 +413,7 @@ public class GemfireCache implements Cache {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Class<T> type) {
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
 
 		if (value != null && type != null && !type.isInstance(value)) {
 			throw new IllegalStateException(String.format(
@@ -143,11 +424,26 @@ public class GemfireCache implements Cache {
 		return (T) value;
 	}
 
+	private Object lookup(Object key) {
+
+		long startTime = System.nanoTime();
+
+		Object value = getNativeCache().get(key);
+
+		getStatistics().recordGet(value != null, System.nanoTime() - startTime);
+
+		return value;
+	}
+
 	/**
 	 * Returns the cache value for given key.  If the value is {@literal null}, then the provided
 	 * {@link Callable} {@code valueLoader} will be called to obtain a value and add the entry
 	 * to this cache.
 	 *
+	 * Concurrent callers for the same key share a single load; loads for different keys run in parallel.
+	 * Callers waiting on another caller's load give up after the {@link #getLoadTimeout() load timeout}.
+	 * If a {@link ClusterLoadLock} is configured, then only one member of the cluster loads the value.
+	 *
 	 * @param <T> {@link Class} type of the value.
 	 * @param key key identifying the the value to retrieve from the cache.
 	 * @param valueLoader {@link Callable} object used to load a value if the entry identified by the key
@@ -155,7 +451,8 @@ public class GemfireCache implements Cache {
 	 * @return the cache value of the given key or a value obtained by calling the {@link Callable} object
 	 * if the value for key is {@literal null}.
 	 * @throws org.springframework.cache.Cache.ValueRetrievalException if an error occurs while trying to
-	 * load a value for given key using the {@link Callable}.
+	 * load a value for given key using the {@link Callable}, or waiting on the value loaded by another caller
+	 * timed out or was interrupted.
 	 * @see #get(Object, Class)
 	 */
 	@SuppressWarnings("unchecked")
@@ -163,22 +460,444 @@ public class GemfireCache implements Cache {
 		T value = (T) get(key, Object.class);
 
 		if (value == null) {
-			synchronized (getNativeCache()) {
-				value = (T) get(key, Object.class);
 
-				if (value == null) {
-					try {
-						value = valueLoader.call();
-						put(key, value);
+			CompletableFuture<Object> load = new CompletableFuture<>();
+			CompletableFuture<Object> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+			value = inFlightLoad != null
+				? (T) awaitLoad(key, valueLoader, inFlightLoad)
+				: (T) load(key, valueLoader, load);
+		}
+		else if (getRefreshAheadFactor() > 0.0d) {
+			refreshAheadIfNecessary(key, valueLoader);
+		}
+
+		return value;
+	}
+
+	private void refreshAheadIfNecessary(Object key, Callable<?> valueLoader) {
+
+		Region.Entry<?, ?> entry = getNativeCache().getEntry(key);
+
+		long timeToLive = resolveTimeToLive(entry);
+
+		if (timeToLive > 0 && resolveAge(entry) >= (long) (timeToLive * getRefreshAheadFactor())
+				&& this.inFlightRefreshes.putIfAbsent(key, Boolean.TRUE) == null) {
+
+			Semaphore refreshPermits = this.refreshPermits;
+
+			if (refreshPermits.tryAcquire()) {
+				try {
+					getExecutor().execute(() -> refresh(key, valueLoader, refreshPermits));
+				}
+				catch (RejectedExecutionException cause) {
+					refreshPermits.release();
+					this.inFlightRefreshes.remove(key);
+				}
+			}
+			else {
+				this.inFlightRefreshes.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Resolves the time-to-live (TTL) of the entry, in milliseconds, from the {@link CustomExpiry} for entry TTL
+	 * of the {@link Region}, falling back to the entry TTL {@link ExpirationAttributes} of the {@link Region}
+	 * when there is no {@link CustomExpiry} or it returns {@literal null} for the entry, as GemFire/Geode does.
+	 */
+	@SuppressWarnings("unchecked")
+	private long resolveTimeToLive(Region.Entry<?, ?> entry) {
+
+		RegionAttributes<Object, Object> attributes = getNativeCache().getAttributes();
+
+		if (attributes == null || entry == null) {
+			return 0L;
+		}
+
+		CustomExpiry<Object, Object> customEntryTimeToLive = attributes.getCustomEntryTimeToLive();
+
+		ExpirationAttributes entryTimeToLive = customEntryTimeToLive != null
+			? customEntryTimeToLive.getExpiry((Region.Entry<Object, Object>) entry)
+			: null;
+
+		entryTimeToLive = entryTimeToLive != null ? entryTimeToLive : attributes.getEntryTimeToLive();
+
+		return entryTimeToLive != null ? TimeUnit.SECONDS.toMillis(entryTimeToLive.getTimeout()) : 0L;
+	}
+
+	private long resolveAge(Region.Entry<?, ?> entry) {
+
+		try {
+			CacheStatistics statistics = entry != null ? entry.getStatistics() : null;
+
+			return statistics != null ? System.currentTimeMillis() - statistics.getLastModifiedTime() : -1L;
+		}
+		catch (StatisticsDisabledException ignore) {
+			return -1L;
+		}
+	}
+
+	private void refresh(Object key, Callable<?> valueLoader, Semaphore refreshPermits) {
+
+		try {
+			loadValue(key, valueLoader);
+			getStatistics().recordRefresh();
+		}
+		catch (RuntimeException cause) {
+			logger.warn(String.format("Failed to refresh the value for key [%s] in cache [%s]", key, getName()),
+				cause);
+		}
+		finally {
+			refreshPermits.release();
+			this.inFlightRefreshes.remove(key);
+		}
+	}
+
+	private Object load(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+
+		try {
+			Object value = getNativeCache().get(key);
+
+			if (value == null) {
+				value = getClusterLoadLock() != null
+					? loadClusterWide(key, valueLoader)
+					: loadValue(key, valueLoader);
+			}
+
+			load.complete(value);
+
+			return value;
+		}
+		catch (Throwable cause) {
+			// complete the shared load even on an Error so callers waiting on it are never left blocked
+			load.completeExceptionally(cause);
+			throw cause;
+		}
+		finally {
+			this.inFlightLoads.remove(key, load);
+		}
+	}
+
+	private Object loadValue(Object key, Callable<?> valueLoader) {
+
+		boolean success = false;
+
+		long startTime = System.nanoTime();
+
+		try {
+			Object value = valueLoader.call();
+			success = true;
+			put(key, value);
+			return value;
+		}
+		catch (Exception cause) {
+			throw new ValueRetrievalException(key, valueLoader, cause);
+		}
+		finally {
+			getStatistics().recordLoad(success, System.nanoTime() - startTime);
+		}
+	}
+
+	private Object loadClusterWide(Object key, Callable<?> valueLoader) {
+
+		ClusterLoadLock clusterLoadLock = getClusterLoadLock();
+
+		long leaseTimeout = getLoadLeaseTimeout();
+
+		boolean locked;
+
+		try {
+			locked = clusterLoadLock.tryLock(key, leaseTimeout);
+		}
+		catch (RuntimeException ignore) {
+			// the cluster lock is unavailable (e.g. the lease Function is not registered); load locally
+			return loadValue(key, valueLoader);
+		}
+
+		if (locked) {
+			try {
+				Object value = getNativeCache().get(key);
+
+				return value != null ? value : loadValue(key, valueLoader);
+			}
+			finally {
+				try {
+					clusterLoadLock.unlock(key);
+				}
+				catch (RuntimeException ignore) {
+					// the lease expires on its own
+				}
+			}
+		}
+
+		Object value = awaitValue(key, valueLoader, leaseTimeout);
+
+		return value != null ? value : loadValue(key, valueLoader);
+	}
+
+	private Object awaitValue(Object key, Callable<?> valueLoader, long timeout) {
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+		long pollInterval = CLUSTER_LOAD_MINIMUM_POLL_INTERVAL;
+
+		Object value = getNativeCache().get(key);
+
+		while (value == null && System.nanoTime() < deadline) {
+			try {
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+				Thread.sleep(Math.max(1L, Math.min(pollInterval, remaining)));
+
+				pollInterval = Math.min(pollInterval * 2, CLUSTER_LOAD_MAXIMUM_POLL_INTERVAL);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new ValueRetrievalException(key, valueLoader, cause);
+			}
+
+			value = getNativeCache().get(key);
+		}
+
+		return value;
+	}
+
+	private Object awaitLoad(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlightLoad) {
+
+		try {
+			long loadTimeout = getLoadTimeout();
+
+			return loadTimeout > 0
+				? inFlightLoad.get(loadTimeout, TimeUnit.MILLISECONDS)
+				: inFlightLoad.get();
+		}
+		catch (ExecutionException cause) {
+
+			Throwable loadFailure = cause.getCause();
+
+			throw loadFailure instanceof ValueRetrievalException
+				? (ValueRetrievalException) loadFailure
+				: new ValueRetrievalException(key, valueLoader, loadFailure);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new ValueRetrievalException(key, valueLoader, cause);
+		}
+		catch (TimeoutException cause) {
+			throw new ValueRetrievalException(key, valueLoader, cause);
+		}
+	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key.
+	 *
+	 * Implementation of {@literal Cache#retrieve(Object)} satisfying the extension of the {@link Cache} interface
+	 * in Spring 6.1.  This method only takes effect on Spring 6.1 or later, where Spring's caching infrastructure
+	 * calls it for asynchronous cache operations; on Spring 5.2, nothing calls it unless invoked directly.
+	 * Don't add the {@link Override} annotation otherwise this will break the compilation on 5.2.
+	 *
+	 * @param key key identifying the the value to retrieve from the cache.
+	 * @return a {@link CompletableFuture} completed with the cache value for the given key,
+	 * or {@literal null} if the key is not present.
+	 * @see #setExecutor(Executor)
+	 */
+	public CompletableFuture<?> retrieve(Object key) {
+		return CompletableFuture.supplyAsync(() -> get(key, Object.class), getExecutor());
+	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key.  If the key is not present, then the value is obtained
+	 * from the {@link CompletableFuture} returned by the {@link Supplier} {@code valueLoader} and added to this cache.
+	 *
+	 * Concurrent callers for the same key share a single load, including callers of {@link #get(Object, Callable)}.
+	 *
+	 * Implementation of {@literal Cache#retrieve(Object, Supplier)} satisfying the extension of the {@link Cache}
+	 * interface in Spring 6.1.  This method only takes effect on Spring 6.1 or later, where Spring's caching
+	 * infrastructure calls it for asynchronous cache operations; on Spring 5.2, nothing calls it unless invoked
+	 * directly.  Don't add the {@link Override} annotation otherwise this will break the compilation on 5.2.
+	 *
+	 * @param <T> {@link Class} type of the value.
+	 * @param key key identifying the the value to retrieve from the cache.
+	 * @param valueLoader {@link Supplier} of a {@link CompletableFuture} used to load a value if the key is not present.
+	 * @return a {@link CompletableFuture} completed with the cache value for the given key or the loaded value.
+	 * @see #setExecutor(Executor)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		return CompletableFuture.supplyAsync(() -> get(key, Object.class), getExecutor())
+			.thenCompose(value -> value != null
+				? CompletableFuture.completedFuture(value)
+				: loadAsync(key, valueLoader))
+			.thenApply(value -> (T) value);
+	}
+
+	private CompletableFuture<Object> loadAsync(Object key, Supplier<? extends CompletableFuture<?>> valueLoader) {
+
+		CompletableFuture<Object> load = new CompletableFuture<>();
+		CompletableFuture<Object> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+		if (inFlightLoad != null) {
+			return inFlightLoad;
+		}
+
+		long startTime = System.nanoTime();
+
+		try {
+			valueLoader.get().whenCompleteAsync((value, cause) -> {
+
+				getStatistics().recordLoad(cause == null, System.nanoTime() - startTime);
+
+				try {
+					if (cause != null) {
+						load.completeExceptionally(cause);
 					}
-					catch (Exception e) {
-						throw new ValueRetrievalException(key, valueLoader, e);
+					else {
+						put(key, value);
+						load.complete(value);
 					}
 				}
+				catch (Throwable putFailure) {
+					load.completeExceptionally(putFailure);
+				}
+				finally {
+					this.inFlightLoads.remove(key, load);
+				}
+			}, getExecutor());
+		}
+		catch (Throwable cause) {
+			// complete the load even on an Error so later callers for the key never wait on an abandoned load
+			getStatistics().recordLoad(false, System.nanoTime() - startTime);
+			load.completeExceptionally(cause);
+			this.inFlightLoads.remove(key, load);
+		}
+
+		return load;
+	}
+
+	/**
+	 * Returns the cache values for the given keys with a single {@link Region#getAll(Collection)} call.
+	 *
+	 * @param keys {@link Collection} of keys identifying the values to retrieve from the cache.
+	 * @return a {@link Map} of the keys present in the cache to their values.
+	 * @see org.apache.geode.cache.Region#getAll(Collection)
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<Object, Object> getAll(Collection<?> keys) {
+
+		Map<Object, Object> values = new LinkedHashMap<>();
+
+		if (keys != null && !keys.isEmpty()) {
+
+			long startTime = System.nanoTime();
+
+			Map<Object, Object> regionValues = getNativeCache().getAll(keys);
+
+			if (regionValues != null) {
+				regionValues.forEach((key, value) -> {
+					if (value != null) {
+						values.put(key, value);
+					}
+				});
 			}
+
+			getStatistics().recordGetAll(values.size(), keys.size() - values.size(), System.nanoTime() - startTime);
 		}
 
-		return value;
+		return values;
+	}
+
+	/**
+	 * Returns the cache values for the given keys.  The values of keys not present in the cache are obtained
+	 * by calling the {@code valueLoader} once with all the missing keys, and are added to this cache
+	 * with a single {@link Region#putAll(Map)} call.
+	 *
+	 * @param <K> {@link Class} type of the keys.
+	 * @param <V> {@link Class} type of the values.
+	 * @param keys {@link Collection} of keys identifying the values to retrieve from the cache.
+	 * @param valueLoader {@link Function} loading the values of the missing keys.
+	 * @return a {@link Map} of the keys to their values, in the iteration order of the given keys; keys for which
+	 * no value is cached or loaded are absent.
+	 * @throws org.springframework.cache.Cache.ValueRetrievalException if the {@code valueLoader} fails.
+	 * @see #getAll(Collection)
+	 * @see #putAll(Map)
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V> Map<K, V> getAll(Collection<K> keys,
+			Function<Collection<K>, Map<K, V>> valueLoader) {
+
+		Map<Object, Object> cachedValues = getAll(keys);
+
+		Collection<K> missingKeys = new ArrayList<>();
+
+		for (K key : keys) {
+			if (!cachedValues.containsKey(key)) {
+				missingKeys.add(key);
+			}
+		}
+
+		if (!missingKeys.isEmpty()) {
+
+			Map<K, V> loadedValues = null;
+
+			long startTime = System.nanoTime();
+
+			try {
+				loadedValues = valueLoader.apply(missingKeys);
+			}
+			catch (RuntimeException cause) {
+				throw new ValueRetrievalException(missingKeys, null, cause);
+			}
+			finally {
+				getStatistics().recordLoad(loadedValues != null, System.nanoTime() - startTime);
+			}
+
+			if (loadedValues != null) {
+				putAll(loadedValues);
+				cachedValues.putAll(loadedValues);
+			}
+		}
+
+		Map<K, V> values = new LinkedHashMap<>();
+
+		for (K key : keys) {
+
+			Object value = cachedValues.get(key);
+
+			if (value != null) {
+				values.put(key, (V) value);
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Stores the given entries in the cache with a single {@link Region#putAll(Map)} call.  Entries with
+	 * a {@literal null} value are not stored.
+	 *
+	 * @param entries {@link Map} of entries to store in the cache.
+	 * @see org.apache.geode.cache.Region#putAll(Map)
+	 */
+	@SuppressWarnings("unchecked")
+	public void putAll(Map<?, ?> entries) {
+
+		if (entries != null && !entries.isEmpty()) {
+
+			Map<Object, Object> nonNullEntries = new LinkedHashMap<>();
+
+			entries.forEach((key, value) -> {
+				if (value != null) {
+					nonNullEntries.put(key, value);
+				}
+			});
+
+			if (!nonNullEntries.isEmpty()) {
+				getNativeCache().putAll(nonNullEntries);
+				getStatistics().recordPuts(nonNullEntries.size());
+			}
+		}
 	}
 
 	/**
@@ -193,6 +912,7 @@ public class GemfireCache implements Cache {
 	public void put(Object key, Object value) {
 		if (value != null) {
 			getNativeCache().put(key, value);
+			getStatistics().recordPut();
 		}
 	}
 
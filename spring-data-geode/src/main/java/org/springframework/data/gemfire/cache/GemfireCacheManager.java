@@ -18,13 +18,19 @@
 package org.springframework.data.gemfire.cache;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.AbstractCacheManager;
@@ -37,20 +43,37 @@ import org.springframework.util.Assert;
  * Automatically discovers available caches (or GemFire {@link Region Regions}) when a cache for a given name
  * is missing and dynamic cache lookup/creation is enabled.
  *
+ * The {@link GemfireCache GemfireCaches} share one {@link Executor} for asynchronous retrieval and refresh-ahead.
+ * Unless an {@link Executor} is {@link #setExecutor(Executor) set}, this {@link CacheManager} creates a bounded pool,
+ * which is shut down when this {@link CacheManager} is destroyed.
+ *
  * @author Costin Leau
  * @author David Turanski
  * @author John Blum
  * @see org.springframework.cache.Cache
  * @see org.springframework.cache.CacheManager
+ * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.cache.support.AbstractCacheManager
  * @see org.apache.geode.cache.GemFireCache
  * @see org.apache.geode.cache.Region
  */
 @SuppressWarnings("unused")
-public class GemfireCacheManager extends AbstractCacheManager {
+public class GemfireCacheManager extends AbstractCacheManager implements DisposableBean {
 
 	private final AtomicBoolean dynamic = new AtomicBoolean(true);
 
+	private boolean clusterWideLoading = false;
+
+	private double refreshAheadFactor = 0.0d;
+
+	private int refreshConcurrency = GemfireCache.DEFAULT_REFRESH_CONCURRENCY;
+
+	private long loadLeaseTimeout = GemfireCache.DEFAULT_LOAD_LEASE_TIMEOUT;
+
+	private Executor executor;
+
+	private ExecutorService defaultExecutor;
+
 	private org.apache.geode.cache.GemFireCache gemfireCache;
 
 	private Set<Region<?, ?>> regions;
@@ -146,7 +169,29 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	 * @see org.apache.geode.cache.Region
 	 */
 	protected GemfireCache newGemfireCache(Region<?, ?> region) {
-		return GemfireCache.wrap(region);
+		return configure(GemfireCache.wrap(region));
+	}
+
+	/**
+	 * Applies the cache loading configuration of this {@link CacheManager} to the given {@link GemfireCache}.
+	 *
+	 * @param <T> {@link Class sub-type} of {@link GemfireCache}.
+	 * @param gemfireCache {@link GemfireCache} to configure.
+	 * @return the given {@link GemfireCache}.
+	 * @see #setClusterWideLoading(boolean)
+	 */
+	protected <T extends GemfireCache> T configure(T gemfireCache) {
+
+		if (isClusterWideLoading()) {
+			gemfireCache.setClusterLoadLock(ClusterLoadLock.from(gemfireCache.getNativeCache()));
+			gemfireCache.setLoadLeaseTimeout(getLoadLeaseTimeout());
+		}
+
+		gemfireCache.setExecutor(getExecutor());
+		gemfireCache.setRefreshAheadFactor(getRefreshAheadFactor());
+		gemfireCache.setRefreshConcurrency(getRefreshConcurrency());
+
+		return gemfireCache;
 	}
 
 	/* (non-Javadoc) */
@@ -184,6 +229,20 @@ public class GemfireCacheManager extends AbstractCacheManager {
 		return dynamic.get();
 	}
 
+	/**
+	 * Shuts down the bounded pool created by this {@link CacheManager} when no {@link Executor} was set.
+	 *
+	 * @see #setExecutor(Executor)
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		if (this.defaultExecutor != null) {
+			this.defaultExecutor.shutdown();
+			this.defaultExecutor = null;
+		}
+	}
+
 	/**
 	 * Sets the GemFire cache instance backing this {@link CacheManager}.
 	 *
@@ -210,6 +269,147 @@ public class GemfireCacheManager extends AbstractCacheManager {
 		return this.gemfireCache;
 	}
 
+	/**
+	 * Returns the {@link GemfireCacheStatistics} of each {@link GemfireCache} managed by this {@link CacheManager},
+	 * keyed by cache name.
+	 *
+	 * @return a {@link Map} of cache name to {@link GemfireCacheStatistics}.
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+	 */
+	public Map<String, GemfireCacheStatistics> getCacheStatistics() {
+
+		Map<String, GemfireCacheStatistics> cacheStatistics = new TreeMap<>();
+
+		for (String cacheName : getCacheNames()) {
+
+			Cache cache = lookupCache(cacheName);
+
+			if (cache instanceof GemfireCache) {
+				cacheStatistics.put(cacheName, ((GemfireCache) cache).getStatistics());
+			}
+		}
+
+		return Collections.unmodifiableMap(cacheStatistics);
+	}
+
+	/**
+	 * Sets the {@link Executor} shared by the {@link GemfireCache GemfireCaches} managed by this {@link CacheManager}
+	 * to retrieve values asynchronously and to refresh entries ahead of expiration.
+	 *
+	 * The {@link Executor} is not shut down by this {@link CacheManager}.  When not set, this {@link CacheManager}
+	 * creates a pool of at most {@link GemfireCache#DEFAULT_EXECUTOR_POOL_SIZE} daemon {@link Thread Threads},
+	 * which is shut down when this {@link CacheManager} is {@link #destroy() destroyed}.
+	 *
+	 * @param executor {@link Executor} shared by the managed {@link GemfireCache GemfireCaches}.
+	 * @throws IllegalArgumentException if {@link Executor} is {@literal null}.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setExecutor(Executor)
+	 */
+	public synchronized void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} shared by the {@link GemfireCache GemfireCaches} managed by this {@link CacheManager}.
+	 *
+	 * @return the {@link Executor} shared by the managed {@link GemfireCache GemfireCaches}.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected synchronized Executor getExecutor() {
+
+		if (this.executor == null) {
+			this.defaultExecutor = GemfireCache.newExecutor("GemfireCacheManager-");
+			this.executor = this.defaultExecutor;
+		}
+
+		return this.executor;
+	}
+
+	/**
+	 * Sets whether a value for a missing key is loaded by only one member of the cluster, while all other members
+	 * wait for the value to appear in the {@link Region}.
+	 *
+	 * {@literal Peer} caches coordinate using a {@link org.apache.geode.distributed.DistributedLockService}.
+	 * {@literal Client} caches coordinate using the {@link ClusterLoadLeaseFunction}, which must be registered
+	 * on the servers.  Defaults to {@literal false}.
+	 *
+	 * @param clusterWideLoading boolean value indicating whether values are loaded once across the cluster.
+	 * @see org.springframework.data.gemfire.cache.ClusterLoadLock
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setClusterLoadLock(ClusterLoadLock)
+	 */
+	public void setClusterWideLoading(boolean clusterWideLoading) {
+		this.clusterWideLoading = clusterWideLoading;
+	}
+
+	/**
+	 * Determines whether a value for a missing key is loaded by only one member of the cluster.
+	 *
+	 * @return a boolean value indicating whether values are loaded once across the cluster.
+	 */
+	protected boolean isClusterWideLoading() {
+		return this.clusterWideLoading;
+	}
+
+	/**
+	 * Sets the lease time, in milliseconds, of the {@link ClusterLoadLock} when cluster-wide loading is enabled.
+	 *
+	 * @param loadLeaseTimeout lease time, in milliseconds, of the {@link ClusterLoadLock}.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setLoadLeaseTimeout(long)
+	 */
+	public void setLoadLeaseTimeout(long loadLeaseTimeout) {
+		this.loadLeaseTimeout = loadLeaseTimeout;
+	}
+
+	/**
+	 * Returns the lease time, in milliseconds, of the {@link ClusterLoadLock}.
+	 *
+	 * @return the lease time, in milliseconds, of the {@link ClusterLoadLock}.
+	 */
+	protected long getLoadLeaseTimeout() {
+		return this.loadLeaseTimeout;
+	}
+
+	/**
+	 * Sets the fraction of an entry's time-to-live (TTL) after which a cache hit refreshes the entry
+	 * in the background.  Defaults to {@literal 0}, which disables refresh-ahead.
+	 *
+	 * @param refreshAheadFactor fraction of the TTL after which an entry is refreshed.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshAheadFactor(double)
+	 */
+	public void setRefreshAheadFactor(double refreshAheadFactor) {
+		this.refreshAheadFactor = refreshAheadFactor;
+	}
+
+	/**
+	 * Returns the fraction of an entry's time-to-live (TTL) after which the entry is refreshed.
+	 *
+	 * @return the fraction of an entry's time-to-live (TTL) after which the entry is refreshed.
+	 */
+	protected double getRefreshAheadFactor() {
+		return this.refreshAheadFactor;
+	}
+
+	/**
+	 * Sets the maximum number of entries refreshed concurrently by each cache.
+	 *
+	 * @param refreshConcurrency maximum number of entries refreshed concurrently by each cache.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshConcurrency(int)
+	 */
+	public void setRefreshConcurrency(int refreshConcurrency) {
+		this.refreshConcurrency = refreshConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of entries refreshed concurrently by each cache.
+	 *
+	 * @return the maximum number of entries refreshed concurrently by each cache.
+	 */
+	protected int getRefreshConcurrency() {
+		return this.refreshConcurrency;
+	}
+
 	/**
 	 * Sets the names of all Spring {@link Cache Caches} that will be used in the application.
 	 *
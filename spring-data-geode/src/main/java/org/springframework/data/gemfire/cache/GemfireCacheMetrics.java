@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Micrometer {@link MeterBinder} publishing the {@link GemfireCacheStatistics} of the caches
+ * managed by a {@link GemfireCacheManager} to a {@link MeterRegistry}.
+ *
+ * Only the caches known to the {@link GemfireCacheManager} when {@link #bindTo(MeterRegistry)} is called
+ * are published.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager#getCacheStatistics()
+ * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+ * @since 2.3.0
+ */
+public class GemfireCacheMetrics implements MeterBinder {
+
+	private final GemfireCacheManager cacheManager;
+
+	/**
+	 * Constructs a new instance of {@link GemfireCacheMetrics}.
+	 *
+	 * @param cacheManager {@link GemfireCacheManager} managing the caches to publish.
+	 * @throws IllegalArgumentException if {@link GemfireCacheManager} is {@literal null}.
+	 */
+	public GemfireCacheMetrics(GemfireCacheManager cacheManager) {
+
+		Assert.notNull(cacheManager, "GemfireCacheManager must not be null");
+
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		for (Map.Entry<String, GemfireCacheStatistics> entry : this.cacheManager.getCacheStatistics().entrySet()) {
+
+			Tags tags = Tags.of("cache", entry.getKey());
+
+			GemfireCacheStatistics statistics = entry.getValue();
+
+			FunctionCounter.builder("cache.gets", statistics, GemfireCacheStatistics::getHitCount)
+				.tags(tags).tag("result", "hit").register(registry);
+
+			FunctionCounter.builder("cache.gets", statistics, GemfireCacheStatistics::getMissCount)
+				.tags(tags).tag("result", "miss").register(registry);
+
+			FunctionCounter.builder("cache.puts", statistics, GemfireCacheStatistics::getPutCount)
+				.tags(tags).register(registry);
+
+			FunctionCounter.builder("cache.evictions", statistics, GemfireCacheStatistics::getEvictionCount)
+				.tags(tags).register(registry);
+
+			FunctionCounter.builder("cache.load.failures", statistics, GemfireCacheStatistics::getLoadFailureCount)
+				.tags(tags).register(registry);
+
+			FunctionCounter.builder("cache.refreshes", statistics, GemfireCacheStatistics::getRefreshCount)
+				.tags(tags).register(registry);
+
+			FunctionTimer.builder("cache.loads", statistics.getLoadLatency(), LatencyHistogram::getCount,
+				LatencyHistogram::getTotalTime, TimeUnit.NANOSECONDS).tags(tags).register(registry);
+
+			Gauge.builder("cache.get.latency.p99", statistics.getGetLatency(),
+				histogram -> histogram.getPercentile(0.99d) / 1_000_000.0d)
+				.tags(tags).baseUnit("milliseconds").register(registry);
+
+			Gauge.builder("cache.load.latency.p99", statistics.getLoadLatency(),
+				histogram -> histogram.getPercentile(0.99d) / 1_000_000.0d)
+				.tags(tags).baseUnit("milliseconds").register(registry);
+		}
+	}
+}
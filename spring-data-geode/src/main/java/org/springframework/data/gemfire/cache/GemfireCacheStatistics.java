@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a {@link GemfireCache}, recorded with striped counters.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.LatencyHistogram
+ * @since 2.3.0
+ */
+public class GemfireCacheStatistics {
+
+	private final LatencyHistogram getLatency = new LatencyHistogram();
+	private final LatencyHistogram loadLatency = new LatencyHistogram();
+
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder refreshCount = new LongAdder();
+
+	void recordGet(boolean hit, long nanoseconds) {
+
+		if (hit) {
+			this.hitCount.increment();
+		}
+		else {
+			this.missCount.increment();
+		}
+
+		this.getLatency.record(nanoseconds);
+	}
+
+	void recordGetAll(int hits, int misses, long nanoseconds) {
+		this.hitCount.add(hits);
+		this.missCount.add(Math.max(misses, 0));
+		this.getLatency.record(nanoseconds);
+	}
+
+	void recordLoad(boolean success, long nanoseconds) {
+
+		if (!success) {
+			this.loadFailureCount.increment();
+		}
+
+		this.loadLatency.record(nanoseconds);
+	}
+
+	void recordEviction() {
+		this.evictionCount.increment();
+	}
+
+	void recordPut() {
+		this.putCount.increment();
+	}
+
+	void recordPuts(int count) {
+		this.putCount.add(count);
+	}
+
+	void recordRefresh() {
+		this.refreshCount.increment();
+	}
+
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Returns the fraction of lookups that found a value in the cache.
+	 *
+	 * @return the fraction of lookups that found a value in the cache; {@literal 0} if there were no lookups.
+	 */
+	public double getHitRatio() {
+
+		long hitCount = getHitCount();
+		long lookupCount = hitCount + getMissCount();
+
+		return lookupCount > 0 ? (double) hitCount / lookupCount : 0.0d;
+	}
+
+	public long getPutCount() {
+		return this.putCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Returns the number of values loaded, including failed loads.
+	 *
+	 * @return the number of values loaded, including failed loads.
+	 */
+	public long getLoadCount() {
+		return this.loadLatency.getCount();
+	}
+
+	public long getLoadFailureCount() {
+		return this.loadFailureCount.sum();
+	}
+
+	public long getRefreshCount() {
+		return this.refreshCount.sum();
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} of the {@link org.apache.geode.cache.Region} lookups.
+	 *
+	 * @return the {@link LatencyHistogram} of the {@link org.apache.geode.cache.Region} lookups.
+	 */
+	public LatencyHistogram getGetLatency() {
+		return this.getLatency;
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} of the value loads.
+	 *
+	 * @return the {@link LatencyHistogram} of the value loads.
+	 */
+	public LatencyHistogram getLoadLatency() {
+		return this.loadLatency;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s[hits = %2$d, misses = %3$d, puts = %4$d, evictions = %5$d, loads = %6$d,"
+			+ " loadFailures = %7$d, refreshes = %8$d, meanLoadTime = %9$dns]", getClass().getSimpleName(),
+			getHitCount(), getMissCount(), getPutCount(), getEvictionCount(), getLoadCount(), getLoadFailureCount(),
+			getRefreshCount(), getLoadLatency().getMean());
+	}
+}
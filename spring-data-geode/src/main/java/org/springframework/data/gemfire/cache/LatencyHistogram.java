@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low-overhead latency histogram with buckets of exponentially increasing width, in microseconds.
+ *
+ * Bucket {@literal i} counts latencies less than {@literal 2^i} microseconds (and at least {@literal 2^(i-1)}),
+ * so percentiles are approximated by the upper bound of the bucket in which they fall.  Recording is lock-free
+ * using striped counters.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.atomic.LongAdder
+ * @since 2.3.0
+ */
+public class LatencyHistogram {
+
+	private static final int BUCKET_COUNT = 40;
+
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+
+	private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+	public LatencyHistogram() {
+
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			this.buckets[index] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records the given latency.
+	 *
+	 * @param nanoseconds latency in nanoseconds.
+	 */
+	public void record(long nanoseconds) {
+
+		long latency = Math.max(nanoseconds, 0L);
+		long micros = TimeUnit.NANOSECONDS.toMicros(latency);
+
+		int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+
+		this.buckets[bucket].increment();
+		this.count.increment();
+		this.totalTime.add(latency);
+		this.max.accumulate(latency);
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 *
+	 * @return the number of recorded latencies.
+	 */
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	/**
+	 * Returns the sum of all recorded latencies, in nanoseconds.
+	 *
+	 * @return the sum of all recorded latencies, in nanoseconds.
+	 */
+	public long getTotalTime() {
+		return this.totalTime.sum();
+	}
+
+	/**
+	 * Returns the mean of the recorded latencies, in nanoseconds.
+	 *
+	 * @return the mean of the recorded latencies, in nanoseconds; {@literal 0} if no latency was recorded.
+	 */
+	public long getMean() {
+
+		long count = getCount();
+
+		return count > 0 ? getTotalTime() / count : 0L;
+	}
+
+	/**
+	 * Returns the largest recorded latency, in nanoseconds.
+	 *
+	 * @return the largest recorded latency, in nanoseconds.
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * Returns the approximate latency, in nanoseconds, below which the given fraction of the recorded latencies fall.
+	 *
+	 * @param percentile fraction, between {@literal 0} and {@literal 1}, of the recorded latencies.
+	 * @return the approximate latency, in nanoseconds, at the given percentile; {@literal 0} if no latency
+	 * was recorded.
+	 */
+	public long getPercentile(double percentile) {
+
+		long[] counts = new long[BUCKET_COUNT];
+		long total = 0L;
+
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			counts[index] = this.buckets[index].sum();
+			total += counts[index];
+		}
+
+		if (total == 0L) {
+			return 0L;
+		}
+
+		long rank = (long) Math.ceil(Math.min(Math.max(percentile, 0.0d), 1.0d) * total);
+		long cumulative = 0L;
+
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+
+			cumulative += counts[index];
+
+			if (cumulative >= rank && counts[index] > 0) {
+				return Math.min(TimeUnit.MICROSECONDS.toNanos(1L << index), getMax());
+			}
+		}
+
+		return getMax();
+	}
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * {@link GemfireCache} with a bounded, on-heap, first level (L1) cache in front of the GemFire/Geode {@link Region},
+ * which acts as the second level (L2) cache.
+ *
+ * The L1 cache holds at most {@link #getMaximumSize() maximum size} entries, evicting the least recently used entry
+ * when full, and expires entries after the {@link #getTimeToLive() time-to-live}.  L1 entries are invalidated when
+ * the {@link Region} is notified of a change to the entry, which, for a {@literal client} {@link Region}, requires
+ * subscriptions to be enabled on the {@link org.apache.geode.cache.client.Pool} and interest to be registered
+ * in the keys (or a CQ).  Hits and misses are counted for each level, and L1 hits are also recorded
+ * in the {@link #getStatistics() statistics} of the cache.
+ *
+ * The L1 cache is split into segments, each guarded by its own lock, so concurrent lookups of different keys
+ * rarely contend.  Least recently used entries are evicted per segment, therefore the bound is approximate
+ * when the L1 cache has more than one segment.  An invalidation only prevents concurrent loads of the same key
+ * from being cached in L1.
+ *
+ * {@link #close()} removes the {@link org.apache.geode.cache.CacheListener} from the {@link Region}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCacheManager
+ * @since 2.3.0
+ */
+public class TwoLevelGemfireCache extends GemfireCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+	public static final long DEFAULT_TIME_TO_LIVE = 60000L;
+
+	static final int MAXIMUM_SEGMENT_COUNT = 16;
+
+	static final int MINIMUM_SEGMENT_SIZE = 64;
+
+	private final int maximumSize;
+
+	private final long timeToLive;
+
+	private final LongAdder l1HitCount = new LongAdder();
+	private final LongAdder l1MissCount = new LongAdder();
+	private final LongAdder l2HitCount = new LongAdder();
+	private final LongAdder l2MissCount = new LongAdder();
+
+	private final InvalidatingCacheListener cacheListener = new InvalidatingCacheListener();
+
+	private final Segment[] segments;
+
+	/**
+	 * Constructs a new instance of {@link TwoLevelGemfireCache} with the default L1 maximum size and time-to-live.
+	 *
+	 * @param region GemFire/Geode {@link Region} backing the L2 cache.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 */
+	public TwoLevelGemfireCache(Region<?, ?> region) {
+		this(region, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link TwoLevelGemfireCache}.
+	 *
+	 * @param region GemFire/Geode {@link Region} backing the L2 cache.
+	 * @param maximumSize maximum number of entries held in the L1 cache; must be greater than {@literal 0}.
+	 * @param timeToLive time, in milliseconds, an entry is held in the L1 cache; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}, or the maximum size or time-to-live
+	 * is not greater than {@literal 0}.
+	 */
+	public TwoLevelGemfireCache(Region<?, ?> region, int maximumSize, long timeToLive) {
+
+		super(region);
+
+		Assert.isTrue(maximumSize > 0, String.format("Maximum size [%d] must be greater than 0", maximumSize));
+		Assert.isTrue(timeToLive > 0, String.format("Time-to-live [%d] must be greater than 0", timeToLive));
+
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+
+		this.segments = newSegments(maximumSize);
+
+		attributesMutator().ifPresent(attributesMutator -> attributesMutator.addCacheListener(this.cacheListener));
+	}
+
+	// a power of two number of segments, each holding at least MINIMUM_SEGMENT_SIZE entries
+	private static Segment[] newSegments(int maximumSize) {
+
+		int segmentCount = 1;
+
+		while (segmentCount < MAXIMUM_SEGMENT_COUNT && maximumSize / (segmentCount * 2) >= MINIMUM_SEGMENT_SIZE) {
+			segmentCount *= 2;
+		}
+
+		int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+
+		Segment[] segments = new Segment[segmentCount];
+
+		for (int index = 0; index < segmentCount; index++) {
+			segments[index] = new Segment(segmentSize);
+		}
+
+		return segments;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Optional<AttributesMutator<Object, Object>> attributesMutator() {
+		return Optional.ofNullable(((Region<Object, Object>) getNativeCache()).getAttributesMutator());
+	}
+
+	private Segment segmentFor(Object key) {
+
+		int hash = key != null ? key.hashCode() : 0;
+
+		return this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)];
+	}
+
+	/**
+	 * Returns the maximum number of entries held in the L1 cache.
+	 *
+	 * @return the maximum number of entries held in the L1 cache.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Returns the time, in milliseconds, an entry is held in the L1 cache.
+	 *
+	 * @return the time, in milliseconds, an entry is held in the L1 cache.
+	 */
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Returns the number of entries currently held in the L1 cache, including expired entries not yet removed.
+	 *
+	 * @return the number of entries currently held in the L1 cache.
+	 */
+	public int getLocalSize() {
+
+		int localSize = 0;
+
+		for (Segment segment : this.segments) {
+			localSize += segment.size();
+		}
+
+		return localSize;
+	}
+
+	/**
+	 * Returns the number of lookups found in the L1 cache.
+	 *
+	 * @return the number of lookups found in the L1 cache.
+	 */
+	public long getL1HitCount() {
+		return this.l1HitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups not found in the L1 cache.
+	 *
+	 * @return the number of lookups not found in the L1 cache.
+	 */
+	public long getL1MissCount() {
+		return this.l1MissCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups found in the {@link Region} after missing the L1 cache.
+	 *
+	 * @return the number of lookups found in the {@link Region} after missing the L1 cache.
+	 */
+	public long getL2HitCount() {
+		return this.l2HitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups not found in the {@link Region} after missing the L1 cache.
+	 *
+	 * @return the number of lookups not found in the {@link Region} after missing the L1 cache.
+	 */
+	public long getL2MissCount() {
+		return this.l2MissCount.sum();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+
+		Object value = lookup(key);
+
+		return value != null ? new SimpleValueWrapper(value) : null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+
+		Object value = lookup(key);
+
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(String.format("Cached value [%1$s] is not an instance of type [%2$s]",
+				value, type.getName()));
+		}
+
+		return (T) value;
+	}
+
+	private Object lookup(Object key) {
+
+		long startTime = System.nanoTime();
+
+		Segment segment = segmentFor(key);
+
+		Object value = segment.get(key, System.currentTimeMillis());
+
+		if (value != null) {
+			this.l1HitCount.increment();
+			getStatistics().recordGet(true, System.nanoTime() - startTime);
+			return value;
+		}
+
+		this.l1MissCount.increment();
+
+		// a load is only cached in L1 if the key was not invalidated while the value was read from L2
+		Object load = segment.beginLoad(key);
+
+		value = super.get(key, Object.class);
+
+		if (value != null) {
+			this.l2HitCount.increment();
+			segment.endLoad(key, load, new LocalEntry(value, System.currentTimeMillis() + getTimeToLive()));
+		}
+		else {
+			this.l2MissCount.increment();
+			segment.endLoad(key, load, null);
+		}
+
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+
+		super.put(key, value);
+
+		invalidateLocal(key);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+
+		try {
+			return super.putIfAbsent(key, value);
+		}
+		finally {
+			invalidateLocal(key);
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+
+		super.evict(key);
+
+		invalidateLocal(key);
+	}
+
+	@Override
+	public void clear() {
+
+		super.clear();
+
+		invalidateLocal();
+	}
+
+	void invalidateLocal(Object key) {
+		segmentFor(key).invalidate(key);
+	}
+
+	void invalidateLocal() {
+
+		for (Segment segment : this.segments) {
+			segment.invalidate();
+		}
+	}
+
+	/**
+	 * Removes all expired entries from the L1 cache.
+	 */
+	public void purgeExpired() {
+
+		long now = System.currentTimeMillis();
+
+		for (Segment segment : this.segments) {
+			segment.purgeExpired(now);
+		}
+	}
+
+	/**
+	 * Removes the {@link org.apache.geode.cache.CacheListener} invalidating the L1 cache from the {@link Region}
+	 * and clears the L1 cache.  The L1 cache is no longer invalidated by changes to the {@link Region} afterwards.
+	 */
+	public void close() {
+
+		if (!getNativeCache().isDestroyed()) {
+			attributesMutator().ifPresent(attributesMutator ->
+				attributesMutator.removeCacheListener(this.cacheListener));
+		}
+
+		invalidateLocal();
+	}
+
+	private static final class Segment {
+
+		private final Map<Object, LocalEntry> entries;
+
+		private final Map<Object, Object> loads = new HashMap<>();
+
+		private Segment(int maximumSize) {
+
+			this.entries = new LinkedHashMap<Object, LocalEntry>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, LocalEntry> eldest) {
+					return size() > maximumSize;
+				}
+			};
+		}
+
+		synchronized Object get(Object key, long now) {
+
+			LocalEntry localEntry = this.entries.get(key);
+
+			if (localEntry != null && localEntry.isExpired(now)) {
+				this.entries.remove(key);
+				localEntry = null;
+			}
+
+			return localEntry != null ? localEntry.value : null;
+		}
+
+		synchronized Object beginLoad(Object key) {
+
+			Object load = new Object();
+
+			this.loads.put(key, load);
+
+			return load;
+		}
+
+		synchronized void endLoad(Object key, Object load, LocalEntry localEntry) {
+
+			if (this.loads.remove(key, load) && localEntry != null) {
+				this.entries.put(key, localEntry);
+			}
+		}
+
+		synchronized void invalidate(Object key) {
+			this.loads.remove(key);
+			this.entries.remove(key);
+		}
+
+		synchronized void invalidate() {
+			this.loads.clear();
+			this.entries.clear();
+		}
+
+		synchronized void purgeExpired(long now) {
+
+			for (Iterator<LocalEntry> iterator = this.entries.values().iterator(); iterator.hasNext(); ) {
+				if (iterator.next().isExpired(now)) {
+					iterator.remove();
+				}
+			}
+		}
+
+		synchronized int size() {
+			return this.entries.size();
+		}
+	}
+
+	private static final class LocalEntry {
+
+		private final long expiresAt;
+
+		private final Object value;
+
+		private LocalEntry(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now >= this.expiresAt;
+		}
+	}
+
+	private final class InvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+			invalidateLocal(event.getKey());
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			invalidateLocal(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			invalidateLocal(event.getKey());
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			invalidateLocal(event.getKey());
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			invalidateLocal();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			invalidateLocal();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			invalidateLocal();
+		}
+	}
+}
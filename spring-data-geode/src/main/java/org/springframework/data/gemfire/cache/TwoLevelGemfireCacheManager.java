@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.cache.Cache;
+
+/**
+ * {@link GemfireCacheManager} creating {@link TwoLevelGemfireCache TwoLevelGemfireCaches}, which hold recently used
+ * entries in a bounded, on-heap L1 cache in front of the GemFire/Geode {@link Region}.
+ *
+ * The {@link TwoLevelGemfireCache TwoLevelGemfireCaches} are {@link TwoLevelGemfireCache#close() closed}
+ * when this {@link TwoLevelGemfireCacheManager} is destroyed.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager
+ * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache
+ * @since 2.3.0
+ */
+public class TwoLevelGemfireCacheManager extends GemfireCacheManager {
+
+	private int localMaximumSize = TwoLevelGemfireCache.DEFAULT_MAXIMUM_SIZE;
+
+	private long localTimeToLive = TwoLevelGemfireCache.DEFAULT_TIME_TO_LIVE;
+
+	/**
+	 * Constructs a new instance of {@link TwoLevelGemfireCache} initialized with the given GemFire {@link Region}.
+	 *
+	 * @param region GemFire {@link Region} backing the L2 cache.
+	 * @return a new {@link TwoLevelGemfireCache}.
+	 * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache
+	 */
+	@Override
+	protected GemfireCache newGemfireCache(Region<?, ?> region) {
+		return configure(new TwoLevelGemfireCache(region, getLocalMaximumSize(), getLocalTimeToLive()));
+	}
+
+	/**
+	 * Sets the maximum number of entries held in the L1 cache of each {@link TwoLevelGemfireCache}.
+	 *
+	 * Defaults to {@literal 10000}.
+	 *
+	 * @param localMaximumSize maximum number of entries held in each L1 cache.
+	 */
+	public void setLocalMaximumSize(int localMaximumSize) {
+		this.localMaximumSize = localMaximumSize;
+	}
+
+	/**
+	 * Returns the maximum number of entries held in the L1 cache of each {@link TwoLevelGemfireCache}.
+	 *
+	 * @return the maximum number of entries held in each L1 cache.
+	 */
+	protected int getLocalMaximumSize() {
+		return this.localMaximumSize;
+	}
+
+	/**
+	 * Sets the time, in milliseconds, an entry is held in the L1 cache of each {@link TwoLevelGemfireCache}.
+	 *
+	 * Defaults to {@literal 60} seconds.
+	 *
+	 * @param localTimeToLive time, in milliseconds, an entry is held in each L1 cache.
+	 */
+	public void setLocalTimeToLive(long localTimeToLive) {
+		this.localTimeToLive = localTimeToLive;
+	}
+
+	/**
+	 * Returns the time, in milliseconds, an entry is held in the L1 cache of each {@link TwoLevelGemfireCache}.
+	 *
+	 * @return the time, in milliseconds, an entry is held in each L1 cache.
+	 */
+	protected long getLocalTimeToLive() {
+		return this.localTimeToLive;
+	}
+
+	/**
+	 * Closes the {@link TwoLevelGemfireCache TwoLevelGemfireCaches} managed by this {@link TwoLevelGemfireCacheManager},
+	 * removing their {@link org.apache.geode.cache.CacheListener CacheListeners} from the {@link Region Regions},
+	 * then shuts down the pool created by this {@link TwoLevelGemfireCacheManager}, if any.
+	 *
+	 * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache#close()
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheManager#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		for (String cacheName : getCacheNames()) {
+
+			Cache cache = lookupCache(cacheName);
+
+			if (cache instanceof TwoLevelGemfireCache) {
+				((TwoLevelGemfireCache) cache).close();
+			}
+		}
+
+		super.destroy();
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.config.AopConfigUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.cache.BulkCacheable;
+import org.springframework.data.gemfire.cache.BulkCacheableInterceptor;
+
+/**
+ * The {@link BulkCachingConfiguration} class is a Spring {@link Configuration @Configuration} class
+ * declaring the infrastructure {@link Advisor} applying the {@link BulkCacheableInterceptor}
+ * to {@link BulkCacheable} annotated methods.
+ *
+ * Only the infrastructure auto-proxy creator is registered; Spring's caching infrastructure is not enabled.
+ *
+ * @author John Blum
+ * @see org.springframework.aop.Advisor
+ * @see org.springframework.aop.config.AopConfigUtils#registerAutoProxyCreatorIfNecessary(BeanDefinitionRegistry)
+ * @see org.springframework.data.gemfire.cache.BulkCacheable
+ * @see org.springframework.data.gemfire.cache.BulkCacheableInterceptor
+ * @see org.springframework.data.gemfire.cache.config.EnableBulkCaching
+ * @since 2.3.0
+ */
+@Configuration
+@Import(BulkCachingConfiguration.AutoProxyRegistrar.class)
+@SuppressWarnings("unused")
+public class BulkCachingConfiguration {
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public Advisor bulkCacheableAdvisor(ObjectProvider<CacheManager> cacheManager) {
+
+		return new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(BulkCacheable.class),
+			new BulkCacheableInterceptor(cacheManager::getObject));
+	}
+
+	static class AutoProxyRegistrar implements ImportBeanDefinitionRegistrar {
+
+		@Override
+		public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata,
+				BeanDefinitionRegistry registry) {
+
+			AopConfigUtils.registerAutoProxyCreatorIfNecessary(registry);
+		}
+	}
+}
@@ -42,6 +42,7 @@ import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.listener.ContinuousQueryDefinition;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor;
 import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
 import org.springframework.data.gemfire.util.CacheUtils;
 import org.springframework.util.Assert;
@@ -78,8 +79,15 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 	protected static final String ORG_SPRINGFRAMEWORK_DATA_GEMFIRE_PACKAGE_NAME = "org.springframework.data.gemfire";
 	protected static final String ORG_SPRINGFRAMEWORK_PACKAGE_NAME = "org.springframework";
 
+	private boolean virtualThreads = false;
+
+	private int dispatchLanes;
+	private int dispatchQueueCapacity = KeyOrderedTaskExecutor.DEFAULT_QUEUE_CAPACITY;
+	private int executionConcurrency = 1;
 	private int phase;
 
+	private KeyOrderedTaskExecutor.OverflowPolicy dispatchOverflowPolicy = KeyOrderedTaskExecutor.OverflowPolicy.BLOCK;
+
 	@Autowired(required = false)
 	private List<ContinuousQueryListenerContainerConfigurer> configurers = Collections.emptyList();
 
@@ -111,11 +119,16 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 
 			AnnotationAttributes enableContinuousQueriesAttributes = getAnnotationAttributes(importingClassMetadata);
 
+			setDispatchLanes(enableContinuousQueriesAttributes.<Integer>getNumber("dispatchLanes"));
+			setDispatchOverflowPolicy(enableContinuousQueriesAttributes.getEnum("dispatchOverflowPolicy"));
+			setDispatchQueueCapacity(enableContinuousQueriesAttributes.<Integer>getNumber("dispatchQueueCapacity"));
 			setErrorHandlerBeanName(enableContinuousQueriesAttributes.getString("errorHandlerBeanName"));
+			setExecutionConcurrency(enableContinuousQueriesAttributes.<Integer>getNumber("executionConcurrency"));
 			setPhase(enableContinuousQueriesAttributes.<Integer>getNumber("phase"));
 			setPoolName(enableContinuousQueriesAttributes.getString("poolName"));
 			setQueryServiceBeanName(enableContinuousQueriesAttributes.getString("queryServiceBeanName"));
 			setTaskExecutorBeanName(enableContinuousQueriesAttributes.getString("taskExecutorBeanName"));
+			setVirtualThreads(enableContinuousQueriesAttributes.getBoolean("virtualThreads"));
 		}
 	}
 
@@ -134,7 +147,7 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 				if (bean instanceof ContinuousQueryListenerContainer) {
 
 					this.container = (ContinuousQueryListenerContainer) bean;
-					this.continuousQueryDefinitions.forEach(this.container::addListener);
+					this.container.addListeners(this.continuousQueryDefinitions);
 					this.continuousQueryDefinitions.clear();
 				}
 				else if (isApplicationBean(bean, beanName)) {
@@ -147,7 +160,7 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 						.collect(Collectors.toList());
 
 					Optional.ofNullable(this.container).map(container -> {
-						definitions.forEach(container::addListener);
+						container.addListeners(definitions);
 						return container;
 					}).orElseGet(() -> {
 						this.continuousQueryDefinitions.addAll(definitions);
@@ -201,6 +214,11 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 
 		container.setCache(gemfireCache);
 		container.setContinuousQueryListenerContainerConfigurers(resolveContinuousQueryListenerContainerConfigurers());
+		container.setDispatchLanes(getDispatchLanes());
+		container.setDispatchOverflowPolicy(getDispatchOverflowPolicy());
+		container.setDispatchQueueCapacity(getDispatchQueueCapacity());
+		container.setExecutionConcurrency(getExecutionConcurrency());
+		container.setVirtualThreads(isVirtualThreads());
 
 		resolveErrorHandler().ifPresent(container::setErrorHandler);
 		resolvePhase().ifPresent(container::setPhase);
@@ -247,6 +265,30 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 			.map(taskExecutorBeanName -> getBeanFactory().getBean(taskExecutorBeanName, Executor.class));
 	}
 
+	public void setDispatchLanes(int dispatchLanes) {
+		this.dispatchLanes = dispatchLanes;
+	}
+
+	protected int getDispatchLanes() {
+		return this.dispatchLanes;
+	}
+
+	public void setDispatchOverflowPolicy(KeyOrderedTaskExecutor.OverflowPolicy dispatchOverflowPolicy) {
+		this.dispatchOverflowPolicy = dispatchOverflowPolicy;
+	}
+
+	protected KeyOrderedTaskExecutor.OverflowPolicy getDispatchOverflowPolicy() {
+		return this.dispatchOverflowPolicy;
+	}
+
+	public void setDispatchQueueCapacity(int dispatchQueueCapacity) {
+		this.dispatchQueueCapacity = dispatchQueueCapacity;
+	}
+
+	protected int getDispatchQueueCapacity() {
+		return this.dispatchQueueCapacity;
+	}
+
 	public void setErrorHandlerBeanName(String errorHandlerBeanName) {
 		this.errorHandlerBeanName = errorHandlerBeanName;
 	}
@@ -255,6 +297,14 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 		return this.errorHandlerBeanName;
 	}
 
+	public void setExecutionConcurrency(int executionConcurrency) {
+		this.executionConcurrency = executionConcurrency;
+	}
+
+	protected int getExecutionConcurrency() {
+		return this.executionConcurrency;
+	}
+
 	public void setPhase(int phase) {
 		this.phase = phase;
 	}
@@ -286,4 +336,12 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 	protected String getTaskExecutorBeanName() {
 		return this.taskExecutorBeanName;
 	}
+
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+	protected boolean isVirtualThreads() {
+		return this.virtualThreads;
+	}
 }
@@ -30,6 +30,7 @@ import org.apache.geode.cache.query.QueryService;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor;
 import org.springframework.util.ErrorHandler;
 
 /**
@@ -58,6 +59,28 @@ import org.springframework.util.ErrorHandler;
 @SuppressWarnings("unused")
 public @interface EnableContinuousQueries {
 
+	/**
+	 * Defines the number of single-threaded lanes onto which CQ events are hashed by key, preserving the order
+	 * of events for the same key.  Ignored when {@link #taskExecutorBeanName()} is set.
+	 *
+	 * Defaults to {@literal 0}, which processes each CQ event on a new {@link Thread}.
+	 */
+	int dispatchLanes() default 0;
+
+	/**
+	 * Defines the {@link KeyOrderedTaskExecutor.OverflowPolicy} applied when a lane's queue is full.
+	 *
+	 * Defaults to {@link KeyOrderedTaskExecutor.OverflowPolicy#BLOCK}.
+	 */
+	KeyOrderedTaskExecutor.OverflowPolicy dispatchOverflowPolicy() default KeyOrderedTaskExecutor.OverflowPolicy.BLOCK;
+
+	/**
+	 * Defines the maximum number of CQ events queued per lane.
+	 *
+	 * Defaults to {@literal 1024}.
+	 */
+	int dispatchQueueCapacity() default KeyOrderedTaskExecutor.DEFAULT_QUEUE_CAPACITY;
+
 	/**
 	 * Refers to the {@link String name} of the declared {@link ErrorHandler} bean that will handle errors
 	 * thrown during CQ event processing by CQ listeners.
@@ -66,6 +89,15 @@ public @interface EnableContinuousQueries {
 	 */
 	String errorHandlerBeanName() default "";
 
+	/**
+	 * Defines the maximum number of CQs executed (registered with the servers) concurrently when
+	 * the SDG {@link ContinuousQueryListenerContainer} starts.  A CQ failing to execute does not prevent
+	 * the other CQs from being executed.
+	 *
+	 * Defaults to {@literal 1}, which executes the CQs one at a time.
+	 */
+	int executionConcurrency() default 1;
+
 	/**
 	 * Defines the Spring container lifecycle phase in which the SDG {@link ContinuousQueryListenerContainer}
 	 * will be started on auto-start.
@@ -95,4 +127,13 @@ public @interface EnableContinuousQueries {
 	 */
 	String taskExecutorBeanName() default "";
 
+	/**
+	 * Determines whether each CQ event is processed on its own virtual {@link Thread}, preserving the order
+	 * of events for the same key.  Requires Java 21 or later.  Takes precedence over {@link #dispatchLanes()}
+	 * and is ignored when {@link #taskExecutorBeanName()} is set.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean virtualThreads() default false;
+
 }
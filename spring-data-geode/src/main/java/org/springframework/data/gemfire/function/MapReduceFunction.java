@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.management.internal.security.ResourcePermissions;
+import org.apache.geode.security.ResourcePermission;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link MapReduceFunction} is a {@link Region} {@link Function} that applies a {@link Mapper} to every entry
+ * in the local data set of the executing member and folds the mapped values with a {@link Combiner}, sending back
+ * a single partial aggregate per member.
+ *
+ * The {@link Mapper} and {@link Combiner} are passed as {@link Function} arguments, therefore they must be
+ * {@link Serializable} and their {@link Class classes} must be on the class path of the servers hosting
+ * the {@link Region}.  The final reduction of the partial aggregates is performed by the caller.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionOperations
+ * @since 2.3.0
+ */
+@SuppressWarnings("serial")
+public class MapReduceFunction implements Function<Object[]> {
+
+	public static final String ID = MapReduceFunction.class.getName();
+
+	private static Logger logger = LoggerFactory.getLogger(MapReduceFunction.class);
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return false;
+	}
+
+	@Override
+	public Collection<ResourcePermission> getRequiredPermissions(String regionName) {
+		return Collections.unmodifiableCollection(asSet(ResourcePermissions.DATA_READ));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		Assert.isInstanceOf(RegionFunctionContext.class, functionContext,
+			String.format("Function [%s] must be executed on a Region", getId()));
+
+		Object[] arguments = functionContext.getArguments();
+
+		Assert.isTrue(!ObjectUtils.isEmpty(arguments) && arguments.length >= 2,
+			"A Mapper and Combiner are required");
+
+		Mapper<Object, Object, Object> mapper = (Mapper<Object, Object, Object>) arguments[0];
+		Combiner<Object> combiner = (Combiner<Object>) arguments[1];
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+		Object partialResult = combine(resolveLocalData(regionFunctionContext), regionFunctionContext.getFilter(),
+			mapper, combiner);
+
+		functionContext.getResultSender().lastResult(partialResult);
+	}
+
+	private Region<Object, Object> resolveLocalData(RegionFunctionContext regionFunctionContext) {
+
+		Region<Object, Object> region = regionFunctionContext.getDataSet();
+
+		return PartitionRegionHelper.isPartitionedRegion(region)
+			? PartitionRegionHelper.getLocalDataForContext(regionFunctionContext)
+			: region;
+	}
+
+	Object combine(Region<Object, Object> region, Set<?> filter,
+			Mapper<Object, Object, Object> mapper, Combiner<Object> combiner) {
+
+		Object partialResult = null;
+
+		int count = 0;
+
+		if (CollectionUtils.isEmpty(filter)) {
+			for (Map.Entry<Object, Object> entry : region.entrySet()) {
+				partialResult = combine(partialResult, mapper.map(entry.getKey(), entry.getValue()), combiner);
+				count++;
+			}
+		}
+		else {
+			for (Object key : filter) {
+				if (region.containsKey(key)) {
+					partialResult = combine(partialResult, mapper.map(key, region.get(key)), combiner);
+					count++;
+				}
+			}
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Mapped and combined [{}] entries of Region [{}]", count, region.getFullPath());
+		}
+
+		return partialResult;
+	}
+
+	private Object combine(Object partialResult, Object mappedValue, Combiner<Object> combiner) {
+
+		return partialResult == null ? mappedValue
+			: mappedValue == null ? partialResult
+			: combiner.apply(partialResult, mappedValue);
+	}
+
+	/**
+	 * {@link Mapper} maps a single {@link Region} entry to a value; a {@literal null} value skips the entry.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @param <T> {@link Class type} of the mapped value.
+	 */
+	@FunctionalInterface
+	public interface Mapper<K, V, T> extends Serializable {
+		T map(K key, V value);
+	}
+
+	/**
+	 * {@link Combiner} folds two mapped values into a partial aggregate on the member hosting the data.
+	 *
+	 * @param <T> {@link Class type} of the mapped value.
+	 */
+	@FunctionalInterface
+	public interface Combiner<T> extends BinaryOperator<T>, Serializable { }
+
+}
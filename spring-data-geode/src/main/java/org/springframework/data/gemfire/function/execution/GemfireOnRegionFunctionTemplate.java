@@ -12,18 +12,47 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.gemfire.function.MapReduceFunction;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 /**
  * @author David Turanski
  * @author John Blum
  */
-public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate implements GemfireOnRegionOperations {
+public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate
+		implements GemfireOnRegionOperations, DisposableBean {
+
+	public static final int DEFAULT_MAXIMUM_PARALLELISM = 16;
+
+	private static final long IDLE_THREAD_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
+	private Executor executor;
+
+	private ThreadPoolExecutor defaultExecutor;
 
 	private final Region<?, ?> region;
 
@@ -42,6 +71,66 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 		this.region = region;
 	}
 
+	/**
+	 * Sets the {@link Executor} used to run the per owner {@link Function} executions
+	 * in {@link #executeOnKeyOwners(Set, String, Object...)}.
+	 *
+	 * Defaults to a pool of at most {@link #DEFAULT_MAXIMUM_PARALLELISM} daemon {@link Thread Threads} owned by
+	 * this template, which time out when idle and are shut down when this template is destroyed.  Since each
+	 * execution blocks while waiting on its results,
+	 * a {@link org.springframework.data.gemfire.listener.VirtualThreadTaskExecutor} avoids tying up pooled
+	 * {@link Thread Threads} on Java 21 or later.
+	 *
+	 * @param executor {@link Executor} used to run the {@link Function} executions in parallel.
+	 * @throws IllegalArgumentException if {@link Executor} is {@literal null}.
+	 * @see java.util.concurrent.Executor
+	 * @see org.springframework.data.gemfire.listener.VirtualThreadTaskExecutor
+	 */
+	public synchronized void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	protected synchronized Executor getExecutor() {
+
+		if (this.executor == null) {
+			this.defaultExecutor = newDefaultExecutor();
+			this.executor = this.defaultExecutor;
+		}
+
+		return this.executor;
+	}
+
+	private ThreadPoolExecutor newDefaultExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("OnRegionFunctionExecution-");
+
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_MAXIMUM_PARALLELISM, DEFAULT_MAXIMUM_PARALLELISM,
+			IDLE_THREAD_TIMEOUT, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	/**
+	 * Shuts down the default {@link Executor} if it was created by this template.
+	 * An {@link Executor} set with {@link #setExecutor(Executor)} is not shut down.
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		if (this.defaultExecutor != null) {
+			this.defaultExecutor.shutdown();
+			this.defaultExecutor = null;
+			this.executor = null;
+		}
+	}
+
 	@Override
 	protected RegionFunctionExecution getFunctionExecution() {
 		return new RegionFunctionExecution(this.region);
@@ -75,4 +164,97 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 			.setTimeout(this.timeout)
 			.setArgs(args), false);
 	}
+
+	@Override
+	public <K, V, T> T mapReduce(Set<?> keys, MapReduceFunction.Mapper<K, V, T> mapper,
+			MapReduceFunction.Combiner<T> combiner, BinaryOperator<T> reducer) {
+
+		Assert.notNull(mapper, "Mapper must not be null");
+		Assert.notNull(combiner, "Combiner must not be null");
+
+		MapReduceResultCollector<T> resultCollector = new MapReduceResultCollector<>(reducer);
+
+		getFunctionExecution()
+			.setKeys(keys)
+			.setFunction(new MapReduceFunction())
+			.setArgs(mapper, combiner)
+			.setTimeout(this.timeout)
+			.setResultCollector(resultCollector)
+			.execute();
+
+		return resultCollector.getReducedResult();
+	}
+
+	@Override
+	public <T> Iterable<T> executeOnKeyOwners(Set<?> keys, String functionId, Object... args) {
+
+		Collection<Set<Object>> keysByOwner = groupKeysByOwner(keys).values();
+
+		List<T> results = new ArrayList<>();
+
+		// a user-provided ResultCollector is not safe to share between concurrent executions
+		if (keysByOwner.size() < 2 || this.resultCollector != null) {
+			keysByOwner.forEach(ownedKeys -> addAll(results, execute(functionId, ownedKeys, args)));
+		}
+		else {
+
+			List<CompletableFuture<Iterable<T>>> futures = keysByOwner.stream()
+				.map(ownedKeys -> CompletableFuture.supplyAsync(() -> this.<T>execute(functionId, ownedKeys, args),
+					getExecutor()))
+				.collect(Collectors.toList());
+
+			for (CompletableFuture<Iterable<T>> future : futures) {
+				try {
+					addAll(results, future.join());
+				}
+				catch (CompletionException cause) {
+					throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause()
+						: new FunctionException(String.format("Execution of Function with ID [%s] failed", functionId),
+							cause.getCause());
+				}
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Groups the given keys by the {@link org.apache.geode.distributed.DistributedMember} hosting the primary bucket
+	 * for each key.
+	 *
+	 * Keys are only grouped for a {@link PartitionRegionHelper#isPartitionedRegion(Region) PARTITION Region} hosted
+	 * by this peer.  Otherwise, all keys are kept in a single group, in which case a client {@link Region} configured
+	 * with PR single-hop splits the filter by server when the {@link Function} is executed.
+	 *
+	 * @param keys {@link Set} of keys to group.
+	 * @return a {@link Map} of the keys grouped by owner.
+	 */
+	@SuppressWarnings("unchecked")
+	protected Map<Object, Set<Object>> groupKeysByOwner(Set<?> keys) {
+
+		Map<Object, Set<Object>> keysByOwner = new LinkedHashMap<>();
+
+		if (!CollectionUtils.isEmpty(keys)) {
+
+			Region<Object, Object> region = (Region<Object, Object>) this.region;
+
+			boolean partitioned = PartitionRegionHelper.isPartitionedRegion(region);
+
+			for (Object key : keys) {
+
+				Object owner = partitioned ? PartitionRegionHelper.getPrimaryMemberForKey(region, key) : null;
+
+				keysByOwner.computeIfAbsent(owner != null ? owner : this.region, it -> new HashSet<>()).add(key);
+			}
+		}
+
+		return keysByOwner;
+	}
+
+	private <T> void addAll(List<T> results, Iterable<T> ownerResults) {
+
+		if (ownerResults != null) {
+			ownerResults.forEach(results::add);
+		}
+	}
 }
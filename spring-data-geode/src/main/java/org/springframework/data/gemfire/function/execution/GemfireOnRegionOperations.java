@@ -13,11 +13,15 @@
 
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.Collections;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
 
+import org.springframework.data.gemfire.function.MapReduceFunction;
+
 /**
  * Interface define {@link Region} {@link Function} data access operations.
  *
@@ -48,4 +52,83 @@ public interface GemfireOnRegionOperations extends GemfireFunctionOperations {
 
 	void executeWithNoResult(String functionId, Set<?> keys, Object... args);
 
+	/**
+	 * Executes the given {@link Function} on the member owning the given key only.
+	 *
+	 * @param <T> {@link Class type} of the {@link Function} results.
+	 * @param key key used to route the {@link Function} execution.
+	 * @param function {@link Function} to execute.
+	 * @param args array of arguments passed to the {@link Function}.
+	 * @return the {@link Function} results.
+	 * @see #executeOnKeyOwner(Object, String, Object...)
+	 */
+	default <T> Iterable<T> executeOnKeyOwner(Object key, Function function, Object... args) {
+		return executeOnKeyOwner(key, function.getId(), args);
+	}
+
+	/**
+	 * Executes the {@link Function} with the given ID on the member owning the given key only.
+	 *
+	 * @param <T> {@link Class type} of the {@link Function} results.
+	 * @param key key used to route the {@link Function} execution.
+	 * @param functionId {@link String ID} of the registered {@link Function} to execute.
+	 * @param args array of arguments passed to the {@link Function}.
+	 * @return the {@link Function} results.
+	 */
+	default <T> Iterable<T> executeOnKeyOwner(Object key, String functionId, Object... args) {
+		return execute(functionId, Collections.singleton(key), args);
+	}
+
+	/**
+	 * Groups the given keys by the member owning each key and executes the given {@link Function}
+	 * in parallel, once per owner, filtered by the keys owned by that member.
+	 *
+	 * @param <T> {@link Class type} of the {@link Function} results.
+	 * @param keys {@link Set} of keys used to route the {@link Function} executions.
+	 * @param function {@link Function} to execute.
+	 * @param args array of arguments passed to the {@link Function}.
+	 * @return the combined results of all {@link Function} executions.
+	 * @see #executeOnKeyOwners(Set, String, Object...)
+	 */
+	default <T> Iterable<T> executeOnKeyOwners(Set<?> keys, Function function, Object... args) {
+		return executeOnKeyOwners(keys, function.getId(), args);
+	}
+
+	/**
+	 * Groups the given keys by the member owning each key and executes the {@link Function} with the given ID
+	 * in parallel, once per owner, filtered by the keys owned by that member.
+	 *
+	 * @param <T> {@link Class type} of the {@link Function} results.
+	 * @param keys {@link Set} of keys used to route the {@link Function} executions.
+	 * @param functionId {@link String ID} of the registered {@link Function} to execute.
+	 * @param args array of arguments passed to the {@link Function}.
+	 * @return the combined results of all {@link Function} executions.
+	 */
+	<T> Iterable<T> executeOnKeyOwners(Set<?> keys, String functionId, Object... args);
+
+	default <K, V, T> T mapReduce(MapReduceFunction.Mapper<K, V, T> mapper, MapReduceFunction.Combiner<T> combiner,
+			BinaryOperator<T> reducer) {
+
+		return mapReduce(null, mapper, combiner, reducer);
+	}
+
+	/**
+	 * Maps and combines the entries of the {@link Region} on each member hosting the data using
+	 * the {@link MapReduceFunction} and reduces the partial aggregates returned by each member on the caller.
+	 *
+	 * Only the partial aggregates are sent across the network, not the {@link Region} entries.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @param <T> {@link Class type} of the mapped value and aggregate.
+	 * @param keys {@link Set} of keys used to filter the entries that are mapped; may be {@literal null}.
+	 * @param mapper {@link MapReduceFunction.Mapper} applied to each entry on the member hosting the data.
+	 * @param combiner {@link MapReduceFunction.Combiner} folding the mapped values on each member.
+	 * @param reducer {@link BinaryOperator} reducing the partial aggregates on the caller.
+	 * @return the reduced result, or {@literal null} if no entries were mapped.
+	 * @see org.springframework.data.gemfire.function.MapReduceFunction
+	 */
+	<K, V, T> T mapReduce(Set<?> keys, MapReduceFunction.Mapper<K, V, T> mapper,
+		MapReduceFunction.Combiner<T> combiner, BinaryOperator<T> reducer);
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultCollector} that reduces the partial aggregates sent by each member as they arrive, so that only
+ * the running result, and not every partial result, is held by the caller.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the partial and final aggregate.
+ * @see java.util.function.BinaryOperator
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.data.gemfire.function.MapReduceFunction
+ * @since 2.3.0
+ */
+public class MapReduceResultCollector<T> implements ResultCollector<T, Iterable<T>> {
+
+	private final BinaryOperator<T> reducer;
+
+	private T result;
+
+	/**
+	 * Constructs a new instance of {@link MapReduceResultCollector} initialized with the given {@link BinaryOperator}
+	 * used to reduce the partial aggregates.
+	 *
+	 * @param reducer {@link BinaryOperator} used to reduce the partial aggregates; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@code reducer} is {@literal null}.
+	 */
+	public MapReduceResultCollector(BinaryOperator<T> reducer) {
+
+		Assert.notNull(reducer, "Reducer must not be null");
+
+		this.reducer = reducer;
+	}
+
+	@Override
+	public synchronized void addResult(DistributedMember memberId, T partialResult) {
+
+		if (partialResult instanceof Throwable) {
+			throw new FunctionException(String.format("Map/Reduce failed on member [%s]", memberId),
+				(Throwable) partialResult);
+		}
+
+		if (partialResult != null) {
+			this.result = this.result != null ? this.reducer.apply(this.result, partialResult) : partialResult;
+		}
+	}
+
+	@Override
+	public void endResults() { }
+
+	@Override
+	public synchronized void clearResults() {
+		this.result = null;
+	}
+
+	@Override
+	public Iterable<T> getResult() throws FunctionException {
+		return Collections.singletonList(getReducedResult());
+	}
+
+	@Override
+	public Iterable<T> getResult(long timeout, TimeUnit unit) throws FunctionException {
+		return getResult();
+	}
+
+	/**
+	 * Returns the result of reducing all partial aggregates received so far.
+	 *
+	 * @return the reduced result, or {@literal null} if no member returned a partial aggregate.
+	 */
+	public synchronized T getReducedResult() {
+		return this.result;
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.query.CqEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * {@link ContinuousQueryListener} collecting {@link CqEvent CQ events} into batches delivered to
+ * a {@link ContinuousQueryBatchListener}.
+ *
+ * A batch is closed when it reaches the maximum batch size or when the maximum batch latency has elapsed since
+ * the first event was added to the batch, whichever comes first.  Optionally, events are conflated by key so that
+ * a batch only contains the latest event for each key.
+ *
+ * Batches are delivered, in order, on a single {@link Thread} owned by this listener.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryBatchListener
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
+ * @since 2.3.0
+ */
+public class BatchingContinuousQueryListener implements ContinuousQueryListener, DisposableBean {
+
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	public static final long DEFAULT_BATCH_TIMEOUT = 100L;
+
+	private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+	private boolean flushRequested = false;
+
+	private final boolean conflate;
+
+	private final int batchSize;
+
+	private final long batchTimeout;
+
+	private final ContinuousQueryBatchListener batchListener;
+
+	private ErrorHandler errorHandler;
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<Object, CqEvent> pendingEvents = new LinkedHashMap<>();
+
+	private final ScheduledExecutorService scheduler;
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	/**
+	 * Constructs a new instance of {@link BatchingContinuousQueryListener} with the default batch size and timeout,
+	 * and without conflation.
+	 *
+	 * @param batchListener {@link ContinuousQueryBatchListener} receiving the batches of {@link CqEvent CQ events}.
+	 */
+	public BatchingContinuousQueryListener(ContinuousQueryBatchListener batchListener) {
+		this(batchListener, DEFAULT_BATCH_SIZE, DEFAULT_BATCH_TIMEOUT, false);
+	}
+
+	/**
+	 * Constructs a new instance of {@link BatchingContinuousQueryListener}.
+	 *
+	 * @param batchListener {@link ContinuousQueryBatchListener} receiving the batches of {@link CqEvent CQ events}.
+	 * @param batchSize maximum number of {@link CqEvent CQ events} in a batch; must be greater than {@literal 0}.
+	 * @param batchTimeout maximum time, in milliseconds, a {@link CqEvent CQ event} waits in a batch before
+	 * the batch is delivered; must be greater than {@literal 0}.
+	 * @param conflate whether only the latest {@link CqEvent CQ event} for a key is kept in a batch.
+	 * @throws IllegalArgumentException if {@link ContinuousQueryBatchListener} is {@literal null},
+	 * or the {@code batchSize} or {@code batchTimeout} is not greater than {@literal 0}.
+	 */
+	public BatchingContinuousQueryListener(ContinuousQueryBatchListener batchListener, int batchSize,
+			long batchTimeout, boolean conflate) {
+
+		Assert.notNull(batchListener, "ContinuousQueryBatchListener is required");
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+		Assert.isTrue(batchTimeout > 0, String.format("Batch timeout [%d] must be greater than 0", batchTimeout));
+
+		this.batchListener = batchListener;
+		this.batchSize = batchSize;
+		this.batchTimeout = batchTimeout;
+		this.conflate = conflate;
+
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, newThreadFactory());
+
+		scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		this.scheduler = scheduler;
+	}
+
+	private CustomizableThreadFactory newThreadFactory() {
+
+		CustomizableThreadFactory threadFactory =
+			new CustomizableThreadFactory(String.format("%s-", getClass().getSimpleName()));
+
+		threadFactory.setDaemon(true);
+
+		return threadFactory;
+	}
+
+	/**
+	 * Returns the {@link ContinuousQueryBatchListener} receiving the batches of {@link CqEvent CQ events}.
+	 *
+	 * @return the {@link ContinuousQueryBatchListener} receiving the batches of {@link CqEvent CQ events}.
+	 */
+	public ContinuousQueryBatchListener getBatchListener() {
+		return this.batchListener;
+	}
+
+	/**
+	 * Returns the maximum number of {@link CqEvent CQ events} in a batch.
+	 *
+	 * @return the maximum number of {@link CqEvent CQ events} in a batch.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the maximum time, in milliseconds, a {@link CqEvent CQ event} waits in a batch.
+	 *
+	 * @return the maximum time, in milliseconds, a {@link CqEvent CQ event} waits in a batch.
+	 */
+	public long getBatchTimeout() {
+		return this.batchTimeout;
+	}
+
+	/**
+	 * Determines whether {@link CqEvent CQ events} are conflated by key within a batch.
+	 *
+	 * @return a boolean value indicating whether {@link CqEvent CQ events} are conflated by key within a batch.
+	 */
+	public boolean isConflate() {
+		return this.conflate;
+	}
+
+	/**
+	 * Sets the {@link ErrorHandler} invoked when the {@link ContinuousQueryBatchListener} throws an exception.
+	 *
+	 * @param errorHandler {@link ErrorHandler} invoked when the {@link ContinuousQueryBatchListener}
+	 * throws an exception.
+	 * @see org.springframework.util.ErrorHandler
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Returns the number of {@link CqEvent CQ events} waiting to be delivered.
+	 *
+	 * @return the number of {@link CqEvent CQ events} waiting to be delivered.
+	 */
+	public synchronized int getPendingEventCount() {
+		return this.pendingEvents.size();
+	}
+
+	/**
+	 * Adds the {@link CqEvent CQ event} to the current batch.
+	 *
+	 * @param event {@link CqEvent CQ event} to add to the current batch.
+	 */
+	@Override
+	public synchronized void onEvent(CqEvent event) {
+
+		if (this.scheduler.isShutdown()) {
+			logger.warn("CQ event received after BatchingContinuousQueryListener was destroyed; Event [{}] is ignored",
+				event);
+			return;
+		}
+
+		Object key = isConflate() && event.getKey() != null ? event.getKey() : new Object();
+
+		this.pendingEvents.remove(key);
+		this.pendingEvents.put(key, event);
+
+		if (this.pendingEvents.size() >= getBatchSize()) {
+			if (!this.flushRequested) {
+				this.flushRequested = true;
+				this.scheduler.execute(this::flush);
+			}
+		}
+		else if (this.scheduledFlush == null) {
+			this.scheduledFlush = this.scheduler.schedule(this::flush, getBatchTimeout(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Delivers all pending {@link CqEvent CQ events}, in batches of at most the maximum batch size.
+	 */
+	void flush() {
+
+		for (List<CqEvent> batch = nextBatch(); !batch.isEmpty(); batch = nextBatch()) {
+			deliver(batch);
+		}
+	}
+
+	private synchronized List<CqEvent> nextBatch() {
+
+		List<CqEvent> batch = new ArrayList<>(Math.min(getBatchSize(), this.pendingEvents.size()));
+
+		Iterator<CqEvent> iterator = this.pendingEvents.values().iterator();
+
+		while (iterator.hasNext() && batch.size() < getBatchSize()) {
+			batch.add(iterator.next());
+			iterator.remove();
+		}
+
+		if (this.pendingEvents.isEmpty()) {
+
+			this.flushRequested = false;
+
+			if (this.scheduledFlush != null) {
+				this.scheduledFlush.cancel(false);
+				this.scheduledFlush = null;
+			}
+		}
+
+		return batch;
+	}
+
+	private void deliver(List<CqEvent> batch) {
+
+		try {
+			getBatchListener().onEvents(Collections.unmodifiableList(batch));
+		}
+		catch (Throwable cause) {
+			if (this.errorHandler != null) {
+				this.errorHandler.handleError(cause);
+			}
+			else {
+				logger.warn("Execution of CQ batch listener failed; No ErrorHandler was configured", cause);
+			}
+		}
+	}
+
+	/**
+	 * Delivers all pending {@link CqEvent CQ events} and stops the batching {@link Thread}.
+	 */
+	@Override
+	public void destroy() {
+
+		this.scheduler.shutdown();
+
+		try {
+			if (!this.scheduler.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+				this.scheduler.shutdownNow();
+			}
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+
+		flush();
+	}
+}
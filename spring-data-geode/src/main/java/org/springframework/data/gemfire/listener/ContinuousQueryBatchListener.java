@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.List;
+
+import org.apache.geode.cache.query.CqEvent;
+
+/**
+ * Continuous Query (CQ) listener receiving CQ events in batches.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.springframework.data.gemfire.listener.BatchingContinuousQueryListener
+ * @since 2.3.0
+ */
+@FunctionalInterface
+public interface ContinuousQueryBatchListener {
+
+	/**
+	 * Action performed by the listener when notified of a batch of CQ events.
+	 *
+	 * @param events {@link List} of {@link CqEvent CQ events} in the order they were received.
+	 * @see org.apache.geode.cache.query.CqEvent
+	 */
+	void onEvents(List<CqEvent> events);
+
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.gemfire.listener;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -28,6 +29,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.gemfire.listener.adapter.ContinuousQueryListenerAdapter;
 import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -41,6 +43,7 @@ import org.springframework.util.StringUtils;
 public class ContinuousQueryDefinition implements InitializingBean {
 
 	private final boolean durable;
+	private final boolean initialResults;
 
 	private final ContinuousQueryListener listener;
 
@@ -62,13 +65,36 @@ public class ContinuousQueryDefinition implements InitializingBean {
 
 		String query = continuousQuery.query();
 
+		ContinuousQueryListener listener = continuousQuery.batchSize() > 0
+			? newBatchingListener(delegate, method, continuousQuery)
+			: newListenerAdapter(delegate, method);
+
+		boolean durable = continuousQuery.durable();
+		boolean initialResults = continuousQuery.initialResults();
+
+		return new ContinuousQueryDefinition(name, query, listener, durable, initialResults);
+	}
+
+	private static ContinuousQueryListener newListenerAdapter(Object delegate, Method method) {
+
 		ContinuousQueryListenerAdapter listener = new ContinuousQueryListenerAdapter(delegate);
 
 		listener.setDefaultListenerMethod(method.getName());
 
-		boolean durable = continuousQuery.durable();
+		return listener;
+	}
+
+	private static ContinuousQueryListener newBatchingListener(Object delegate, Method method,
+			ContinuousQuery continuousQuery) {
 
-		return new ContinuousQueryDefinition(name, query, listener, durable);
+		Assert.isTrue(method.getParameterCount() == 1 && List.class.isAssignableFrom(method.getParameterTypes()[0]),
+			() -> String.format("Method [%s] must declare a single List parameter to receive batches of CQ events",
+				method));
+
+		ReflectionUtils.makeAccessible(method);
+
+		return new BatchingContinuousQueryListener(events -> ReflectionUtils.invokeMethod(method, delegate, events),
+			continuousQuery.batchSize(), continuousQuery.batchTimeout(), continuousQuery.conflate());
 	}
 
 	public ContinuousQueryDefinition(String query, ContinuousQueryListener listener) {
@@ -84,11 +110,17 @@ public class ContinuousQueryDefinition implements InitializingBean {
 	}
 
 	public ContinuousQueryDefinition(String name, String query, ContinuousQueryListener listener, boolean durable) {
+		this(name, query, listener, durable, false);
+	}
+
+	public ContinuousQueryDefinition(String name, String query, ContinuousQueryListener listener, boolean durable,
+			boolean initialResults) {
 
 		this.name = name;
 		this.query = query;
 		this.listener = listener;
 		this.durable = durable;
+		this.initialResults = initialResults;
 
 		afterPropertiesSet();
 	}
@@ -102,6 +134,16 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		return this.durable;
 	}
 
+	/**
+	 * Determines whether the CQ is executed with initial results.
+	 *
+	 * @return a boolean indicating if the CQ is executed with initial results.
+	 * @see org.apache.geode.cache.query.CqQuery#executeWithInitialResults()
+	 */
+	public boolean isInitialResults() {
+		return this.initialResults;
+	}
+
 	/**
 	 * Determines whether the CQ was named.
 	 *
@@ -20,16 +20,27 @@ import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.RegionService;
@@ -40,6 +51,7 @@ import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqException;
 import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryService;
 
@@ -55,6 +67,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.data.gemfire.GemfireQueryException;
 import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.client.support.DefaultableDelegatingPoolAdapter;
@@ -108,6 +121,11 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	private volatile boolean manageExecutor = false;
 	private volatile boolean running = false;
 
+	private boolean virtualThreads = false;
+
+	private int dispatchLanes = 0;
+	private int dispatchQueueCapacity = KeyOrderedTaskExecutor.DEFAULT_QUEUE_CAPACITY;
+	private int executionConcurrency = 1;
 	private int phase = Integer.MAX_VALUE;
 
 	private BeanFactory beanFactory;
@@ -116,6 +134,8 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private Executor taskExecutor;
 
+	private KeyOrderedTaskExecutor.OverflowPolicy dispatchOverflowPolicy = KeyOrderedTaskExecutor.OverflowPolicy.BLOCK;
+
 	private List<ContinuousQueryListenerContainerConfigurer> cqListenerContainerConfigurers = Collections.emptyList();
 
 	private ContinuousQueryListenerContainerConfigurer compositeCqListenerContainerConfigurer =
@@ -126,6 +146,10 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private Queue<CqQuery> continuousQueries = new ConcurrentLinkedQueue<>();
 
+	private Set<CqQuery> initialResultsQueries = ConcurrentHashMap.newKeySet();
+
+	private Map<String, Long> executionTimes = new ConcurrentHashMap<>();
+
 	private QueryService queryService;
 
 	private Set<ContinuousQueryDefinition> continuousQueryDefinitions = new LinkedHashSet<>();
@@ -292,10 +316,15 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 * <p>Called if no explicit {@link TaskExecutor} has been configured.
 	 *
 	 * <p>The default implementation builds a {@link SimpleAsyncTaskExecutor} with the specified bean name
-	 * (or the class name, if no bean name is specified) as the Thread name prefix.</p>
+	 * (or the class name, if no bean name is specified) as the Thread name prefix.  If the number of
+	 * {@link #setDispatchLanes(int) dispatch lanes} is set, then a {@link KeyOrderedTaskExecutor} is built instead.
+	 * If {@link #setVirtualThreads(boolean) virtual threads} are enabled, then a {@link VirtualThreadTaskExecutor}
+	 * is built, taking precedence over the dispatch lanes.</p>
 	 *
 	 * @return an instance of the {@link TaskExecutor} used to process CQ events asynchronously.
 	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor
+	 * @see org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor
+	 * @see org.springframework.data.gemfire.listener.VirtualThreadTaskExecutor
 	 */
 	protected Executor createDefaultTaskExecutor() {
 
@@ -304,7 +333,14 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			.map(it -> String.format("%s-", it))
 			.orElse(DEFAULT_THREAD_NAME_PREFIX);
 
-		return new SimpleAsyncTaskExecutor(threadNamePrefix);
+		if (isVirtualThreads()) {
+			return new VirtualThreadTaskExecutor(threadNamePrefix);
+		}
+
+		return getDispatchLanes() > 0
+			? new KeyOrderedTaskExecutor(threadNamePrefix, getDispatchLanes(), getDispatchQueueCapacity(),
+				getDispatchOverflowPolicy())
+			: new SimpleAsyncTaskExecutor(threadNamePrefix);
 	}
 
 	/**
@@ -484,6 +520,124 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return this.compositeCqListenerContainerConfigurer;
 	}
 
+	/**
+	 * Sets the maximum number of {@link CqQuery CQs} executed (registered with the servers) concurrently
+	 * when this container starts, or when {@link #addListeners(Collection) listeners are added}
+	 * to a running container.
+	 *
+	 * Each CQ is executed independently; a CQ failing to execute does not prevent the other CQs from being executed.
+	 * Defaults to {@literal 1}, which executes the CQs one at a time, stopping on the first failure.
+	 *
+	 * @param executionConcurrency maximum number of {@link CqQuery CQs} executed concurrently.
+	 */
+	public void setExecutionConcurrency(int executionConcurrency) {
+		this.executionConcurrency = executionConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of {@link CqQuery CQs} executed concurrently.
+	 *
+	 * @return the maximum number of {@link CqQuery CQs} executed concurrently.
+	 */
+	public int getExecutionConcurrency() {
+		return this.executionConcurrency;
+	}
+
+	/**
+	 * Returns the time, in milliseconds, each {@link CqQuery CQ} took to execute, keyed by {@link CqQuery#getName()}.
+	 *
+	 * @return an unmodifiable {@link Map} of the execution times of the {@link CqQuery CQs}.
+	 */
+	public Map<String, Long> getExecutionTimes() {
+		return Collections.unmodifiableMap(this.executionTimes);
+	}
+
+	/**
+	 * Sets whether CQ events are processed on virtual {@link Thread Threads} when this container
+	 * creates its own {@link VirtualThreadTaskExecutor}.
+	 *
+	 * Each CQ event is processed on its own virtual {@link Thread}, while events for the same key are still
+	 * processed one at a time, in order.  Requires Java 21 or later.  Defaults to {@literal false}.
+	 *
+	 * @param virtualThreads boolean value indicating whether CQ events are processed on virtual {@link Thread Threads}.
+	 * @see org.springframework.data.gemfire.listener.VirtualThreadTaskExecutor
+	 */
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+	/**
+	 * Determines whether CQ events are processed on virtual {@link Thread Threads}.
+	 *
+	 * @return a boolean value indicating whether CQ events are processed on virtual {@link Thread Threads}.
+	 */
+	public boolean isVirtualThreads() {
+		return this.virtualThreads;
+	}
+
+	/**
+	 * Sets the number of single-threaded lanes onto which CQ events are hashed by key when this container
+	 * creates its own {@link KeyOrderedTaskExecutor}.
+	 *
+	 * Events for the same key are processed one at a time, in order.  Defaults to {@literal 0}, in which case
+	 * a {@link SimpleAsyncTaskExecutor} is used and events are neither bounded nor ordered.
+	 *
+	 * @param dispatchLanes number of lanes used to process CQ events.
+	 * @see org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor
+	 */
+	public void setDispatchLanes(int dispatchLanes) {
+		this.dispatchLanes = dispatchLanes;
+	}
+
+	/**
+	 * Returns the number of single-threaded lanes used to process CQ events.
+	 *
+	 * @return the number of single-threaded lanes used to process CQ events.
+	 */
+	public int getDispatchLanes() {
+		return this.dispatchLanes;
+	}
+
+	/**
+	 * Sets the maximum number of CQ events queued per lane.
+	 *
+	 * @param dispatchQueueCapacity maximum number of CQ events queued per lane.
+	 * @see #setDispatchLanes(int)
+	 */
+	public void setDispatchQueueCapacity(int dispatchQueueCapacity) {
+		this.dispatchQueueCapacity = dispatchQueueCapacity;
+	}
+
+	/**
+	 * Returns the maximum number of CQ events queued per lane.
+	 *
+	 * @return the maximum number of CQ events queued per lane.
+	 */
+	public int getDispatchQueueCapacity() {
+		return this.dispatchQueueCapacity;
+	}
+
+	/**
+	 * Sets the {@link KeyOrderedTaskExecutor.OverflowPolicy} applied when a lane's queue is full.
+	 *
+	 * Note, {@link KeyOrderedTaskExecutor.OverflowPolicy#BLOCK} blocks the GemFire/Geode Thread delivering CQ events.
+	 *
+	 * @param dispatchOverflowPolicy {@link KeyOrderedTaskExecutor.OverflowPolicy} applied when a lane's queue is full.
+	 * @see #setDispatchLanes(int)
+	 */
+	public void setDispatchOverflowPolicy(KeyOrderedTaskExecutor.OverflowPolicy dispatchOverflowPolicy) {
+		this.dispatchOverflowPolicy = dispatchOverflowPolicy;
+	}
+
+	/**
+	 * Returns the {@link KeyOrderedTaskExecutor.OverflowPolicy} applied when a lane's queue is full.
+	 *
+	 * @return the {@link KeyOrderedTaskExecutor.OverflowPolicy} applied when a lane's queue is full.
+	 */
+	public KeyOrderedTaskExecutor.OverflowPolicy getDispatchOverflowPolicy() {
+		return this.dispatchOverflowPolicy;
+	}
+
 	/**
 	 * Set an {@link ErrorHandler} to be invoked in case of any uncaught {@link Exception Exceptions} thrown
 	 * while processing a CQ event.
@@ -617,6 +771,27 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	/**
+	 * Adds the {@link ContinuousQueryDefinition Continuous Query (CQ) definitions} to the (potentially running)
+	 * container.
+	 *
+	 * If the container is running, the CQs are executed using the configured
+	 * {@link #setExecutionConcurrency(int) execution concurrency}.
+	 *
+	 * @param definitions {@link Collection} of {@link ContinuousQueryDefinition CQ definitions} to register.
+	 * @see #addListener(ContinuousQueryDefinition)
+	 */
+	public void addListeners(Collection<ContinuousQueryDefinition> definitions) {
+
+		List<CqQuery> queries = CollectionUtils.nullSafeCollection(definitions).stream()
+			.map(this::addContinuousQuery)
+			.collect(Collectors.toList());
+
+		if (isRunning()) {
+			execute(queries);
+		}
+	}
+
 	public boolean addContinuousQueryDefinition(ContinuousQueryDefinition definition) {
 
 		return Optional.ofNullable(definition)
@@ -628,11 +803,20 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 		try {
 
+			Optional.ofNullable(definition.getListener())
+				.filter(BatchingContinuousQueryListener.class::isInstance)
+				.map(BatchingContinuousQueryListener.class::cast)
+				.ifPresent(it -> it.setErrorHandler(this::handleListenerError));
+
 			CqAttributes attributes = definition.toCqAttributes(this::newCqListener);
 
 			CqQuery query = (definition.isNamed() ? newNamedContinuousQuery(definition, attributes)
 				: newUnnamedContinuousQuery(definition, attributes));
 
+			if (definition.isInitialResults()) {
+				this.initialResultsQueries.add(query);
+			}
+
 			return manage(query);
 		}
 		catch (QueryException cause) {
@@ -676,13 +860,104 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	}
 
 	void doStart() {
-		getContinuousQueries().forEach(this::execute);
+		execute(getContinuousQueries());
+	}
+
+	private void execute(Collection<CqQuery> queries) {
+
+		long startTime = System.nanoTime();
+
+		int concurrency = Math.min(getExecutionConcurrency(), queries.size());
+
+		if (concurrency > 1) {
+			executeConcurrently(queries, concurrency);
+		}
+		else {
+			queries.forEach(this::execute);
+		}
+
+		if (!queries.isEmpty() && logger.isInfoEnabled()) {
+
+			long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+			resolveSlowestQuery(queries)
+				.ifPresent(slowest -> logger.info("Executed [{}] CQs in [{}] ms using [{}] Thread(s);"
+					+ " slowest CQ [{}] took [{}] ms", queries.size(), elapsedTime, Math.max(concurrency, 1),
+						slowest, this.executionTimes.get(slowest)));
+		}
+	}
+
+	/**
+	 * Resolves the name of the slowest of the given {@link CqQuery queries} from the execution times recorded
+	 * when the {@link CqQuery queries} were last executed, ignoring the timings of all other {@link CqQuery queries}.
+	 *
+	 * @param queries {@link Collection} of {@link CqQuery queries} executed together.
+	 * @return the name of the slowest {@link CqQuery}, or {@link Optional#empty()} if none have been executed.
+	 */
+	Optional<String> resolveSlowestQuery(Collection<CqQuery> queries) {
+
+		return queries.stream()
+			.map(query -> String.valueOf(query.getName()))
+			.filter(this.executionTimes::containsKey)
+			.max(Comparator.comparing(this.executionTimes::get));
+	}
+
+	private void executeConcurrently(Collection<CqQuery> queries, int concurrency) {
+
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+			new CustomizableThreadFactory(String.format("%sCqExecution-", DEFAULT_THREAD_NAME_PREFIX)));
+
+		try {
+
+			List<CompletableFuture<Void>> futures = queries.stream()
+				.map(query -> CompletableFuture.runAsync(() -> execute(query), executor))
+				.collect(Collectors.toList());
+
+			RuntimeException failure = null;
+
+			for (CompletableFuture<Void> future : futures) {
+				try {
+					future.join();
+				}
+				catch (CompletionException cause) {
+
+					RuntimeException queryFailure = cause.getCause() instanceof RuntimeException
+						? (RuntimeException) cause.getCause() : cause;
+
+					logger.error("CQ execution failed", queryFailure);
+
+					if (failure == null) {
+						failure = queryFailure;
+					}
+					else {
+						failure.addSuppressed(queryFailure);
+					}
+				}
+			}
+
+			if (failure != null) {
+				throw failure;
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
 	}
 
 	private void execute(CqQuery query) {
 
+		long startTime = System.nanoTime();
+
 		try {
-			query.execute();
+			if (this.initialResultsQueries.contains(query)) {
+				executeWithInitialResults(query);
+			}
+			else {
+				query.execute();
+			}
+
+			this.executionTimes.put(String.valueOf(query.getName()),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
 		}
 		catch (QueryException cause) {
 			throw new GemfireQueryException(String.format("Could not execute query [%1$s]; state is [%2$s]",
@@ -690,16 +965,89 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	/**
+	 * Executes the {@link CqQuery} with initial results and dispatches each entry of the {@link CqResults}
+	 * to the {@link ContinuousQueryListener} as an {@link InitialResultCqEvent}.
+	 *
+	 * {@link CqEvent CQ events} received while the initial results are being dispatched are held back
+	 * and dispatched afterwards, in order.  The {@link CqResults} are iterated and dispatched as-is
+	 * without being copied.
+	 *
+	 * @param query {@link CqQuery} to execute.
+	 * @throws QueryException if the {@link CqQuery} could not be executed.
+	 * @see org.apache.geode.cache.query.CqQuery#executeWithInitialResults()
+	 * @see org.springframework.data.gemfire.listener.InitialResultCqEvent
+	 */
+	private void executeWithInitialResults(CqQuery query) throws QueryException {
+
+		List<EventDispatcherAdapter> eventDispatchers = resolveEventDispatchers(query);
+
+		eventDispatchers.forEach(EventDispatcherAdapter::hold);
+
+		try {
+
+			CqResults<?> initialResults = query.executeWithInitialResults();
+
+			int count = 0;
+
+			for (Object result : initialResults) {
+
+				CqEvent event = InitialResultCqEvent.from(query, result);
+
+				eventDispatchers.forEach(eventDispatcher -> dispatchEvent(eventDispatcher.getListener(), event));
+				count++;
+			}
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Dispatched [{}] initial results for query [{}]", count, query.getName());
+			}
+		}
+		finally {
+			eventDispatchers.forEach(EventDispatcherAdapter::release);
+		}
+	}
+
+	private List<EventDispatcherAdapter> resolveEventDispatchers(CqQuery query) {
+
+		List<EventDispatcherAdapter> eventDispatchers = new ArrayList<>();
+
+		Optional.ofNullable(query.getCqAttributes())
+			.map(CqAttributes::getCqListeners)
+			.ifPresent(cqListeners -> Arrays.stream(cqListeners)
+				.filter(EventDispatcherAdapter.class::isInstance)
+				.map(EventDispatcherAdapter.class::cast)
+				.forEach(eventDispatchers::add));
+
+		return eventDispatchers;
+	}
+
 	/**
 	 * Asynchronously dispatches the {@link CqEvent CQ event} to the targeted {@link ContinuousQueryListener}.
 	 *
+	 * If the configured {@link Executor} is a {@link KeyedTaskExecutor}, then the {@link CqEvent CQ event}
+	 * is dispatched by {@link CqEvent#getKey() key} to preserve the order of events for the same key.
+	 * {@link CqEvent CQ events} for a {@link BatchingContinuousQueryListener} are added to the current batch
+	 * directly.
+	 *
 	 * @param listener {@link ContinuousQueryListener} which will process/handle the {@link CqEvent CQ event}.
 	 * @param event {@link CqEvent CQ event} to process.
 	 * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
 	 * @see org.apache.geode.cache.query.CqEvent
 	 */
 	protected void dispatchEvent(ContinuousQueryListener listener, CqEvent event) {
-		getTaskExecutor().execute(() -> notify(listener, event));
+
+		Executor taskExecutor = getTaskExecutor();
+
+		// batches are delivered on the BatchingContinuousQueryListener's own Thread
+		if (listener instanceof BatchingContinuousQueryListener) {
+			notify(listener, event);
+		}
+		else if (taskExecutor instanceof KeyedTaskExecutor) {
+			((KeyedTaskExecutor) taskExecutor).execute(event.getKey(), () -> notify(listener, event));
+		}
+		else {
+			taskExecutor.execute(() -> notify(listener, event));
+		}
 	}
 
 	/**
@@ -789,6 +1137,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	@Override
 	public void destroy() throws Exception {
 		stop();
+		getContinuousQueries().forEach(this::destroyBatchingListeners);
 		closeQueries();
 		destroyExecutor();
 		this.initialized = false;
@@ -809,6 +1158,16 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		});
 
 		getContinuousQueries().clear();
+		this.initialResultsQueries.clear();
+		this.executionTimes.clear();
+	}
+
+	private void destroyBatchingListeners(CqQuery query) {
+
+		resolveEventDispatchers(query).stream()
+			.map(EventDispatcherAdapter::getListener)
+			.filter(BatchingContinuousQueryListener.class::isInstance)
+			.forEach(listener -> ((BatchingContinuousQueryListener) listener).destroy());
 	}
 
 	private void destroyExecutor() {
@@ -834,6 +1193,10 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 		private final ContinuousQueryListener listener;
 
+		private List<CqEvent> heldEvents;
+
+		private final Object monitor = new Object();
+
 		protected EventDispatcherAdapter(ContinuousQueryListener listener) {
 			this.listener = Optional.ofNullable(listener)
 				.orElseThrow(() -> newIllegalArgumentException("ContinuousQueryListener is required"));
@@ -843,12 +1206,45 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			return this.listener;
 		}
 
-		public void onError(CqEvent event) {
+		/**
+		 * Holds back {@link CqEvent CQ events} until {@link #release()} is called.
+		 */
+		void hold() {
+			synchronized (this.monitor) {
+				this.heldEvents = new ArrayList<>();
+			}
+		}
+
+		/**
+		 * Dispatches all held {@link CqEvent CQ events}, in order, and stops holding back events.
+		 */
+		void release() {
+			synchronized (this.monitor) {
+				if (this.heldEvents != null) {
+					this.heldEvents.forEach(event -> dispatchEvent(getListener(), event));
+					this.heldEvents = null;
+				}
+			}
+		}
+
+		private void dispatch(CqEvent event) {
+
+			synchronized (this.monitor) {
+				if (this.heldEvents != null) {
+					this.heldEvents.add(event);
+					return;
+				}
+			}
+
 			dispatchEvent(getListener(), event);
 		}
 
+		public void onError(CqEvent event) {
+			dispatch(event);
+		}
+
 		public void onEvent(CqEvent event) {
-			dispatchEvent(getListener(), event);
+			dispatch(event);
 		}
 
 		public void close() {
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
+import org.apache.geode.cache.query.Struct;
+
+/**
+ * {@link CqEvent} representing a single entry of the {@link CqResults initial results}
+ * of a {@link CqQuery} executed with {@link CqQuery#executeWithInitialResults()}.
+ *
+ * The {@link #getBaseOperation() base} and {@link #getQueryOperation() query} {@link Operation Operations}
+ * are {@link Operation#CREATE} since the entry is entering the result set of the CQ.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.apache.geode.cache.query.CqQuery#executeWithInitialResults()
+ * @since 2.3.0
+ */
+public class InitialResultCqEvent implements CqEvent {
+
+	private final CqQuery query;
+
+	private final Object key;
+	private final Object value;
+
+	/**
+	 * Factory method used to construct a new instance of {@link InitialResultCqEvent} from an element
+	 * of the {@link CqResults}.
+	 *
+	 * The {@link CqResults} contain {@link Struct Structs} with a {@literal key} and {@literal value} field.
+	 *
+	 * @param query {@link CqQuery} that returned the initial results.
+	 * @param result element of the {@link CqResults}.
+	 * @return a new {@link InitialResultCqEvent}.
+	 */
+	public static InitialResultCqEvent from(CqQuery query, Object result) {
+
+		if (result instanceof Struct) {
+
+			Struct struct = (Struct) result;
+
+			return new InitialResultCqEvent(query, struct.get("key"), struct.get("value"));
+		}
+
+		return new InitialResultCqEvent(query, null, result);
+	}
+
+	/**
+	 * Constructs a new instance of {@link InitialResultCqEvent}.
+	 *
+	 * @param query {@link CqQuery} that returned the initial results.
+	 * @param key key of the entry.
+	 * @param value value of the entry.
+	 */
+	public InitialResultCqEvent(CqQuery query, Object key, Object value) {
+		this.query = query;
+		this.key = key;
+		this.value = value;
+	}
+
+	@Override
+	public CqQuery getCq() {
+		return this.query;
+	}
+
+	@Override
+	public Operation getBaseOperation() {
+		return Operation.CREATE;
+	}
+
+	@Override
+	public Operation getQueryOperation() {
+		return Operation.CREATE;
+	}
+
+	@Override
+	public Object getKey() {
+		return this.key;
+	}
+
+	@Override
+	public Object getNewValue() {
+		return this.value;
+	}
+
+	@Override
+	public Throwable getThrowable() {
+		return null;
+	}
+
+	@Override
+	public byte[] getDeltaValue() {
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[key = %2$s, value = %3$s]", getClass().getSimpleName(), getKey(), getNewValue());
+	}
+}
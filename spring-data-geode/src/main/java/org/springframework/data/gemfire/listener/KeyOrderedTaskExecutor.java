@@ -0,0 +1,447 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link KeyedTaskExecutor} hashing tasks by key onto a fixed number of single-threaded lanes, each with a bounded queue,
+ * so that tasks for the same key are run one at a time, in the order they were submitted.
+ *
+ * When a lane's queue is full, the configured {@link OverflowPolicy} determines whether the submitting
+ * {@link Thread} blocks, the oldest queued task is dropped, or the task replaces a task already queued
+ * for the same key.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.data.gemfire.listener.KeyedTaskExecutor
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @since 2.3.0
+ */
+public class KeyOrderedTaskExecutor implements KeyedTaskExecutor, DisposableBean {
+
+	public static final int DEFAULT_LANES = Runtime.getRuntime().availableProcessors();
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private final AtomicInteger laneIndex = new AtomicInteger(0);
+
+	private final Lane[] lanes;
+
+	private final LongAdder conflatedCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final OverflowPolicy overflowPolicy;
+
+	/**
+	 * Constructs a new instance of {@link KeyOrderedTaskExecutor} with the default number of lanes and queue capacity,
+	 * blocking on overflow.
+	 *
+	 * @param threadNamePrefix {@link String} used as the prefix of the lane {@link Thread} names.
+	 */
+	public KeyOrderedTaskExecutor(String threadNamePrefix) {
+		this(threadNamePrefix, DEFAULT_LANES, DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Constructs a new instance of {@link KeyOrderedTaskExecutor}, creating lane {@link Thread Threads}
+	 * with the given {@link String name prefix}.
+	 *
+	 * @param threadNamePrefix {@link String} used as the prefix of the lane {@link Thread} names.
+	 * @param lanes number of single-threaded lanes; must be greater than {@literal 0}.
+	 * @param queueCapacity maximum number of queued tasks per lane; must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when a lane's queue is full.
+	 * @throws IllegalArgumentException if {@code lanes} or {@code queueCapacity} is less than {@literal 1}.
+	 */
+	public KeyOrderedTaskExecutor(String threadNamePrefix, int lanes, int queueCapacity,
+			OverflowPolicy overflowPolicy) {
+
+		this(new CustomizableThreadFactory(threadNamePrefix), lanes, queueCapacity, overflowPolicy);
+	}
+
+	/**
+	 * Constructs a new instance of {@link KeyOrderedTaskExecutor} creating lane {@link Thread Threads}
+	 * with the given {@link ThreadFactory}.
+	 *
+	 * @param threadFactory {@link ThreadFactory} used to create a {@link Thread} for each lane.
+	 * @param lanes number of single-threaded lanes; must be greater than {@literal 0}.
+	 * @param queueCapacity maximum number of queued tasks per lane; must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when a lane's queue is full.
+	 * @throws IllegalArgumentException if {@code lanes} or {@code queueCapacity} is less than {@literal 1}.
+	 */
+	public KeyOrderedTaskExecutor(ThreadFactory threadFactory, int lanes, int queueCapacity,
+			OverflowPolicy overflowPolicy) {
+
+		Assert.notNull(threadFactory, "ThreadFactory must not be null");
+		Assert.isTrue(lanes > 0, String.format("Lanes [%d] must be greater than 0", lanes));
+		Assert.isTrue(queueCapacity > 0, String.format("Queue capacity [%d] must be greater than 0", queueCapacity));
+
+		this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+		this.lanes = new Lane[lanes];
+
+		for (int index = 0; index < lanes; index++) {
+			this.lanes[index] = new Lane(threadFactory, queueCapacity);
+		}
+	}
+
+	/**
+	 * Returns the {@link OverflowPolicy} applied when a lane's queue is full.
+	 *
+	 * @return the {@link OverflowPolicy} applied when a lane's queue is full.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Returns the number of lanes.
+	 *
+	 * @return the number of lanes.
+	 */
+	public int getLanes() {
+		return this.lanes.length;
+	}
+
+	/**
+	 * Runs the given task on the next lane, in round-robin order, without any ordering guarantee.
+	 *
+	 * @param task {@link Runnable} to run.
+	 */
+	@Override
+	public void execute(Runnable task) {
+		this.lanes[Math.floorMod(this.laneIndex.getAndIncrement(), this.lanes.length)].submit(null, task);
+	}
+
+	/**
+	 * Runs the given task on the lane selected by the hash of the given key, after all previously submitted tasks
+	 * with the same key.
+	 *
+	 * @param key {@link Object key} used to select the lane; may be {@literal null}.
+	 * @param task {@link Runnable} to run.
+	 * @throws TaskRejectedException if this {@link KeyOrderedTaskExecutor} was destroyed, or the submitting
+	 * {@link Thread} was interrupted while waiting on a full queue.
+	 */
+	@Override
+	public void execute(Object key, Runnable task) {
+		this.lanes[laneFor(key)].submit(key, task);
+	}
+
+	int laneFor(Object key) {
+
+		int hash = Objects.hashCode(key);
+
+		return Math.floorMod(hash ^ (hash >>> 16), this.lanes.length);
+	}
+
+	/**
+	 * Returns the number of tasks currently queued across all lanes.
+	 *
+	 * @return the number of tasks currently queued across all lanes.
+	 */
+	public int getQueueDepth() {
+
+		int queueDepth = 0;
+
+		for (Lane lane : this.lanes) {
+			queueDepth += lane.size();
+		}
+
+		return queueDepth;
+	}
+
+	/**
+	 * Returns the number of tasks currently queued in the given lane.
+	 *
+	 * @param lane index of the lane.
+	 * @return the number of tasks currently queued in the given lane.
+	 */
+	public int getQueueDepth(int lane) {
+		return this.lanes[lane].size();
+	}
+
+	/**
+	 * Returns the time the oldest queued task in any lane has been waiting to run.
+	 *
+	 * @return the lag, in milliseconds, of the most delayed lane.
+	 */
+	public long getLagMillis() {
+
+		long lagNanos = 0L;
+
+		long now = System.nanoTime();
+
+		for (Lane lane : this.lanes) {
+			lagNanos = Math.max(lagNanos, lane.lagNanos(now));
+		}
+
+		return TimeUnit.NANOSECONDS.toMillis(lagNanos);
+	}
+
+	/**
+	 * Returns the number of tasks replaced by a newer task for the same key using {@link OverflowPolicy#CONFLATE}.
+	 *
+	 * @return the number of conflated tasks.
+	 */
+	public long getConflatedCount() {
+		return this.conflatedCount.sum();
+	}
+
+	/**
+	 * Returns the number of queued tasks dropped using {@link OverflowPolicy#DROP_OLDEST}.
+	 *
+	 * @return the number of dropped tasks.
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.sum();
+	}
+
+	/**
+	 * Stops accepting new tasks; the lanes finish running the tasks already queued and then terminate.
+	 */
+	@Override
+	public void destroy() {
+
+		for (Lane lane : this.lanes) {
+			lane.shutdown();
+		}
+	}
+
+	/**
+	 * Policy applied when a task is submitted to a lane whose queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Blocks the submitting {@link Thread} until the lane has room.
+		 */
+		BLOCK,
+
+		/**
+		 * Drops the oldest task queued in the lane.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Replaces the most recently queued task with the same key, otherwise blocks.
+		 */
+		CONFLATE
+
+	}
+
+	private static final class KeyedTask {
+
+		private final Object key;
+
+		private final long enqueuedNanos;
+
+		private volatile Runnable task;
+
+		private KeyedTask(Object key, Runnable task) {
+			this.key = key;
+			this.task = task;
+			this.enqueuedNanos = System.nanoTime();
+		}
+	}
+
+	private final class Lane implements Runnable {
+
+		private final int capacity;
+
+		private final Condition notEmpty;
+		private final Condition notFull;
+
+		private final Deque<KeyedTask> queue = new ArrayDeque<>();
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private volatile boolean running = true;
+
+		private Lane(ThreadFactory threadFactory, int capacity) {
+
+			this.capacity = capacity;
+			this.notEmpty = this.lock.newCondition();
+			this.notFull = this.lock.newCondition();
+
+			Thread thread = threadFactory.newThread(this);
+
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		private void submit(Object key, Runnable task) {
+
+			Assert.notNull(task, "Task must not be null");
+
+			this.lock.lock();
+
+			try {
+				while (this.queue.size() >= this.capacity) {
+
+					assertRunning();
+
+					if (getOverflowPolicy() == OverflowPolicy.DROP_OLDEST) {
+						this.queue.pollFirst();
+						droppedCount.increment();
+					}
+					else if (getOverflowPolicy() == OverflowPolicy.CONFLATE && conflate(key, task)) {
+						conflatedCount.increment();
+						return;
+					}
+					else {
+						this.notFull.await();
+					}
+				}
+
+				assertRunning();
+
+				this.queue.addLast(new KeyedTask(key, task));
+				this.notEmpty.signal();
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new TaskRejectedException("Interrupted while waiting to queue task", cause);
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private boolean conflate(Object key, Runnable task) {
+
+			if (key != null) {
+
+				Iterator<KeyedTask> queuedTasks = this.queue.descendingIterator();
+
+				while (queuedTasks.hasNext()) {
+
+					KeyedTask queuedTask = queuedTasks.next();
+
+					if (key.equals(queuedTask.key)) {
+						queuedTask.task = task;
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}
+
+		private void assertRunning() {
+
+			if (!this.running) {
+				throw new TaskRejectedException("KeyOrderedTaskExecutor has been destroyed");
+			}
+		}
+
+		@Override
+		public void run() {
+
+			while (true) {
+
+				KeyedTask keyedTask;
+
+				this.lock.lock();
+
+				try {
+					while (this.queue.isEmpty() && this.running) {
+						this.notEmpty.await();
+					}
+
+					keyedTask = this.queue.pollFirst();
+
+					if (keyedTask == null) {
+						return;
+					}
+
+					this.notFull.signal();
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				finally {
+					this.lock.unlock();
+				}
+
+				try {
+					keyedTask.task.run();
+				}
+				catch (Throwable cause) {
+					logger.warn("Task for key [{}] failed", keyedTask.key, cause);
+				}
+			}
+		}
+
+		private long lagNanos(long now) {
+
+			this.lock.lock();
+
+			try {
+				KeyedTask head = this.queue.peekFirst();
+
+				return head != null ? now - head.enqueuedNanos : 0L;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private int size() {
+
+			this.lock.lock();
+
+			try {
+				return this.queue.size();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void shutdown() {
+
+			this.lock.lock();
+
+			try {
+				this.running = false;
+				this.notEmpty.signalAll();
+				this.notFull.signalAll();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+}
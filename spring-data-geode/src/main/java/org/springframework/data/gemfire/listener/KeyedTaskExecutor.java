@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * {@link TaskExecutor} extension running tasks submitted with the same key one at a time,
+ * in the order they were submitted.
+ *
+ * @author John Blum
+ * @see org.springframework.core.task.TaskExecutor
+ * @see org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor
+ * @see org.springframework.data.gemfire.listener.VirtualThreadTaskExecutor
+ * @since 2.3.0
+ */
+public interface KeyedTaskExecutor extends TaskExecutor {
+
+	/**
+	 * Runs the given task after all previously submitted tasks with the same key have completed.
+	 *
+	 * @param key {@link Object key} used to order the task; may be {@literal null}.
+	 * @param task {@link Runnable} to run.
+	 */
+	void execute(Object key, Runnable task);
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.util.Assert;
+
+/**
+ * {@link KeyedTaskExecutor} running each task on its own virtual {@link Thread}.
+ *
+ * Tasks submitted with the same key are chained one after the other so they run in the order they were submitted,
+ * while tasks for different keys run concurrently, without a fixed number of lanes or bounded queues.
+ *
+ * Virtual {@link Thread Threads} require Java 21 or later.  Since this module is compiled for Java 8,
+ * the virtual {@link Thread} {@link ThreadFactory} is resolved reflectively at runtime.
+ *
+ * @author John Blum
+ * @see java.lang.Thread
+ * @see java.util.concurrent.ThreadFactory
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.data.gemfire.listener.KeyedTaskExecutor
+ * @since 2.3.0
+ */
+public class VirtualThreadTaskExecutor implements KeyedTaskExecutor, DisposableBean {
+
+	private volatile boolean destroyed = false;
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<Object, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+	private final ThreadFactory threadFactory;
+
+	/**
+	 * Determines whether the running JVM supports virtual {@link Thread Threads}.
+	 *
+	 * @return a boolean value indicating whether the running JVM supports virtual {@link Thread Threads}.
+	 */
+	public static boolean isSupported() {
+
+		try {
+			Thread.class.getMethod("ofVirtual");
+			return true;
+		}
+		catch (NoSuchMethodException ignore) {
+			return false;
+		}
+	}
+
+	/**
+	 * Creates a new {@link ThreadFactory} producing virtual {@link Thread Threads} named with the given prefix.
+	 *
+	 * @param threadNamePrefix {@link String} used as the prefix of the virtual {@link Thread} names.
+	 * @return a new {@link ThreadFactory} producing virtual {@link Thread Threads}.
+	 * @throws IllegalStateException if the running JVM does not support virtual {@link Thread Threads}.
+	 */
+	public static ThreadFactory newVirtualThreadFactory(String threadNamePrefix) {
+
+		try {
+
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+
+			builder = builderType.getMethod("name", String.class, long.class)
+				.invoke(builder, String.valueOf(threadNamePrefix), 0L);
+
+			return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+		}
+		catch (ReflectiveOperationException cause) {
+			throw new IllegalStateException("Virtual Threads require Java 21 or later", cause);
+		}
+	}
+
+	/**
+	 * Constructs a new instance of {@link VirtualThreadTaskExecutor} creating virtual {@link Thread Threads}
+	 * with the given {@link String name prefix}.
+	 *
+	 * @param threadNamePrefix {@link String} used as the prefix of the virtual {@link Thread} names.
+	 * @throws IllegalStateException if the running JVM does not support virtual {@link Thread Threads}.
+	 * @see #newVirtualThreadFactory(String)
+	 */
+	public VirtualThreadTaskExecutor(String threadNamePrefix) {
+		this(newVirtualThreadFactory(threadNamePrefix));
+	}
+
+	/**
+	 * Constructs a new instance of {@link VirtualThreadTaskExecutor} creating a {@link Thread} for each task
+	 * with the given {@link ThreadFactory}.
+	 *
+	 * @param threadFactory {@link ThreadFactory} used to create a {@link Thread} for each task.
+	 * @throws IllegalArgumentException if {@link ThreadFactory} is {@literal null}.
+	 */
+	public VirtualThreadTaskExecutor(ThreadFactory threadFactory) {
+
+		Assert.notNull(threadFactory, "ThreadFactory must not be null");
+
+		this.threadFactory = threadFactory;
+	}
+
+	/**
+	 * Runs the given task on a new {@link Thread}, without any ordering guarantee.
+	 *
+	 * @param task {@link Runnable} to run.
+	 * @throws TaskRejectedException if this {@link VirtualThreadTaskExecutor} was destroyed.
+	 */
+	@Override
+	public void execute(Runnable task) {
+
+		assertNotDestroyed();
+		start(task);
+	}
+
+	/**
+	 * Runs the given task on a new {@link Thread} after all previously submitted tasks with the same key
+	 * have completed.
+	 *
+	 * @param key {@link Object key} used to order the task; tasks with a {@literal null} key are not ordered.
+	 * @param task {@link Runnable} to run.
+	 * @throws TaskRejectedException if this {@link VirtualThreadTaskExecutor} was destroyed.
+	 */
+	@Override
+	public void execute(Object key, Runnable task) {
+
+		if (key == null) {
+			execute(task);
+		}
+		else {
+
+			assertNotDestroyed();
+
+			Runnable safeTask = () -> run(task);
+
+			CompletableFuture<Void> tail = this.tails.compute(key, (it, previous) -> previous != null
+				? previous.thenRunAsync(safeTask, this::start)
+				: CompletableFuture.runAsync(safeTask, this::start));
+
+			// drop the chain once it has drained so the map only holds keys with work in progress
+			tail.whenComplete((result, cause) -> this.tails.remove(key, tail));
+		}
+	}
+
+	private void assertNotDestroyed() {
+
+		if (this.destroyed) {
+			throw new TaskRejectedException("VirtualThreadTaskExecutor was destroyed");
+		}
+	}
+
+	private void start(Runnable task) {
+		this.threadFactory.newThread(task).start();
+	}
+
+	// a failing task must not break the chain for the key
+	private void run(Runnable task) {
+
+		try {
+			task.run();
+		}
+		catch (Throwable cause) {
+			logger.warn("Task failed", cause);
+		}
+	}
+
+	/**
+	 * Returns the number of keys with tasks waiting to run or running.
+	 *
+	 * @return the number of keys with tasks waiting to run or running.
+	 */
+	public int getActiveKeyCount() {
+		return this.tails.size();
+	}
+
+	/**
+	 * Stops accepting new tasks; tasks already submitted run to completion.
+	 */
+	@Override
+	public void destroy() {
+		this.destroyed = true;
+	}
+}
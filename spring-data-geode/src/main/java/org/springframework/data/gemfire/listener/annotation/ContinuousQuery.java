@@ -40,6 +40,29 @@ import java.lang.annotation.Target;
 @Documented
 public @interface ContinuousQuery {
 
+	/**
+	 * Defines the maximum number of CQ events delivered in a single batch.  When greater than {@literal 0},
+	 * the annotated method must declare a single {@link java.util.List} parameter receiving the batch
+	 * of {@link org.apache.geode.cache.query.CqEvent CQ events}.
+	 *
+	 * Defaults to {@literal 0}, which delivers each CQ event individually.
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * Defines the maximum time, in milliseconds, a CQ event waits in a batch before the batch is delivered.
+	 *
+	 * Defaults to {@literal 100} milliseconds.
+	 */
+	long batchTimeout() default 100L;
+
+	/**
+	 * Determines whether only the latest CQ event for each key is kept in a batch.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean conflate() default false;
+
 	/**
 	 * Determines whether the CQ is durable.
 	 *
@@ -47,6 +70,14 @@ public @interface ContinuousQuery {
 	 */
 	boolean durable() default false;
 
+	/**
+	 * Determines whether the CQ is executed with initial results, which are delivered to the listener, one entry
+	 * per event, before any CQ events received while the initial results are being processed.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean initialResults() default false;
+
 	/**
 	 * {@link String Name} assigned to the registered CQ.
 	 *
@@ -17,8 +17,15 @@
 
 package org.springframework.data.gemfire.search.lucene;
 
+import static org.springframework.data.gemfire.util.SpringUtils.safeGetValue;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.lucene.LuceneIndex;
@@ -29,15 +36,21 @@ import org.apache.geode.cache.lucene.LuceneResultStruct;
 import org.apache.geode.cache.lucene.PageableLuceneQueryResults;
 
 import org.springframework.data.gemfire.search.lucene.support.LuceneAccessorSupport;
+import org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache;
+import org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache.ScoredKey;
 
 /**
  * {@link LuceneTemplate} is a Lucene data access operations class encapsulating functionality
  * for performing Lucene queries and other Lucene data access operations.
  *
+ * Optionally, the keys, or keys and scores, of the results of non-paged Lucene queries are cached
+ * in a {@link LuceneQueryResultCache}, in which case values are read from the {@link Region}.
+ *
  * @author John Blum
  * @see org.springframework.data.gemfire.search.lucene.LuceneAccessor
  * @see org.springframework.data.gemfire.search.lucene.LuceneOperations
  * @see org.springframework.data.gemfire.search.lucene.support.LuceneAccessorSupport
+ * @see org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache
  * @see org.apache.geode.cache.Region
  * @see org.apache.geode.cache.lucene.LuceneIndex
  * @see org.apache.geode.cache.lucene.LuceneQuery
@@ -50,6 +63,8 @@ import org.springframework.data.gemfire.search.lucene.support.LuceneAccessorSupp
 @SuppressWarnings("unused")
 public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOperations {
 
+	private LuceneQueryResultCache resultCache;
+
 	/**
 	 * Constructs an uninitialized instance of {@link LuceneTemplate}.
 	 */
@@ -101,7 +116,8 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 
 		LuceneQuery<K, V> queryWrapper = queryFactory.create(indexName, regionPath, query, defaultField);
 
-		return doFind(queryWrapper::findResults, query, regionPath, indexName);
+		return doFindResults(queryWrapper, LuceneQueryResultCache.Key.of(indexName, regionPath, query, defaultField,
+			resultLimit, false), query, regionPath, indexName);
 	}
 
 	/**
@@ -133,7 +149,8 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 
 		LuceneQuery<K, V> queryWrapper = queryFactory.create(indexName, regionPath, queryProvider);
 
-		return doFind(queryWrapper::findResults, queryProvider, regionPath, indexName);
+		return doFindResults(queryWrapper, LuceneQueryResultCache.Key.of(indexName, regionPath, queryProvider,
+			resultLimit, false), queryProvider, regionPath, indexName);
 	}
 
 	/**
@@ -165,7 +182,8 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 
 		LuceneQuery<K, ?> queryWrapper = queryFactory.create(indexName, regionPath, query, defaultField);
 
-		return doFind(queryWrapper::findKeys, query, regionPath, indexName);
+		return doFindKeys(queryWrapper, LuceneQueryResultCache.Key.of(indexName, regionPath, query, defaultField,
+			resultLimit, true), query, regionPath, indexName);
 	}
 
 	/**
@@ -180,7 +198,8 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 
 		LuceneQuery<K, ?> queryWrapper = queryFactory.create(indexName, regionPath, queryProvider);
 
-		return doFind(queryWrapper::findKeys, queryProvider, regionPath, indexName);
+		return doFindKeys(queryWrapper, LuceneQueryResultCache.Key.of(indexName, regionPath, queryProvider,
+			resultLimit, true), queryProvider, regionPath, indexName);
 	}
 
 	/**
@@ -193,9 +212,12 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 
 		LuceneQueryFactory queryFactory = createLuceneQueryFactory(resultLimit);
 
-		LuceneQuery<?, V> queryWrapper = queryFactory.create(indexName, regionPath, query, defaultField);
+		LuceneQuery<Object, V> queryWrapper = queryFactory.create(indexName, regionPath, query, defaultField);
 
-		return doFind(queryWrapper::findValues, query, regionPath, indexName);
+		return getResultCache() != null
+			? valuesOf(doFindResults(queryWrapper, LuceneQueryResultCache.Key.of(indexName, regionPath, query,
+				defaultField, resultLimit, false), query, regionPath, indexName))
+			: doFind(queryWrapper::findValues, query, regionPath, indexName);
 	}
 
 	/**
@@ -208,8 +230,126 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 
 		LuceneQueryFactory queryFactory = createLuceneQueryFactory(resultLimit);
 
-		LuceneQuery<?, V> queryWrapper = queryFactory.create(indexName, regionPath, queryProvider);
+		LuceneQuery<Object, V> queryWrapper = queryFactory.create(indexName, regionPath, queryProvider);
+
+		return getResultCache() != null
+			? valuesOf(doFindResults(queryWrapper, LuceneQueryResultCache.Key.of(indexName, regionPath, queryProvider,
+				resultLimit, false), queryProvider, regionPath, indexName))
+			: doFind(queryWrapper::findValues, queryProvider, regionPath, indexName);
+	}
+
+	/**
+	 * Sets the {@link LuceneQueryResultCache} caching the keys, or keys and scores, of the results
+	 * of non-paged Lucene queries.  Results are not cached if {@literal null}, which is the default.
+	 *
+	 * @param resultCache {@link LuceneQueryResultCache} caching the results of Lucene queries.
+	 * @see org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache
+	 */
+	public void setResultCache(LuceneQueryResultCache resultCache) {
+		this.resultCache = resultCache;
+	}
+
+	/**
+	 * Returns the {@link LuceneQueryResultCache} caching the keys, or keys and scores, of the results
+	 * of non-paged Lucene queries.
+	 *
+	 * @return the {@link LuceneQueryResultCache} or {@literal null} if results are not cached.
+	 * @see org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache
+	 */
+	protected LuceneQueryResultCache getResultCache() {
+		return this.resultCache;
+	}
+
+	/**
+	 * Resolves the {@link Region} on which the Lucene query is executed and registers it with
+	 * the {@link LuceneQueryResultCache} so cached results are invalidated when the {@link Region} changes.
+	 *
+	 * @param regionPath {@link String} containing the fully-qualified path of the {@link Region}.
+	 * @return the {@link Region} or {@literal null} if results are not cached or the {@link Region}
+	 * could not be resolved.
+	 * @see org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache#track(String, Region)
+	 */
+	protected Region<?, ?> resolveResultCacheRegion(String regionPath) {
+
+		LuceneQueryResultCache resultCache = getResultCache();
+
+		Region<?, ?> region = resultCache != null
+			? Optional.<Region<?, ?>>ofNullable(getRegion())
+				.orElseGet(() -> safeGetValue(() -> resolveCache().getRegion(regionPath)))
+			: null;
+
+		if (region != null) {
+			resultCache.track(regionPath, region);
+		}
+
+		return region;
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	protected <K, V> List<LuceneResultStruct<K, V>> doFindResults(LuceneQuery<K, V> queryWrapper,
+			LuceneQueryResultCache.Key key, Object query, String regionPath, String indexName) {
+
+		Region<K, V> region = (Region<K, V>) resolveResultCacheRegion(regionPath);
+
+		if (region == null) {
+			return doFind(queryWrapper::findResults, query, regionPath, indexName);
+		}
+
+		LuceneQueryResultCache resultCache = getResultCache();
+
+		List<ScoredKey<K, V>> scoredKeys = resultCache.get(key);
+
+		if (scoredKeys != null) {
+
+			Map<K, V> values = region.getAll(scoredKeys.stream().map(ScoredKey::getKey).collect(Collectors.toList()));
+
+			return scoredKeys.stream()
+				.filter(scoredKey -> values.get(scoredKey.getKey()) != null)
+				.<LuceneResultStruct<K, V>>map(scoredKey -> scoredKey.with(values.get(scoredKey.getKey())))
+				.collect(Collectors.toList());
+		}
+
+		long regionVersion = resultCache.getRegionVersion(regionPath);
+
+		List<LuceneResultStruct<K, V>> results = doFind(queryWrapper::findResults, query, regionPath, indexName);
+
+		if (results != null) {
+			resultCache.put(key, Collections.unmodifiableList(results.stream()
+				.map(ScoredKey::from).collect(Collectors.toList())), regionVersion);
+		}
+
+		return results;
+	}
+
+	/* (non-Javadoc) */
+	protected <K> Collection<K> doFindKeys(LuceneQuery<K, ?> queryWrapper, LuceneQueryResultCache.Key key,
+			Object query, String regionPath, String indexName) {
+
+		if (resolveResultCacheRegion(regionPath) == null) {
+			return doFind(queryWrapper::findKeys, query, regionPath, indexName);
+		}
+
+		LuceneQueryResultCache resultCache = getResultCache();
+
+		List<K> keys = resultCache.get(key);
+
+		if (keys != null) {
+			return new ArrayList<>(keys);
+		}
+
+		long regionVersion = resultCache.getRegionVersion(regionPath);
+
+		Collection<K> results = doFind(queryWrapper::findKeys, query, regionPath, indexName);
+
+		if (results != null) {
+			resultCache.put(key, Collections.unmodifiableList(new ArrayList<>(results)), regionVersion);
+		}
+
+		return results;
+	}
 
-		return doFind(queryWrapper::findValues, queryProvider, regionPath, indexName);
+	private <V> Collection<V> valuesOf(List<? extends LuceneResultStruct<?, V>> results) {
+		return results.stream().map(LuceneResultStruct::getValue).collect(Collectors.toList());
 	}
 }
@@ -24,11 +24,13 @@ import java.util.stream.Collectors;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.lucene.LuceneIndex;
 import org.apache.geode.cache.lucene.LuceneResultStruct;
+import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.data.gemfire.search.lucene.support.PdxInstanceDtoProjector;
 import org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
@@ -38,12 +40,17 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
  * the {@link ProjectingLuceneOperations} interface encapsulating common functionality
  * necessary to execute Lucene queries and work with application domain object views.
  *
+ * Interface projections are backed by a proxy reading the {@link PdxInstance} fields on each method invocation,
+ * whereas projections onto a concrete class (DTO) bind the {@link PdxInstance} fields to the constructor arguments
+ * and properties of the DTO once, using a {@link PdxInstanceDtoProjector}.
+ *
  * @author John Blum
  * @see java.lang.ClassLoader
  * @see org.springframework.beans.factory.BeanClassLoaderAware
  * @see org.springframework.beans.factory.BeanFactory
  * @see org.springframework.beans.factory.BeanFactoryAware
  * @see org.springframework.data.gemfire.search.lucene.ProjectingLuceneOperations
+ * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceDtoProjector
  * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory
  * @see org.springframework.data.projection.ProjectionFactory
  * @see org.springframework.data.projection.SpelAwareProxyProjectionFactory
@@ -62,6 +69,8 @@ public abstract class ProjectingLuceneAccessor extends LuceneTemplate
 
 	private ClassLoader beanClassLoader;
 
+	private volatile PdxInstanceDtoProjector dtoProjector;
+
 	private ProjectionFactory projectionFactory;
 
 	/**
@@ -199,6 +208,42 @@ public abstract class ProjectingLuceneAccessor extends LuceneTemplate
 		return this.projectionFactory;
 	}
 
+	/**
+	 * Sets the {@link PdxInstanceDtoProjector} used to project {@link PdxInstance PdxInstances} onto
+	 * concrete DTO classes.
+	 *
+	 * @param dtoProjector {@link PdxInstanceDtoProjector} used to project query results onto DTO classes.
+	 * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceDtoProjector
+	 */
+	public void setDtoProjector(PdxInstanceDtoProjector dtoProjector) {
+		this.dtoProjector = dtoProjector;
+	}
+
+	/**
+	 * Returns the {@link PdxInstanceDtoProjector} used to project {@link PdxInstance PdxInstances} onto
+	 * concrete DTO classes, creating a default one if none was set.
+	 *
+	 * @return the {@link PdxInstanceDtoProjector} used to project query results onto DTO classes.
+	 * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceDtoProjector
+	 */
+	protected PdxInstanceDtoProjector getDtoProjector() {
+
+		PdxInstanceDtoProjector dtoProjector = this.dtoProjector;
+
+		if (dtoProjector == null) {
+			synchronized (this) {
+				dtoProjector = this.dtoProjector;
+
+				if (dtoProjector == null) {
+					dtoProjector = new PdxInstanceDtoProjector();
+					this.dtoProjector = dtoProjector;
+				}
+			}
+		}
+
+		return dtoProjector;
+	}
+
 	public <T, K, V> List<T> project(List<LuceneResultStruct<K, V>> source, Class<T> projectionType) {
 		return source.stream().map(luceneResultStruct -> project(luceneResultStruct, projectionType))
 			.collect(Collectors.toList());
@@ -209,6 +254,9 @@ public abstract class ProjectingLuceneAccessor extends LuceneTemplate
 	}
 
 	public <T> T project(Object source, Class<T> projectionType) {
-		return getProjectionFactory().createProjection(projectionType, source);
+
+		return source instanceof PdxInstance && PdxInstanceDtoProjector.isDtoType(projectionType)
+			? getDtoProjector().project((PdxInstance) source, projectionType)
+			: getProjectionFactory().createProjection(projectionType, source);
 	}
 }
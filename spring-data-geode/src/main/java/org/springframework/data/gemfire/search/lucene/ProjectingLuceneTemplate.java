@@ -47,6 +47,8 @@ import org.springframework.data.domain.Page;
 @SuppressWarnings("unused")
 public class ProjectingLuceneTemplate extends ProjectingLuceneAccessor {
 
+	private int retainedPages = 0;
+
 	/**
 	 * Constructs a default, uninitialized instance of the {@link ProjectingLuceneTemplate}.
 	 */
@@ -87,6 +89,29 @@ public class ProjectingLuceneTemplate extends ProjectingLuceneAccessor {
 		super(indexName, regionPath);
 	}
 
+	/**
+	 * Sets the number of {@link Page pages}, including the current page, reachable from a {@link Page}
+	 * returned by a paged query, so that earlier pages can be garbage collected when paging through
+	 * large result sets.
+	 *
+	 * @param retainedPages number of {@link Page pages} reachable from a {@link Page};
+	 * {@literal 0} or less retains all pages.
+	 * @see org.springframework.data.gemfire.search.lucene.support.LucenePage
+	 */
+	public void setRetainedPages(int retainedPages) {
+		this.retainedPages = retainedPages;
+	}
+
+	/**
+	 * Returns the number of {@link Page pages}, including the current page, reachable from a {@link Page}
+	 * returned by a paged query.
+	 *
+	 * @return the number of {@link Page pages} reachable from a {@link Page}; {@literal 0} if all pages are retained.
+	 */
+	protected int getRetainedPages() {
+		return this.retainedPages;
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -102,7 +127,8 @@ public class ProjectingLuceneTemplate extends ProjectingLuceneAccessor {
 	public <T> Page<T> query(String query, String defaultField, int resultLimit, int pageSize,
 			Class<T> projectionType) {
 
-		return newLucenePage(this, query(query, defaultField, resultLimit, pageSize), pageSize, projectionType);
+		return newLucenePage(this, query(query, defaultField, resultLimit, pageSize), pageSize, projectionType,
+			getRetainedPages());
 	}
 
 	/**
@@ -120,6 +146,7 @@ public class ProjectingLuceneTemplate extends ProjectingLuceneAccessor {
 	public <T> Page<T> query(LuceneQueryProvider queryProvider, int resultLimit, int pageSize,
 			Class<T> projectionType) {
 
-		return newLucenePage(this, query(queryProvider, resultLimit, pageSize), pageSize, projectionType);
+		return newLucenePage(this, query(queryProvider, resultLimit, pageSize), pageSize, projectionType,
+			getRetainedPages());
 	}
 }
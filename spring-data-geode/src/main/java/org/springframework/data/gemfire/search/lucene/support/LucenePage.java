@@ -22,7 +22,6 @@ import static org.springframework.data.gemfire.domain.ListablePage.newListablePa
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,6 +37,12 @@ import org.springframework.util.Assert;
  * The {@link LucenePage} class is a Spring Data {@link Page} implementation supporting Spring Data style paging
  * of {@link PageableLuceneQueryResults} complete with Spring Data projections.
  *
+ * The {@link LuceneResultStruct results} of a {@link LucenePage} are fetched when the {@link LucenePage} is created,
+ * but only projected on first access to the {@link #getContent() content}.  The page number is computed once from
+ * the {@link LucenePage previous page}.  When a number of retained pages is set, a {@link LucenePage} only keeps
+ * a reference to that many pages, itself included, so that earlier pages can be garbage collected while paging
+ * through large result sets.
+ *
  * @author John Blum
  * @see java.util.List
  * @see org.apache.geode.cache.lucene.LuceneResultStruct
@@ -73,6 +78,30 @@ public class LucenePage<T, K, V> extends AbstractPageSupport<T> {
 		return new LucenePage<>(template, queryResults, pageSize, projectionType);
 	}
 
+	/**
+	 * Factory method used to construct a new instance of the first {@link LucenePage} initialized with
+	 * the given {@link PageableLuceneQueryResults Lucene query results}, {@link Integer page size},
+	 * {@link Class projection type} and number of retained pages.
+	 *
+	 * @param template {@link ProjectingLuceneAccessor} used to perform Lucene queries and  data access operations
+	 * along with projections.
+	 * @param queryResults {@link PageableLuceneQueryResults} wrapped by this {@link LucenePage}.
+	 * @param pageSize number of elements on a {@link LucenePage}.
+	 * @param projectionType {@link Class} type of the projection used to view an individual {@link LuceneResultStruct}
+	 * in the {@link PageableLuceneQueryResults Lucene query results}.
+	 * @param retainedPages number of {@link LucenePage pages}, including the current page, reachable from
+	 * a {@link LucenePage}; {@literal 0} or less retains all pages.
+	 * @throws IllegalArgumentException if {@link ProjectingLuceneAccessor} or the {@link PageableLuceneQueryResults}
+	 * are {@literal null}, or the {@link PageableLuceneQueryResults} do not have
+	 * a {@link PageableLuceneQueryResults#hasNext() next page}.
+	 * @see #LucenePage(ProjectingLuceneAccessor, PageableLuceneQueryResults, int, Class, LucenePage, int)
+	 */
+	public static <T, K, V> LucenePage<T, K, V> newLucenePage(ProjectingLuceneAccessor template,
+			PageableLuceneQueryResults<K, V> queryResults, int pageSize, Class<T> projectionType, int retainedPages) {
+
+		return new LucenePage<>(template, queryResults, pageSize, projectionType, null, retainedPages);
+	}
+
 	/**
 	 * Factory method used to construct a new instance of {@link LucenePage} initialized with
 	 * the given {@link PageableLuceneQueryResults Lucene query results}, {@link Integer page size},
@@ -99,13 +128,17 @@ public class LucenePage<T, K, V> extends AbstractPageSupport<T> {
 	}
 
 	private LucenePage<T, K, V> next;
-	private LucenePage<T, K, V> previous;
+	private volatile LucenePage<T, K, V> previous;
 
+	private final int number;
 	private final int pageSize;
+	private final int retainedPages;
 
 	private final Class<T> projectionType;
 
-	private final List<T> content;
+	private volatile List<T> content;
+
+	private volatile List<LuceneResultStruct<K, V>> pageOfQueryResults;
 
 	private final PageableLuceneQueryResults<K, V> queryResults;
 
@@ -151,11 +184,41 @@ public class LucenePage<T, K, V> extends AbstractPageSupport<T> {
 	 * @throws IllegalArgumentException if {@link ProjectingLuceneAccessor} or the {@link PageableLuceneQueryResults}
 	 * are {@literal null}, or the {@link PageableLuceneQueryResults} do not have
 	 * a {@link PageableLuceneQueryResults#hasNext() next page}.
-	 * @see #materialize(ProjectingLuceneAccessor, List, Class)
+	 * @see #LucenePage(ProjectingLuceneAccessor, PageableLuceneQueryResults, int, Class, LucenePage, int)
 	 */
 	public LucenePage(ProjectingLuceneAccessor template, PageableLuceneQueryResults<K, V> queryResults,
 			int pageSize, Class<T> projectionType, LucenePage<T, K, V> previous) {
 
+		this(template, queryResults, pageSize, projectionType, previous,
+			previous != null ? previous.getRetainedPages() : 0);
+	}
+
+	/**
+	 * Constructs a new instance of {@link LucenePage} initialized with
+	 * the given {@link PageableLuceneQueryResults Lucene query results}, {@link Integer page size},
+	 * {@link Class projection type}, {@link LucenePage previous page}, if one exists, and number of retained pages.
+	 *
+	 * The {@link LuceneResultStruct results} of this {@link LucenePage} are fetched immediately, but only projected
+	 * on first access to the {@link #getContent() content}.
+	 *
+	 * @param template {@link ProjectingLuceneAccessor} used to perform Lucene queries and  data access operations
+	 * along with projections.
+	 * @param queryResults {@link PageableLuceneQueryResults} wrapped by this {@link LucenePage}.
+	 * @param pageSize number of elements on a {@link LucenePage}.
+	 * @param projectionType {@link Class} type of the projection used to view an individual {@link LuceneResultStruct}
+	 * in the {@link PageableLuceneQueryResults Lucene query results}.
+	 * @param previous {@link LucenePage previous page} in the chain of {@link LucenePage pages},
+	 * if this {@link LucenePage} is not the first {@link LucenePage}.  Can be {@literal null}.
+	 * @param retainedPages number of {@link LucenePage pages}, including this page, reachable from this
+	 * {@link LucenePage}; {@literal 0} or less retains all pages.
+	 * @throws IllegalArgumentException if {@link ProjectingLuceneAccessor} or the {@link PageableLuceneQueryResults}
+	 * are {@literal null}, or the {@link PageableLuceneQueryResults} do not have
+	 * a {@link PageableLuceneQueryResults#hasNext() next page}.
+	 * @see #materialize(ProjectingLuceneAccessor, List, Class)
+	 */
+	public LucenePage(ProjectingLuceneAccessor template, PageableLuceneQueryResults<K, V> queryResults,
+			int pageSize, Class<T> projectionType, LucenePage<T, K, V> previous, int retainedPages) {
+
 		Assert.notNull(template, "ProjectingLuceneAccessor must not be null");
 		Assert.notNull(queryResults, "PageableLuceneQueryResults must not be null");
 		Assert.isTrue(queryResults.hasNext(), "PageableLuceneQueryResults must have content");
@@ -165,7 +228,27 @@ public class LucenePage<T, K, V> extends AbstractPageSupport<T> {
 		this.pageSize = pageSize;
 		this.projectionType = projectionType;
 		this.previous = previous;
-		this.content = materialize(template, queryResults.next(), projectionType);
+		this.number = previous != null ? previous.getNumber() + 1 : 1;
+		this.retainedPages = Math.max(retainedPages, 0);
+		this.pageOfQueryResults = queryResults.next();
+
+		releasePagesOutsideRetainedWindow();
+	}
+
+	private void releasePagesOutsideRetainedWindow() {
+
+		if (this.retainedPages > 0) {
+
+			LucenePage<T, K, V> page = this;
+
+			for (int count = 1; count < this.retainedPages && page != null; count++) {
+				page = page.getPrevious();
+			}
+
+			if (page != null) {
+				page.releasePrevious();
+			}
+		}
 	}
 
 	/**
@@ -195,6 +278,16 @@ public class LucenePage<T, K, V> extends AbstractPageSupport<T> {
 		return this.pageSize;
 	}
 
+	/**
+	 * Returns the number of {@link LucenePage pages}, including this page, reachable from this {@link LucenePage};
+	 * {@literal 0} if all pages are retained.
+	 *
+	 * @return the number of retained {@link LucenePage pages}.
+	 */
+	protected int getRetainedPages() {
+		return this.retainedPages;
+	}
+
 	/**
 	 * Returns the {@link Class} type of the projection.
 	 *
@@ -240,15 +333,35 @@ public class LucenePage<T, K, V> extends AbstractPageSupport<T> {
 	 */
 	@Override
 	public boolean hasPrevious() {
-		return (getPrevious() != null);
+		return getNumber() > 1;
 	}
 
 	/**
-	 * @inheritDoc
+	 * Returns the content of this {@link LucenePage}, projecting the {@link LuceneResultStruct results}
+	 * on first access.
+	 *
+	 * @return the projected content of this {@link LucenePage}.
+	 * @see #materialize(ProjectingLuceneAccessor, List, Class)
 	 */
 	@Override
 	public List<T> getContent() {
-		return Collections.unmodifiableList(this.content);
+
+		List<T> content = this.content;
+
+		if (content == null) {
+			synchronized (this) {
+				content = this.content;
+
+				if (content == null) {
+					content = Collections.unmodifiableList(
+						materialize(getTemplate(), this.pageOfQueryResults, getProjectionType()));
+					this.content = content;
+					this.pageOfQueryResults = null;
+				}
+			}
+		}
+
+		return content;
 	}
 
 	/**
@@ -272,30 +385,33 @@ public class LucenePage<T, K, V> extends AbstractPageSupport<T> {
 	 */
 	@Override
 	public int getNumber() {
-		AtomicInteger number = new AtomicInteger(1);
-
-		Optional.ofNullable(getPrevious()).ifPresent(previous -> {
-			while (previous != null) {
-				previous = previous.getPrevious();
-				number.incrementAndGet();
-			}
-		});
-
-		return number.get();
+		return this.number;
 	}
 
 	/**
 	 * Returns the previous {@link LucenePage page} in the collection of {@link Page pages}.
 	 *
 	 * @return the previous {@link LucenePage page} in the collection of {@link Page pages}
-	 * or {@literal null} if no {@link LucenePage} proceeds this {@link LucenePage page}.
+	 * or {@literal null} if no {@link LucenePage} proceeds this {@link LucenePage page}, or the previous
+	 * {@link LucenePage page} was released.
 	 * @see org.springframework.data.gemfire.search.lucene.support.LucenePage
+	 * @see #releasePrevious()
 	 * @see #getNext()
 	 */
 	public LucenePage<T, K, V> getPrevious() {
 		return this.previous;
 	}
 
+	/**
+	 * Releases the reference to the previous {@link LucenePage page} so that it, and all pages before it,
+	 * can be garbage collected; {@link #getNumber()} and {@link #hasPrevious()} are not affected.
+	 *
+	 * @see #getPrevious()
+	 */
+	public void releasePrevious() {
+		this.previous = null;
+	}
+
 	/**
 	 * @inheritDoc
 	 */
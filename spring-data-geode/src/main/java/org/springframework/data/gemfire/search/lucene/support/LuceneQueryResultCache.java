@@ -0,0 +1,649 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.search.lucene.support;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.lucene.LuceneQueryProvider;
+import org.apache.geode.cache.lucene.LuceneResultStruct;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+/**
+ * {@link LuceneQueryResultCache} is a bounded, time-to-live (TTL) based cache of Lucene query results.
+ *
+ * Only the keys, or the keys and scores, of the matching entries are cached; values are always read from
+ * the {@link Region} so a cached result never returns stale values.  Entries are evicted in least recently used
+ * order once the cache reaches its maximum size and expire after the configured TTL.
+ *
+ * Every cached result is tagged with the version of the indexed {@link Region} at the time the Lucene query
+ * was executed.  A {@link org.apache.geode.cache.CacheListener} registered on the indexed {@link Region}
+ * with {@link #track(String, Region)} bumps the version on every create, update, destroy and invalidate,
+ * which invalidates all cached results for that {@link Region}.  Bumping the version is lock-free, so entry
+ * events do not contend with queries; stale results are removed when they are next looked up or evicted.
+ * Cached results are only purged eagerly when the {@link Region} is cleared or destroyed.
+ *
+ * The Lucene index is updated asynchronously and a {@link Region} only observes the changes made to the data
+ * it hosts or receives, therefore the TTL bounds how long a result computed from a stale index may be cached.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.lucene.LuceneResultStruct
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.beans.factory.DisposableBean
+ * @since 2.3.0
+ */
+public class LuceneQueryResultCache implements DisposableBean {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	public static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+
+	private final int maximumSize;
+
+	private final long timeToLive;
+
+	private final ConcurrentMap<String, AtomicLong> regionVersions = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, TrackedRegion> trackedRegions = new ConcurrentHashMap<>();
+
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	private final Map<Key, CachedResult> entries;
+
+	/**
+	 * Constructs a new instance of {@link LuceneQueryResultCache} with the default maximum size and TTL.
+	 *
+	 * @see #DEFAULT_MAXIMUM_SIZE
+	 * @see #DEFAULT_TIME_TO_LIVE
+	 */
+	public LuceneQueryResultCache() {
+		this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link LuceneQueryResultCache}.
+	 *
+	 * @param maximumSize maximum number of cached results; must be greater than {@literal 0}.
+	 * @param timeToLive time, in milliseconds, a result stays cached; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code maximumSize} or {@code timeToLive} is not greater than {@literal 0}.
+	 */
+	public LuceneQueryResultCache(int maximumSize, long timeToLive) {
+
+		Assert.isTrue(maximumSize > 0, String.format("Maximum size [%d] must be greater than 0", maximumSize));
+		Assert.isTrue(timeToLive > 0, String.format("Time-to-live [%d] must be greater than 0", timeToLive));
+
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+
+		this.entries = new LinkedHashMap<Key, CachedResult>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+
+				boolean evict = size() > getMaximumSize();
+
+				if (evict) {
+					evictionCount.increment();
+				}
+
+				return evict;
+			}
+		};
+	}
+
+	/**
+	 * Returns the maximum number of cached results.
+	 *
+	 * @return the maximum number of cached results.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Returns the time, in milliseconds, a result stays cached.
+	 *
+	 * @return the time, in milliseconds, a result stays cached.
+	 */
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Returns the current version of the {@link Region} identified by the given {@link String path}.
+	 *
+	 * The version must be read before the Lucene query is executed and passed to {@link #put(Key, Object, long)}
+	 * so that results computed before a change to the {@link Region} are not cached.
+	 *
+	 * @param regionPath {@link String} containing the path of the {@link Region}.
+	 * @return the current version of the {@link Region}.
+	 */
+	public long getRegionVersion(String regionPath) {
+		return regionVersion(regionPath).get();
+	}
+
+	private AtomicLong regionVersion(String regionPath) {
+
+		AtomicLong regionVersion = this.regionVersions.get(regionPath);
+
+		return regionVersion != null ? regionVersion
+			: this.regionVersions.computeIfAbsent(regionPath, it -> new AtomicLong());
+	}
+
+	/**
+	 * Registers a {@link org.apache.geode.cache.CacheListener} on the given {@link Region} invalidating
+	 * all cached results for the {@link Region} when it changes.  Registering the same {@link Region} path
+	 * more than once has no effect.
+	 *
+	 * @param regionPath {@link String} containing the path of the {@link Region} used in the cache {@link Key keys}.
+	 * @param region indexed {@link Region} to track.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 */
+	public void track(String regionPath, Region<?, ?> region) {
+
+		Assert.notNull(region, "Region must not be null");
+
+		this.trackedRegions.computeIfAbsent(regionPath, it -> {
+
+			InvalidatingCacheListener<Object, Object> listener =
+				new InvalidatingCacheListener<>(regionPath, regionVersion(regionPath));
+
+			attributesMutatorOf(region).addCacheListener(listener);
+
+			return new TrackedRegion(region, listener);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static AttributesMutator<Object, Object> attributesMutatorOf(Region<?, ?> region) {
+		return ((Region<Object, Object>) region).getAttributesMutator();
+	}
+
+	/**
+	 * Determines whether the {@link Region} identified by the given {@link String path} is tracked.
+	 *
+	 * @param regionPath {@link String} containing the path of the {@link Region}.
+	 * @return a boolean value indicating whether the {@link Region} is tracked.
+	 * @see #track(String, Region)
+	 */
+	public boolean isTracked(String regionPath) {
+		return this.trackedRegions.containsKey(regionPath);
+	}
+
+	/**
+	 * Returns the cached result for the given {@link Key} if present, not expired and computed from
+	 * the current version of the {@link Region}.
+	 *
+	 * @param <T> {@link Class} type of the cached result.
+	 * @param key {@link Key} identifying the Lucene query.
+	 * @return the cached result or {@literal null} if no valid result is cached.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Key key) {
+
+		long regionVersion = getRegionVersion(key.getRegionPath());
+
+		Object result = null;
+
+		synchronized (this.entries) {
+
+			CachedResult entry = this.entries.get(key);
+
+			if (entry != null) {
+				if (entry.isValid(regionVersion, now())) {
+					result = entry.getResult();
+				}
+				else {
+					this.entries.remove(key);
+				}
+			}
+		}
+
+		(result != null ? this.hitCount : this.missCount).increment();
+
+		return (T) result;
+	}
+
+	/**
+	 * Caches the result for the given {@link Key} unless the {@link Region} changed since the given version was read.
+	 *
+	 * @param key {@link Key} identifying the Lucene query.
+	 * @param result result of the Lucene query.
+	 * @param regionVersion version of the {@link Region} read before the Lucene query was executed.
+	 * @see #getRegionVersion(String)
+	 */
+	public void put(Key key, Object result, long regionVersion) {
+
+		if (result != null) {
+			synchronized (this.entries) {
+				if (regionVersion == getRegionVersion(key.getRegionPath())) {
+					this.entries.put(key, new CachedResult(result, regionVersion, now() + getTimeToLive()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Invalidates all cached results for the {@link Region} identified by the given {@link String path}
+	 * by bumping the version of the {@link Region}, without locking the cache.
+	 *
+	 * Invalidated results are removed when they are next looked up or evicted.
+	 *
+	 * @param regionPath {@link String} containing the path of the {@link Region}.
+	 * @see #purge(String)
+	 */
+	public void invalidate(String regionPath) {
+		invalidate(regionVersion(regionPath));
+	}
+
+	private void invalidate(AtomicLong regionVersion) {
+		regionVersion.incrementAndGet();
+		this.invalidationCount.increment();
+	}
+
+	/**
+	 * Invalidates and removes all cached results for the {@link Region} identified by the given {@link String path}.
+	 *
+	 * @param regionPath {@link String} containing the path of the {@link Region}.
+	 * @see #invalidate(String)
+	 */
+	public void purge(String regionPath) {
+
+		synchronized (this.entries) {
+			invalidate(regionPath);
+			this.entries.keySet().removeIf(key -> key.getRegionPath().equals(regionPath));
+		}
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached results, including those that have expired but were not yet removed.
+	 *
+	 * @return the number of cached results.
+	 */
+	public int size() {
+
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Returns the number of lookups that returned a cached result.
+	 *
+	 * @return the number of lookups that returned a cached result.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that did not return a cached result.
+	 *
+	 * @return the number of lookups that did not return a cached result.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of lookups that returned a cached result.
+	 *
+	 * @return the ratio of lookups that returned a cached result, or {@literal 0} if no lookups were made.
+	 */
+	public double getHitRatio() {
+
+		long hitCount = getHitCount();
+		long requestCount = hitCount + getMissCount();
+
+		return requestCount > 0 ? (double) hitCount / requestCount : 0.0d;
+	}
+
+	/**
+	 * Returns the number of results evicted because the cache reached its maximum size.
+	 *
+	 * @return the number of results evicted because the cache reached its maximum size.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Returns the number of times the cached results of a {@link Region} were invalidated.
+	 *
+	 * @return the number of times the cached results of a {@link Region} were invalidated.
+	 */
+	public long getInvalidationCount() {
+		return this.invalidationCount.sum();
+	}
+
+	/* (non-Javadoc) */
+	protected long now() {
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * Removes the {@link org.apache.geode.cache.CacheListener CacheListeners} from the tracked
+	 * {@link Region Regions} and clears the cache.
+	 */
+	@Override
+	public void destroy() {
+
+		for (Iterator<TrackedRegion> iterator = this.trackedRegions.values().iterator(); iterator.hasNext(); ) {
+
+			TrackedRegion trackedRegion = iterator.next();
+
+			if (!trackedRegion.region.isDestroyed()) {
+				attributesMutatorOf(trackedRegion.region).removeCacheListener(trackedRegion.listener);
+			}
+
+			iterator.remove();
+		}
+
+		clear();
+	}
+
+	/**
+	 * {@link Key} identifying a Lucene query by index, {@link Region}, query, default field, result limit
+	 * and whether only the keys of the matching entries are returned.
+	 *
+	 * {@link LuceneQueryProvider LuceneQueryProviders} are compared with {@link Object#equals(Object)},
+	 * which for most implementations means the same instance must be reused to hit the cache.
+	 */
+	public static final class Key {
+
+		private final boolean keysOnly;
+
+		private final int resultLimit;
+
+		private final Object query;
+
+		private final String defaultField;
+		private final String indexName;
+		private final String regionPath;
+
+		/**
+		 * Factory method used to construct a new {@link Key} for a {@link String} Lucene query.
+		 *
+		 * @param indexName {@link String} containing the name of the Lucene index.
+		 * @param regionPath {@link String} containing the path of the {@link Region}.
+		 * @param query {@link String} containing the Lucene query.
+		 * @param defaultField {@link String} containing the default field searched.
+		 * @param resultLimit maximum number of results.
+		 * @param keysOnly whether only the keys of the matching entries are returned.
+		 * @return a new {@link Key}.
+		 */
+		public static Key of(String indexName, String regionPath, String query, String defaultField,
+				int resultLimit, boolean keysOnly) {
+
+			return new Key(indexName, regionPath, query, defaultField, resultLimit, keysOnly);
+		}
+
+		/**
+		 * Factory method used to construct a new {@link Key} for a {@link LuceneQueryProvider}.
+		 *
+		 * @param indexName {@link String} containing the name of the Lucene index.
+		 * @param regionPath {@link String} containing the path of the {@link Region}.
+		 * @param queryProvider {@link LuceneQueryProvider} providing the Lucene query.
+		 * @param resultLimit maximum number of results.
+		 * @param keysOnly whether only the keys of the matching entries are returned.
+		 * @return a new {@link Key}.
+		 */
+		public static Key of(String indexName, String regionPath, LuceneQueryProvider queryProvider,
+				int resultLimit, boolean keysOnly) {
+
+			return new Key(indexName, regionPath, queryProvider, null, resultLimit, keysOnly);
+		}
+
+		private Key(String indexName, String regionPath, Object query, String defaultField,
+				int resultLimit, boolean keysOnly) {
+
+			Assert.hasText(regionPath, "Region path is required");
+
+			this.indexName = indexName;
+			this.regionPath = regionPath;
+			this.query = query;
+			this.defaultField = defaultField;
+			this.resultLimit = resultLimit;
+			this.keysOnly = keysOnly;
+		}
+
+		/**
+		 * Returns the path of the {@link Region} on which the Lucene query is executed.
+		 *
+		 * @return the path of the {@link Region} on which the Lucene query is executed.
+		 */
+		public String getRegionPath() {
+			return this.regionPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) obj;
+
+			return this.keysOnly == that.keysOnly
+				&& this.resultLimit == that.resultLimit
+				&& Objects.equals(this.indexName, that.indexName)
+				&& Objects.equals(this.regionPath, that.regionPath)
+				&& Objects.equals(this.query, that.query)
+				&& Objects.equals(this.defaultField, that.defaultField);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.indexName, this.regionPath, this.query, this.defaultField,
+				this.resultLimit, this.keysOnly);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ indexName = %1$s, regionPath = %2$s, query = %3$s, defaultField = %4$s,"
+				+ " resultLimit = %5$d, keysOnly = %6$s }", this.indexName, this.regionPath, this.query,
+					this.defaultField, this.resultLimit, this.keysOnly);
+		}
+	}
+
+	/**
+	 * {@link LuceneResultStruct} holding the key and score of a matching entry, combined with
+	 * the current value read from the {@link Region} when the cached result is returned.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param <V> {@link Class} type of the value.
+	 */
+	public static final class ScoredKey<K, V> implements LuceneResultStruct<K, V> {
+
+		private final float score;
+
+		private final K key;
+
+		private final V value;
+
+		/**
+		 * Factory method used to construct a new {@link ScoredKey} from the key and score
+		 * of the given {@link LuceneResultStruct}, dropping the value.
+		 *
+		 * @param <K> {@link Class} type of the key.
+		 * @param <V> {@link Class} type of the value.
+		 * @param result {@link LuceneResultStruct} to copy.
+		 * @return a new {@link ScoredKey}.
+		 */
+		public static <K, V> ScoredKey<K, V> from(LuceneResultStruct<K, V> result) {
+			return new ScoredKey<>(result.getKey(), null, result.getScore());
+		}
+
+		private ScoredKey(K key, V value, float score) {
+			this.key = key;
+			this.value = value;
+			this.score = score;
+		}
+
+		/**
+		 * Returns a copy of this {@link ScoredKey} with the given value.
+		 *
+		 * @param value current value of the entry.
+		 * @return a copy of this {@link ScoredKey} with the given value.
+		 */
+		public ScoredKey<K, V> with(V value) {
+			return new ScoredKey<>(getKey(), value, getScore());
+		}
+
+		@Override
+		public K getKey() {
+			return this.key;
+		}
+
+		@Override
+		public V getValue() {
+			return this.value;
+		}
+
+		@Override
+		public float getScore() {
+			return this.score;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ key = %1$s, score = %2$s }", getKey(), getScore());
+		}
+	}
+
+	private static final class CachedResult {
+
+		private final long expirationTime;
+		private final long regionVersion;
+
+		private final Object result;
+
+		private CachedResult(Object result, long regionVersion, long expirationTime) {
+			this.result = result;
+			this.regionVersion = regionVersion;
+			this.expirationTime = expirationTime;
+		}
+
+		private Object getResult() {
+			return this.result;
+		}
+
+		private boolean isValid(long regionVersion, long now) {
+			return this.regionVersion == regionVersion && now < this.expirationTime;
+		}
+	}
+
+	private static final class TrackedRegion {
+
+		private final InvalidatingCacheListener<Object, Object> listener;
+
+		private final Region<?, ?> region;
+
+		private TrackedRegion(Region<?, ?> region, InvalidatingCacheListener<Object, Object> listener) {
+			this.region = region;
+			this.listener = listener;
+		}
+	}
+
+	/**
+	 * {@link CacheListenerAdapter} invalidating the cached results of a {@link Region} when it changes.
+	 *
+	 * @param <K> {@link Class} type of the keys.
+	 * @param <V> {@link Class} type of the values.
+	 */
+	protected class InvalidatingCacheListener<K, V> extends CacheListenerAdapter<K, V> {
+
+		private final AtomicLong regionVersion;
+
+		private final String regionPath;
+
+		protected InvalidatingCacheListener(String regionPath, AtomicLong regionVersion) {
+			this.regionPath = regionPath;
+			this.regionVersion = regionVersion;
+		}
+
+		@Override
+		public void afterCreate(EntryEvent<K, V> event) {
+			invalidate(this.regionVersion);
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<K, V> event) {
+			invalidate(this.regionVersion);
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<K, V> event) {
+			invalidate(this.regionVersion);
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<K, V> event) {
+			invalidate(this.regionVersion);
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<K, V> event) {
+			purge(this.regionPath);
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<K, V> event) {
+			purge(this.regionPath);
+			trackedRegions.remove(this.regionPath);
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<K, V> event) {
+			invalidate(this.regionVersion);
+		}
+	}
+}
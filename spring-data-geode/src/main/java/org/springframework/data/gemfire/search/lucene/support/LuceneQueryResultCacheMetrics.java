@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.search.lucene.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Micrometer {@link MeterBinder} publishing the hit, miss, eviction and invalidation counts
+ * of a {@link LuceneQueryResultCache} to a {@link MeterRegistry}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache
+ * @since 2.3.0
+ */
+public class LuceneQueryResultCacheMetrics implements MeterBinder {
+
+	private final LuceneQueryResultCache resultCache;
+
+	private final String name;
+
+	/**
+	 * Constructs a new instance of {@link LuceneQueryResultCacheMetrics}.
+	 *
+	 * @param resultCache {@link LuceneQueryResultCache} to publish.
+	 * @param name {@link String} used to tag the meters.
+	 * @throws IllegalArgumentException if {@link LuceneQueryResultCache} is {@literal null}
+	 * or the {@link String name} is not specified.
+	 */
+	public LuceneQueryResultCacheMetrics(LuceneQueryResultCache resultCache, String name) {
+
+		Assert.notNull(resultCache, "LuceneQueryResultCache must not be null");
+		Assert.hasText(name, "Name is required");
+
+		this.resultCache = resultCache;
+		this.name = name;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		Tags tags = Tags.of("cache", this.name);
+
+		FunctionCounter.builder("gemfire.lucene.results.gets", this.resultCache, LuceneQueryResultCache::getHitCount)
+			.tags(tags).tag("result", "hit").register(registry);
+
+		FunctionCounter.builder("gemfire.lucene.results.gets", this.resultCache, LuceneQueryResultCache::getMissCount)
+			.tags(tags).tag("result", "miss").register(registry);
+
+		FunctionCounter.builder("gemfire.lucene.results.evictions", this.resultCache,
+			LuceneQueryResultCache::getEvictionCount).tags(tags).register(registry);
+
+		FunctionCounter.builder("gemfire.lucene.results.invalidations", this.resultCache,
+			LuceneQueryResultCache::getInvalidationCount).tags(tags).register(registry);
+
+		Gauge.builder("gemfire.lucene.results.size", this.resultCache, LuceneQueryResultCache::size)
+			.tags(tags).register(registry);
+	}
+}
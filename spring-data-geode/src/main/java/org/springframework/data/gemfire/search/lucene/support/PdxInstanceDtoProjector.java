@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.search.lucene.support;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.data.util.ReflectionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PdxInstanceDtoProjector} class projects a {@link PdxInstance} onto a concrete DTO {@link Class type}
+ * by binding the fields of the {@link PdxInstance} to the constructor arguments and writable properties
+ * of the DTO with the same name.
+ *
+ * Unlike interface-based projections, the DTO is a plain object; the {@link PdxInstance} fields are read once,
+ * when the DTO is created, rather than on every getter invocation through a proxy.  The constructor binding
+ * and property writes use the instantiators and property accessors generated by Spring Data for each type,
+ * which, along with the writable properties, are resolved once per DTO {@link Class type}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.convert.EntityInstantiators
+ * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+ * @since 2.3.0
+ */
+public class PdxInstanceDtoProjector {
+
+	private final ConversionService conversionService;
+
+	private final EntityInstantiators entityInstantiators = new EntityInstantiators();
+
+	private final GemfireMappingContext mappingContext;
+
+	private final Map<Class<?>, DtoType> dtoTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Determines whether the given {@link Class type} can be the target of a DTO projection, that is,
+	 * the {@link Class type} is a concrete class.
+	 *
+	 * @param type {@link Class type} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class type} can be the target of a DTO projection.
+	 */
+	public static boolean isDtoType(Class<?> type) {
+		return type != null && !type.isInterface() && !type.isArray() && !type.isPrimitive()
+			&& !Modifier.isAbstract(type.getModifiers());
+	}
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceDtoProjector} with a new {@link GemfireMappingContext}
+	 * and a {@link DefaultConversionService}.
+	 */
+	public PdxInstanceDtoProjector() {
+		this(new GemfireMappingContext(), new DefaultConversionService());
+	}
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceDtoProjector}.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} describing the DTO types.
+	 * @param conversionService {@link ConversionService} converting field values to property types.
+	 * @throws IllegalArgumentException if {@link GemfireMappingContext} or {@link ConversionService}
+	 * is {@literal null}.
+	 */
+	public PdxInstanceDtoProjector(GemfireMappingContext mappingContext, ConversionService conversionService) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.mappingContext = mappingContext;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Projects the given {@link PdxInstance} onto a new instance of the given DTO {@link Class type}.
+	 *
+	 * Field values are converted to the type of the constructor argument or property they are bound to.
+	 * Constructor arguments without a matching field in the {@link PdxInstance} are {@literal null},
+	 * or the default value of a primitive type, and properties without a matching field are left unset.
+	 *
+	 * @param <T> {@link Class type} of the DTO.
+	 * @param source {@link PdxInstance} to project.
+	 * @param dtoType DTO {@link Class type}.
+	 * @return a new instance of the DTO {@link Class type} initialized from the {@link PdxInstance} fields.
+	 * @throws IllegalArgumentException if {@link PdxInstance} is {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T project(PdxInstance source, Class<T> dtoType) {
+
+		Assert.notNull(source, "PdxInstance must not be null");
+
+		DtoType dto = this.dtoTypes.computeIfAbsent(dtoType, this::newDtoType);
+
+		PdxInstanceFieldValueProvider fieldValueProvider =
+			new PdxInstanceFieldValueProvider(source, this.conversionService);
+
+		Object instance = dto.instantiator.createInstance(dto.entity,
+			new PersistentEntityParameterValueProvider<>(dto.entity, fieldValueProvider, null));
+
+		PersistentPropertyAccessor propertyAccessor =
+			new ConvertingPropertyAccessor(dto.entity.getPropertyAccessor(instance), this.conversionService);
+
+		for (GemfirePersistentProperty property : dto.writableProperties) {
+			if (source.hasField(property.getName())) {
+				propertyAccessor.setProperty(property, source.getField(property.getName()));
+			}
+		}
+
+		return (T) propertyAccessor.getBean();
+	}
+
+	private DtoType newDtoType(Class<?> type) {
+
+		Assert.isTrue(isDtoType(type), () -> String.format("Type [%s] must be a concrete class", type.getName()));
+
+		GemfirePersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(type);
+
+		List<GemfirePersistentProperty> writableProperties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) property -> {
+			if (!entity.isConstructorArgument(property) && property.isWritable() && !property.isTransient()) {
+				writableProperties.add(property);
+			}
+		});
+
+		return new DtoType(entity, this.entityInstantiators.getInstantiatorFor(entity), writableProperties);
+	}
+
+	private static final class DtoType {
+
+		private final EntityInstantiator instantiator;
+
+		private final GemfirePersistentEntity<?> entity;
+
+		private final List<GemfirePersistentProperty> writableProperties;
+
+		private DtoType(GemfirePersistentEntity<?> entity, EntityInstantiator instantiator,
+				List<GemfirePersistentProperty> writableProperties) {
+
+			this.entity = entity;
+			this.instantiator = instantiator;
+			this.writableProperties = Collections.unmodifiableList(writableProperties);
+		}
+	}
+
+	private static final class PdxInstanceFieldValueProvider implements PropertyValueProvider<GemfirePersistentProperty> {
+
+		private final ConversionService conversionService;
+
+		private final PdxInstance source;
+
+		private PdxInstanceFieldValueProvider(PdxInstance source, ConversionService conversionService) {
+			this.source = source;
+			this.conversionService = conversionService;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getPropertyValue(GemfirePersistentProperty property) {
+
+			Class<?> type = property.getType();
+
+			Object value = this.source.hasField(property.getName()) ? this.source.getField(property.getName()) : null;
+
+			return value != null ? (T) this.conversionService.convert(value, type)
+				: type.isPrimitive() ? (T) ReflectionUtils.getPrimitiveDefault(type)
+				: null;
+		}
+	}
+}
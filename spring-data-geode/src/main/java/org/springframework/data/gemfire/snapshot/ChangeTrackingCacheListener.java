@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+/**
+ * {@link org.apache.geode.cache.CacheListener} tracking the keys of the entries created, updated or destroyed
+ * in a {@link org.apache.geode.cache.Region} since the last incremental snapshot.
+ *
+ * Only the latest change of a key is kept; a key updated and then destroyed is reported as destroyed, while a key
+ * destroyed and then re-created is reported as changed.  Clearing or destroying the {@link org.apache.geode.cache.Region}
+ * invalidates the baseline so the next export writes a full snapshot.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @since 2.3.0
+ */
+public class ChangeTrackingCacheListener<K, V> extends CacheListenerAdapter<K, V> {
+
+	private volatile boolean baseline = false;
+
+	private volatile Map<K, Boolean> changes = new ConcurrentHashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	@Override
+	public void afterCreate(EntryEvent<K, V> event) {
+		record(event.getKey(), false);
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<K, V> event) {
+		record(event.getKey(), false);
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<K, V> event) {
+		record(event.getKey(), true);
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<K, V> event) {
+		record(event.getKey(), true);
+	}
+
+	@Override
+	public void afterRegionClear(RegionEvent<K, V> event) {
+		invalidateBaseline();
+	}
+
+	@Override
+	public void afterRegionDestroy(RegionEvent<K, V> event) {
+		invalidateBaseline();
+	}
+
+	@Override
+	public void afterRegionInvalidate(RegionEvent<K, V> event) {
+		invalidateBaseline();
+	}
+
+	private void record(K key, boolean destroyed) {
+
+		this.lock.readLock().lock();
+
+		try {
+			this.changes.put(key, destroyed);
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Determines whether a full snapshot was taken since tracking started and the Region was not cleared since,
+	 * so that the changes tracked by this listener are enough to bring the snapshot up to date.
+	 *
+	 * @return a boolean value indicating whether an incremental snapshot can be taken.
+	 */
+	public boolean hasBaseline() {
+		return this.baseline;
+	}
+
+	/**
+	 * Starts a new baseline, discarding all tracked changes.
+	 *
+	 * Must be called before the full snapshot is taken so that changes made while the snapshot is written
+	 * are included in the next incremental snapshot.
+	 *
+	 * @see #hasBaseline()
+	 */
+	public void resetBaseline() {
+		drain();
+		this.baseline = true;
+	}
+
+	/**
+	 * Invalidates the baseline so that the next export writes a full snapshot.
+	 */
+	public void invalidateBaseline() {
+		this.baseline = false;
+	}
+
+	/**
+	 * Returns the changes tracked since the last call and starts tracking a new set of changes.
+	 *
+	 * @return the {@link ChangeSet} of changes tracked since the last call.
+	 */
+	public ChangeSet<K> drain() {
+
+		Map<K, Boolean> drainedChanges;
+
+		this.lock.writeLock().lock();
+
+		try {
+			drainedChanges = this.changes;
+			this.changes = new ConcurrentHashMap<>();
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+
+		return new ChangeSet<>(drainedChanges);
+	}
+
+	/**
+	 * Puts back changes returned by {@link #drain()} that could not be written, without overriding changes
+	 * tracked after the changes were drained.
+	 *
+	 * @param changeSet {@link ChangeSet} returned by {@link #drain()}.
+	 */
+	public void restore(ChangeSet<K> changeSet) {
+
+		this.lock.readLock().lock();
+
+		try {
+			changeSet.getChangedKeys().forEach(key -> this.changes.putIfAbsent(key, false));
+			changeSet.getDestroyedKeys().forEach(key -> this.changes.putIfAbsent(key, true));
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * The keys changed and destroyed since the previous snapshot; both sets are disjoint.
+	 *
+	 * @param <K> the class type of the Region key.
+	 */
+	public static class ChangeSet<K> {
+
+		private final Set<K> changedKeys = new HashSet<>();
+		private final Set<K> destroyedKeys = new HashSet<>();
+
+		ChangeSet(Map<K, Boolean> changes) {
+			changes.forEach((key, destroyed) -> (destroyed ? this.destroyedKeys : this.changedKeys).add(key));
+		}
+
+		public Set<K> getChangedKeys() {
+			return Collections.unmodifiableSet(this.changedKeys);
+		}
+
+		public Set<K> getDestroyedKeys() {
+			return Collections.unmodifiableSet(this.destroyedKeys);
+		}
+
+		public boolean isEmpty() {
+			return this.changedKeys.isEmpty() && this.destroyedKeys.isEmpty();
+		}
+	}
+}
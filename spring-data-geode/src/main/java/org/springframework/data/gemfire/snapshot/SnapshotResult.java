@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.io.File;
+import java.util.Optional;
+
+/**
+ * The SnapshotResult class records the outcome of importing or exporting a single snapshot, typically
+ * the data of one Region.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotCompletedApplicationEvent
+ * @since 2.3.0
+ */
+public class SnapshotResult {
+
+	private final long bytes;
+	private final long duration;
+
+	private final File location;
+
+	private final String name;
+
+	private final Throwable failure;
+
+	/**
+	 * Constructs a new instance of SnapshotResult.
+	 *
+	 * @param name name of the snapshot, for example the Region path or snapshot file name.
+	 * @param location snapshot file or directory.
+	 * @param bytes number of bytes written or read.
+	 * @param duration time, in milliseconds, taken to import or export the snapshot.
+	 * @param failure cause of the failure, or {@literal null} if the snapshot was imported or exported successfully.
+	 */
+	public SnapshotResult(String name, File location, long bytes, long duration, Throwable failure) {
+		this.name = name;
+		this.location = location;
+		this.bytes = bytes;
+		this.duration = duration;
+		this.failure = failure;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public File getLocation() {
+		return this.location;
+	}
+
+	public long getBytes() {
+		return this.bytes;
+	}
+
+	public long getDuration() {
+		return this.duration;
+	}
+
+	public Optional<Throwable> getFailure() {
+		return Optional.ofNullable(this.failure);
+	}
+
+	public boolean isSuccessful() {
+		return this.failure == null;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ name = %1$s, location = %2$s, bytes = %3$d, duration = %4$d ms, failure = %5$s }",
+			getName(), getLocation(), getBytes(), getDuration(), this.failure);
+	}
+}
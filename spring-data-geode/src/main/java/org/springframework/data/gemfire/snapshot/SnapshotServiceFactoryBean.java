@@ -22,37 +22,72 @@ import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import org.apache.geode.DataSerializer;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
 import org.apache.geode.cache.snapshot.SnapshotOptions;
+import org.apache.geode.internal.cache.PartitionedRegion;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotCompletedApplicationEvent;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.ObjectUtils;
@@ -63,26 +98,58 @@ import org.springframework.util.StringUtils;
  * of an appropriate GemFire Snapshot Service to perform data import and exports.  A CacheSnapshotService is created
  * if the Region is not specified, otherwise a RegionSnapshotService is used based on the configured Region.
  *
+ * When the concurrency is greater than 1, the snapshots of different Regions are imported and exported in parallel
+ * by at most that many threads.  Failures are reported per Region, and, when an ApplicationEventPublisher is present,
+ * a SnapshotCompletedApplicationEvent carrying the aggregate throughput is published on completion.
+ *
+ * When incremental, the changes to the configured Region are tracked by a ChangeTrackingCacheListener and each export
+ * following a full (base) snapshot only writes a delta file with the entries changed and the keys destroyed since
+ * the previous export.  Imports apply the base snapshot followed by the delta files in order.  Incremental exports
+ * require the Region to receive every change on this member, so client Regions and PARTITION Regions with buckets
+ * hosted by other members are rejected.
+ *
+ * When an import batch size is set, Region snapshots are imported by a ThrottledSnapshotImporter putting
+ * the entries in batches, optionally rate limited, instead of loading them with the RegionSnapshotService.
+ *
  * @author John Blum
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.beans.factory.InitializingBean
  * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.data.gemfire.snapshot.ChangeTrackingCacheListener
  * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
+ * @see org.springframework.data.gemfire.snapshot.ThrottledSnapshotImporter
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotCompletedApplicationEvent
  * @see org.apache.geode.cache.snapshot.CacheSnapshotService
  * @see org.apache.geode.cache.snapshot.RegionSnapshotService
  * @since 1.7.0
  */
 @SuppressWarnings("unused")
 public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport<SnapshotServiceAdapter<K, V>>
-		implements InitializingBean, DisposableBean, ApplicationListener<SnapshotApplicationEvent<K, V>> {
+		implements InitializingBean, DisposableBean, ApplicationEventPublisherAware,
+			ApplicationListener<SnapshotApplicationEvent<K, V>> {
+
+	protected static final int DEFAULT_CONCURRENCY = 1;
 
 	protected static final SnapshotMetadata[] EMPTY_ARRAY = new SnapshotMetadata[0];
 
+	private boolean compressed = false;
+	private boolean incremental = false;
+
+	private int concurrency = DEFAULT_CONCURRENCY;
+	private int importBatchSize = 0;
+	private int importParallelism = ThrottledSnapshotImporter.DEFAULT_PARALLELISM;
+
+	private long importEntriesPerSecond = 0L;
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
 	private Boolean suppressImportOnInit;
 
 	private Cache cache;
 
+	private ChangeTrackingCacheListener<K, V> changeTracker;
+
 	private Region<K, V> region;
 
 	private SnapshotMetadata<K, V>[] exports;
@@ -112,7 +179,7 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	@SuppressWarnings("unchecked")
 	public void afterPropertiesSet() throws Exception {
 
-		this.snapshotServiceAdapter = create();
+		this.snapshotServiceAdapter = configure(create());
 
 		if (!getSuppressImportOnInit()) {
 			this.snapshotServiceAdapter.doImport(getImports());
@@ -137,6 +204,104 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			.orElseGet(() -> wrap(getCache().getSnapshotService()));
 	}
 
+	/**
+	 * Configures the SnapshotServiceAdapter with the concurrency and the completion callback publishing
+	 * a SnapshotCompletedApplicationEvent.
+	 *
+	 * @param snapshotServiceAdapter the SnapshotServiceAdapter to configure.
+	 * @return the configured SnapshotServiceAdapter.
+	 * @see #getConcurrency()
+	 */
+	@SuppressWarnings("unchecked")
+	protected SnapshotServiceAdapter configure(SnapshotServiceAdapter snapshotServiceAdapter) {
+
+		if (snapshotServiceAdapter instanceof SnapshotServiceAdapterSupport) {
+
+			SnapshotServiceAdapterSupport<?, ?> adapterSupport = (SnapshotServiceAdapterSupport) snapshotServiceAdapter;
+
+			adapterSupport.setCompressed(isCompressed());
+			adapterSupport.setConcurrency(getConcurrency());
+			adapterSupport.setCompletionListener(this::publish);
+
+			if (adapterSupport instanceof CacheSnapshotServiceAdapter && getRegion() == null) {
+				((CacheSnapshotServiceAdapter) adapterSupport).setCache(getCache());
+			}
+
+			if (adapterSupport instanceof RegionSnapshotServiceAdapter) {
+				configure((RegionSnapshotServiceAdapter<K, V>) adapterSupport);
+			}
+		}
+
+		Assert.state(!isIncremental() || this.changeTracker != null,
+			"Incremental snapshots require a Region");
+
+		Assert.state(getImportBatchSize() < 1 || getRegion() != null,
+			"Throttled snapshot imports require a Region");
+
+		return snapshotServiceAdapter;
+	}
+
+	private void configure(RegionSnapshotServiceAdapter<K, V> adapter) {
+
+		Region<K, V> region = getRegion();
+
+		adapter.setRegion(region);
+
+		if (isIncremental() && region != null) {
+
+			Assert.state(isChangeTrackingComplete(region), String.format("Incremental snapshots require a Region"
+				+ " receiving every change; Region [%s] is a client Region or a PARTITION Region with buckets"
+					+ " hosted by other members", region.getFullPath()));
+
+			this.changeTracker = new ChangeTrackingCacheListener<>();
+
+			region.getAttributesMutator().addCacheListener(this.changeTracker);
+
+			adapter.setChangeTracker(this.changeTracker);
+		}
+
+		if (getImportBatchSize() > 0) {
+
+			ThrottledSnapshotImporter<K, V> importer = new ThrottledSnapshotImporter<>(getImportBatchSize());
+
+			importer.setEntriesPerSecond(getImportEntriesPerSecond());
+			importer.setParallelism(getImportParallelism());
+			importer.setProgressListener(this::publish);
+
+			adapter.setImporter(importer);
+		}
+	}
+
+	/**
+	 * Determines whether a CacheListener registered on the given Region on this member receives every change made
+	 * to the Region across the cluster, which is required to write delta snapshots of the entire Region.
+	 *
+	 * A client Region only receives the changes made by this client, and a PARTITION Region only receives
+	 * the changes to the buckets hosted by this member, unless this member is the only data store.
+	 *
+	 * @param region the Region to evaluate.
+	 * @return a boolean value indicating whether this member receives every change to the Region.
+	 */
+	static boolean isChangeTrackingComplete(Region<?, ?> region) {
+
+		if (RegionUtils.isClient(region)) {
+			return false;
+		}
+
+		if (region instanceof PartitionedRegion) {
+
+			PartitionedRegion partitionedRegion = (PartitionedRegion) region;
+
+			return partitionedRegion.isDataStore() && partitionedRegion.getRegionAdvisor().adviseDataStore().isEmpty();
+		}
+
+		return true;
+	}
+
+	private void publish(ApplicationEvent event) {
+		Optional.ofNullable(this.applicationEventPublisher).ifPresent(publisher -> publisher.publishEvent(event));
+	}
+
 	/**
 	 * Wraps the GemFire CacheSnapshotService into an appropriate Adapter to uniformly access snapshot operations
 	 * on the Cache and Regions alike.
@@ -191,6 +356,145 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			.orElseThrow(() -> newIllegalStateException("The GemFire Cache was not properly initialized"));
 	}
 
+	/**
+	 * Sets the ApplicationEventPublisher used to publish a SnapshotCompletedApplicationEvent when an import
+	 * or export completes.
+	 *
+	 * @param applicationEventPublisher the ApplicationEventPublisher used to publish completion events.
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotCompletedApplicationEvent
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Sets whether all snapshots are compressed with GZIP on export, regardless of
+	 * {@link SnapshotMetadata#isCompressed()}.
+	 *
+	 * Compressed snapshot files are recognized by their {@literal .gz} extension and decompressed on import.
+	 * Each snapshot file is compressed after it has been written in full, since GemFire/Geode only saves
+	 * snapshots to a file.
+	 *
+	 * @param compressed a boolean value indicating whether all snapshots are compressed on export.
+	 * @see SnapshotMetadata#setCompressed(boolean)
+	 */
+	public void setCompressed(boolean compressed) {
+		this.compressed = compressed;
+	}
+
+	/**
+	 * Determines whether all snapshots are compressed with GZIP on export.
+	 *
+	 * @return a boolean value indicating whether all snapshots are compressed on export.
+	 * @see #setCompressed(boolean)
+	 */
+	protected boolean isCompressed() {
+		return this.compressed;
+	}
+
+	/**
+	 * Sets whether exports of the configured Region are incremental.
+	 *
+	 * The first export after initialization writes a full snapshot; subsequent exports to the same location
+	 * only write the entries changed and the keys destroyed since the previous export to a delta file next to
+	 * the full snapshot.  Clearing the Region forces a new full snapshot.
+	 *
+	 * The changes are tracked by a CacheListener on this member, which must therefore receive every change
+	 * to the Region.  Incremental exports of client Regions, and of PARTITION Regions with buckets hosted
+	 * by other members, are rejected.
+	 *
+	 * @param incremental a boolean value indicating whether exports of the Region are incremental.
+	 * @see org.springframework.data.gemfire.snapshot.ChangeTrackingCacheListener
+	 * @see #setRegion(Region)
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Determines whether exports of the configured Region are incremental.
+	 *
+	 * @return a boolean value indicating whether exports of the Region are incremental.
+	 * @see #setIncremental(boolean)
+	 */
+	protected boolean isIncremental() {
+		return this.incremental;
+	}
+
+	/**
+	 * Sets the number of entries put together when importing a Region snapshot.
+	 *
+	 * When greater than 0, Region snapshots are imported with a ThrottledSnapshotImporter putting the entries
+	 * in batches of this size through the regular data path, which invokes cache callbacks, rather than
+	 * with {@link RegionSnapshotService#load(File, SnapshotFormat, SnapshotOptions)}.  Because the callbacks
+	 * cannot be suppressed, batched imports are rejected unless {@link SnapshotMetadata#isInvokeCallbacks()}
+	 * is {@literal true}.  Defaults to 0, which disables batched imports.
+	 *
+	 * @param importBatchSize the number of entries put together when importing a Region snapshot.
+	 * @see org.springframework.data.gemfire.snapshot.ThrottledSnapshotImporter
+	 */
+	public void setImportBatchSize(int importBatchSize) {
+		this.importBatchSize = importBatchSize;
+	}
+
+	protected int getImportBatchSize() {
+		return this.importBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of entries imported per second by batched imports; 0 means unlimited.
+	 *
+	 * @param importEntriesPerSecond the maximum number of entries imported per second.
+	 * @see #setImportBatchSize(int)
+	 */
+	public void setImportEntriesPerSecond(long importEntriesPerSecond) {
+		this.importEntriesPerSecond = importEntriesPerSecond;
+	}
+
+	protected long getImportEntriesPerSecond() {
+		return this.importEntriesPerSecond;
+	}
+
+	/**
+	 * Sets the number of threads putting batches concurrently during batched imports.
+	 *
+	 * @param importParallelism the number of threads putting batches concurrently.
+	 * @see #setImportBatchSize(int)
+	 */
+	public void setImportParallelism(int importParallelism) {
+		this.importParallelism = importParallelism;
+	}
+
+	protected int getImportParallelism() {
+		return this.importParallelism;
+	}
+
+	/**
+	 * Sets the maximum number of Region snapshots imported or exported in parallel.
+	 *
+	 * @param concurrency the maximum number of Region snapshots imported or exported in parallel;
+	 * must be greater than 0.  Defaults to 1, which imports and exports snapshots one at a time.
+	 * @throws IllegalArgumentException if concurrency is not greater than 0.
+	 * @see #getConcurrency()
+	 */
+	public void setConcurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, String.format("Concurrency [%d] must be greater than 0", concurrency));
+
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Gets the maximum number of Region snapshots imported or exported in parallel.
+	 *
+	 * @return the maximum number of Region snapshots imported or exported in parallel.
+	 * @see #setConcurrency(int)
+	 */
+	protected int getConcurrency() {
+		return this.concurrency;
+	}
+
 	/**
 	 * Sets the meta-data (location, filter and format) used to create a snapshot from the Cache or Region data.
 	 *
@@ -328,7 +632,17 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	@Override
 	@SuppressWarnings("all")
 	public void destroy() throws Exception {
-		getObject().doExport(getExports());
+
+		try {
+			getObject().doExport(getExports());
+		}
+		finally {
+			Region<K, V> region = getRegion();
+
+			if (this.changeTracker != null && region != null && !region.isDestroyed()) {
+				region.getAttributesMutator().removeCacheListener(this.changeTracker);
+			}
+		}
 	}
 
 	/**
@@ -433,6 +747,17 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 
 		protected static final File TEMPORARY_DIRECTORY = new File(System.getProperty("java.io.tmpdir"));
 
+		protected static final String COMPRESSED_FILE_EXTENSION = ".gz";
+		protected static final String SNAPSHOT_FILE_EXTENSION = ".gfd";
+
+		private static final int BUFFER_SIZE = 64 * 1024;
+
+		private volatile boolean compressed = false;
+
+		private volatile int concurrency = DEFAULT_CONCURRENCY;
+
+		private volatile Consumer<SnapshotCompletedApplicationEvent> completionListener = event -> {};
+
 		protected final Logger logger = createLog();
 
 		Logger createLog() {
@@ -452,28 +777,352 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 				.setParallelMode(metadata.isParallel());
 		}
 
+		public void setCompressed(boolean compressed) {
+			this.compressed = compressed;
+		}
+
+		/**
+		 * Determines whether the snapshots described by the given SnapshotMetadata are compressed on export.
+		 *
+		 * @param configuration the SnapshotMetadata describing the export.
+		 * @return a boolean value indicating whether the snapshots are compressed on export.
+		 */
+		protected boolean isCompressed(SnapshotMetadata<K, V> configuration) {
+			return this.compressed || configuration.isCompressed();
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = Math.max(concurrency, 1);
+		}
+
+		protected int getConcurrency() {
+			return this.concurrency;
+		}
+
+		public void setCompletionListener(Consumer<SnapshotCompletedApplicationEvent> completionListener) {
+			this.completionListener = completionListener != null ? completionListener : event -> {};
+		}
+
+		protected boolean isParallel() {
+			return getConcurrency() > 1;
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		public void doExport(SnapshotMetadata<K, V>... configurations) {
 
-			stream(nullSafeArray(configurations, SnapshotMetadata.class)).forEach(configuration ->
-				save(configuration.getLocation(), configuration.getFormat(), createOptions(configuration)));
+			List<SnapshotTask> tasks = stream(nullSafeArray(configurations, SnapshotMetadata.class))
+				.flatMap(configuration -> newExportTasks((SnapshotMetadata<K, V>) configuration).stream())
+				.collect(Collectors.toList());
+
+			run(true, tasks, ExportSnapshotException::new);
 		}
 
 		@Override
 		@SuppressWarnings("unchecked")
 		public void doImport(SnapshotMetadata<K, V>... configurations) {
 
-			stream(nullSafeArray(configurations, SnapshotMetadata.class)).forEach(configuration ->
-				load(configuration.getFormat(), createOptions(configuration), handleLocation(configuration)));
+			List<SnapshotTask> tasks = stream(nullSafeArray(configurations, SnapshotMetadata.class))
+				.flatMap(configuration -> newImportTasks((SnapshotMetadata<K, V>) configuration).stream())
+				.collect(Collectors.toList());
+
+			run(false, tasks, ImportSnapshotException::new);
+		}
+
+		/**
+		 * Creates the tasks exporting the snapshots described by the given SnapshotMetadata.
+		 *
+		 * @param configuration the SnapshotMetadata describing the export.
+		 * @return the tasks exporting the snapshots; each task is run independently of the others.
+		 */
+		protected List<SnapshotTask> newExportTasks(SnapshotMetadata<K, V> configuration) {
+
+			File location = configuration.getLocation();
+
+			return Collections.singletonList(new SnapshotTask(location.getName(), location, () -> {
+
+				save(location, configuration.getFormat(), createOptions(configuration));
+
+				return isCompressed(configuration) ? compress(location) : sizeOf(location);
+			}));
+		}
+
+		/**
+		 * Creates the tasks importing the snapshots described by the given SnapshotMetadata.
+		 *
+		 * In parallel mode, each snapshot file is imported by its own task.
+		 *
+		 * @param configuration the SnapshotMetadata describing the import.
+		 * @return the tasks importing the snapshots; each task is run independently of the others.
+		 */
+		protected List<SnapshotTask> newImportTasks(SnapshotMetadata<K, V> configuration) {
+
+			File location = configuration.getLocation();
+
+			if (isParallel()) {
+
+				File[] snapshots;
+
+				try {
+					snapshots = resolveSnapshots(configuration);
+				}
+				catch (RuntimeException cause) {
+					return Collections.singletonList(new SnapshotTask(location.getName(), location, () -> {
+						throw cause;
+					}));
+				}
+
+				return stream(snapshots)
+					.map(snapshot -> new SnapshotTask(snapshot.getName(), snapshot,
+						() -> loadSnapshot(configuration, snapshot)))
+					.collect(Collectors.toList());
+			}
+
+			return Collections.singletonList(new SnapshotTask(location.getName(), location, () -> {
+
+				File[] snapshots = resolveSnapshots(configuration);
+
+				if (stream(snapshots).anyMatch(SnapshotServiceAdapterSupport::isCompressed)) {
+					return stream(snapshots).mapToLong(snapshot -> loadSnapshot(configuration, snapshot)).sum();
+				}
+
+				load(configuration.getFormat(), createOptions(configuration), snapshots);
+
+				return stream(snapshots).mapToLong(SnapshotServiceAdapterSupport::sizeOf).sum();
+			}));
+		}
+
+		/**
+		 * Resolves the snapshot files to import, preferring the compressed snapshot file when a snapshot file
+		 * was exported compressed and therefore only exists with the {@literal .gz} extension.
+		 */
+		protected File[] resolveSnapshots(SnapshotMetadata<K, V> configuration) {
+
+			return stream(nullSafeArray(handleLocation(configuration), File.class))
+				.map(SnapshotServiceAdapterSupport::resolveSnapshot)
+				.toArray(File[]::new);
+		}
+
+		static File resolveSnapshot(File snapshot) {
+
+			File compressedSnapshot = snapshot != null && !snapshot.exists() && snapshot.getPath() != null
+				? new File(snapshot.getPath() + COMPRESSED_FILE_EXTENSION)
+				: null;
+
+			return compressedSnapshot != null && compressedSnapshot.isFile() ? compressedSnapshot : snapshot;
+		}
+
+		static boolean isCompressed(File snapshot) {
+			return snapshot != null && String.valueOf(snapshot.getName()).endsWith(COMPRESSED_FILE_EXTENSION);
+		}
+
+		/**
+		 * Loads a single snapshot file, decompressing it first if it was compressed on export.
+		 *
+		 * @return the size, in bytes, of the snapshot file.
+		 */
+		protected long loadSnapshot(SnapshotMetadata<K, V> configuration, File snapshot) {
+
+			if (isCompressed(snapshot)) {
+				try {
+					loadFromStream(configuration, snapshot.getName(), () -> new FileInputStream(snapshot));
+				}
+				catch (IOException cause) {
+					throw new ImportSnapshotException(String.format("Failed to decompress snapshot [%s]", snapshot),
+						cause);
+				}
+			}
+			else {
+				load(configuration.getFormat(), createOptions(configuration), snapshot);
+			}
+
+			return sizeOf(snapshot);
+		}
+
+		/**
+		 * Compresses the given snapshot file with GZIP, replacing the snapshot file with a compressed snapshot file
+		 * of the same name with a {@literal .gz} extension.
+		 *
+		 * Compression is a post-pass: GemFire/Geode's snapshot services only save to a {@link File}, so the full
+		 * snapshot file is written first, then re-read into the compressed snapshot file and deleted.  The export
+		 * therefore temporarily needs disk space for both the uncompressed and the compressed snapshot file.
+		 *
+		 * @param snapshot the snapshot file to compress.
+		 * @return the size, in bytes, of the compressed snapshot file.
+		 */
+		protected long compress(File snapshot) {
+
+			File compressedSnapshot = new File(snapshot.getPath() + COMPRESSED_FILE_EXTENSION);
+
+			try (InputStream in = new FileInputStream(snapshot);
+				 OutputStream out = new GZIPOutputStream(new FileOutputStream(compressedSnapshot), BUFFER_SIZE)) {
+
+				FileCopyUtils.copy(in, out);
+			}
+			catch (IOException cause) {
+				deleteQuietly(compressedSnapshot);
+				throw new ExportSnapshotException(String.format("Failed to compress snapshot [%s]", snapshot), cause);
+			}
+
+			deleteQuietly(snapshot);
+
+			return compressedSnapshot.length();
+		}
+
+		/**
+		 * Runs the tasks, at most {@link #getConcurrency()} at a time, notifies the completion listener
+		 * and throws an exception naming every failed snapshot.
+		 *
+		 * Tasks run one at a time stop at, and rethrow, the first failure, like a non-parallel import or export.
+		 */
+		private void run(boolean export, List<SnapshotTask> tasks,
+				BiFunction<String, Throwable, RuntimeException> exceptionFactory) {
+
+			long startTime = System.nanoTime();
+
+			List<SnapshotResult> results = new ArrayList<>(tasks.size());
+
+			try {
+				if (isParallel() && tasks.size() > 1) {
+					results.addAll(runInParallel(tasks));
+				}
+				else {
+					for (SnapshotTask task : tasks) {
+
+						SnapshotResult result = task.call();
+
+						results.add(result);
+
+						if (!result.isSuccessful()) {
+							throw rethrow(result.getFailure().orElse(null), exceptionFactory);
+						}
+					}
+				}
+			}
+			finally {
+				this.completionListener.accept(new SnapshotCompletedApplicationEvent(this, export, results,
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+			}
+
+			List<SnapshotResult> failures = results.stream()
+				.filter(result -> !result.isSuccessful())
+				.collect(Collectors.toList());
+
+			if (!failures.isEmpty()) {
+
+				RuntimeException exception = exceptionFactory.apply(String.format("Failed to %1$s snapshots %2$s",
+					export ? "export" : "import", failures.stream().map(SnapshotResult::getName)
+						.collect(Collectors.toList())), failures.get(0).getFailure().orElse(null));
+
+				failures.stream().skip(1).forEach(failure -> failure.getFailure().ifPresent(exception::addSuppressed));
+
+				throw exception;
+			}
+		}
+
+		private List<SnapshotResult> runInParallel(List<SnapshotTask> tasks) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("SnapshotService-");
+
+			threadFactory.setDaemon(true);
+
+			ExecutorService executor =
+				Executors.newFixedThreadPool(Math.min(getConcurrency(), tasks.size()), threadFactory);
+
+			try {
+				return tasks.stream()
+					.map(task -> CompletableFuture.supplyAsync(task::call, executor))
+					.collect(Collectors.toList())
+					.stream()
+					.map(CompletableFuture::join)
+					.collect(Collectors.toList());
+			}
+			finally {
+				executor.shutdown();
+			}
+		}
+
+		private RuntimeException rethrow(Throwable cause,
+				BiFunction<String, Throwable, RuntimeException> exceptionFactory) {
+
+			if (cause instanceof RuntimeException) {
+				return (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			return exceptionFactory.apply(String.valueOf(cause), cause);
+		}
+
+		/**
+		 * Returns the size, in bytes, of the given snapshot file, or of all snapshot files in the given directory.
+		 */
+		static long sizeOf(File location) {
+
+			if (nullSafeIsDirectory(location)) {
+				return stream(nullSafeArray(location.listFiles(file -> nullSafeIsFile(file)
+					&& (file.getName().endsWith(SNAPSHOT_FILE_EXTENSION)
+						|| file.getName().endsWith(SNAPSHOT_FILE_EXTENSION + COMPRESSED_FILE_EXTENSION))), File.class))
+					.mapToLong(File::length).sum();
+			}
+
+			return nullSafeIsFile(location) ? location.length() : 0L;
 		}
 
 		protected abstract File[] handleLocation(SnapshotMetadata<K, V> configuration);
 
+		/**
+		 * Imports or exports a single snapshot, recording its SnapshotResult.
+		 */
+		protected static class SnapshotTask {
+
+			private final File location;
+
+			private final LongSupplier action;
+
+			private final String name;
+
+			protected SnapshotTask(String name, File location, LongSupplier action) {
+				this.name = name;
+				this.location = location;
+				this.action = action;
+			}
+
+			SnapshotResult call() {
+
+				long startTime = System.nanoTime();
+
+				try {
+
+					long bytes = this.action.getAsLong();
+
+					return new SnapshotResult(this.name, this.location, bytes, elapsedSince(startTime), null);
+				}
+				catch (Throwable cause) {
+					return new SnapshotResult(this.name, this.location, 0L, elapsedSince(startTime), cause);
+				}
+			}
+
+			private long elapsedSince(long startTime) {
+				return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+			}
+		}
+
 		protected File[] handleDirectoryLocation(File directory) {
 			return directory.listFiles(pathname -> nullSafeIsFile(pathname));
 		}
 
+		/**
+		 * Extracts the snapshot files of an archive into a directory in {@literal java.io.tmpdir}.
+		 *
+		 * Imports of archives configured with SnapshotMetadata do not use this method, but stream each
+		 * archive entry as it is imported; see {@link #newArchiveImportTasks(SnapshotMetadata)}.
+		 *
+		 * @param file the snapshot file or archive.
+		 * @return the extracted snapshot files, or the given file if it is not an archive.
+		 */
 		protected File[] handleFileLocation(File file) {
 
 			if (ArchiveFileFilter.INSTANCE.accept(file)) {
@@ -486,24 +1135,13 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 						String.format("Failed create directory (%1$s) in which to extract archive (%2$s)",
 							extractedArchiveDirectory, file));
 
-					ZipFile zipFile = (ArchiveFileFilter.INSTANCE.isJarFile(file)
-						? new JarFile(file, false, JarFile.OPEN_READ)
-							: new ZipFile(file, ZipFile.OPEN_READ));
-
-					for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
-						if (!entry.isDirectory()) {
-
-							DataInputStream entryInputStream = new DataInputStream(zipFile.getInputStream(entry));
-
-							DataOutputStream entryOutputStream = new DataOutputStream(new FileOutputStream(
-								new File(extractedArchiveDirectory, toSimpleFilename(entry.getName()))));
-
-							try {
-								FileCopyUtils.copy(entryInputStream, entryOutputStream);
-							}
-							finally {
-								exceptionSuppressingClose(entryInputStream);
-								exceptionSuppressingClose(entryOutputStream);
+					try (ZipFile zipFile = openArchive(file)) {
+						for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
+							if (!entry.isDirectory()) {
+								try (InputStream entryInputStream = zipFile.getInputStream(entry)) {
+									Files.copy(entryInputStream, new File(extractedArchiveDirectory,
+										toSimpleFilename(entry.getName())).toPath(), StandardCopyOption.REPLACE_EXISTING);
+								}
 							}
 						}
 					}
@@ -519,6 +1157,144 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return new File[] { file };
 		}
 
+		protected ZipFile openArchive(File archive) throws IOException {
+
+			return ArchiveFileFilter.INSTANCE.isJarFile(archive)
+				? new JarFile(archive, false, JarFile.OPEN_READ)
+				: new ZipFile(archive, ZipFile.OPEN_READ);
+		}
+
+		/**
+		 * Determines whether the SnapshotMetadata refers to a ZIP or JAR archive of snapshot files.
+		 *
+		 * @param configuration the SnapshotMetadata to evaluate.
+		 * @return a boolean value indicating whether the SnapshotMetadata refers to an archive.
+		 */
+		protected boolean isArchive(SnapshotMetadata<K, V> configuration) {
+			return configuration.isFile() && ArchiveFileFilter.INSTANCE.accept(configuration.getLocation());
+		}
+
+		/**
+		 * Creates the tasks importing the snapshot files of an archive without extracting the archive.
+		 *
+		 * Each archive entry is streamed to its own scratch file just before it is loaded, and the scratch file
+		 * is deleted right after, whether or not the load succeeded.  At most one scratch file per concurrently
+		 * running task exists at any time, rather than a full copy of the archive.
+		 *
+		 * @param configuration the SnapshotMetadata referring to the archive.
+		 * @return the tasks importing the snapshot files of the archive.
+		 */
+		protected List<SnapshotTask> newArchiveImportTasks(SnapshotMetadata<K, V> configuration) {
+
+			File archive = configuration.getLocation();
+
+			List<String> entryNames;
+
+			try (ZipFile zipFile = openArchive(archive)) {
+				entryNames = zipFile.stream()
+					.filter(entry -> !entry.isDirectory())
+					.map(ZipEntry::getName)
+					.collect(Collectors.toList());
+			}
+			catch (Throwable cause) {
+
+				ImportSnapshotException exception = new ImportSnapshotException(
+					String.format("Failed to read archive [%s] to import", archive), cause);
+
+				return Collections.singletonList(new SnapshotTask(archive.getName(), archive, () -> {
+					throw exception;
+				}));
+			}
+
+			if (isParallel()) {
+				return entryNames.stream()
+					.map(entryName -> new SnapshotTask(toSimpleFilename(entryName), archive,
+						() -> importArchiveEntries(configuration, Collections.singletonList(entryName))))
+					.collect(Collectors.toList());
+			}
+
+			return Collections.singletonList(new SnapshotTask(archive.getName(), archive,
+				() -> importArchiveEntries(configuration, entryNames)));
+		}
+
+		private long importArchiveEntries(SnapshotMetadata<K, V> configuration, List<String> entryNames) {
+
+			File archive = configuration.getLocation();
+
+			long bytes = 0L;
+
+			try (ZipFile zipFile = openArchive(archive)) {
+				for (String entryName : entryNames) {
+					bytes += importArchiveEntry(configuration, zipFile, zipFile.getEntry(entryName));
+				}
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to read archive [%s] to import", archive),
+					cause);
+			}
+
+			return bytes;
+		}
+
+		private long importArchiveEntry(SnapshotMetadata<K, V> configuration, ZipFile zipFile, ZipEntry entry)
+				throws IOException {
+
+			return loadFromStream(configuration, entry.getName(), () -> zipFile.getInputStream(entry));
+		}
+
+		/**
+		 * Streams a snapshot into a scratch file, decompressing it if its name has a {@literal .gz} extension,
+		 * loads the scratch file and deletes it, whether or not the load succeeded.
+		 *
+		 * @return the size, in bytes, of the loaded snapshot.
+		 */
+		private long loadFromStream(SnapshotMetadata<K, V> configuration, String name, SnapshotSource source)
+				throws IOException {
+
+			boolean compressed = name.endsWith(COMPRESSED_FILE_EXTENSION);
+
+			String snapshotName = toSimpleFilename(compressed
+				? name.substring(0, name.length() - COMPRESSED_FILE_EXTENSION.length())
+				: name);
+
+			Path scratchDirectory = Files.createTempDirectory(TEMPORARY_DIRECTORY.toPath(), "snapshot-");
+
+			File snapshot = new File(scratchDirectory.toFile(), snapshotName);
+
+			try {
+				try (InputStream in = compressed
+						? new GZIPInputStream(source.open(), BUFFER_SIZE)
+						: source.open()) {
+
+					Files.copy(in, snapshot.toPath());
+				}
+
+				load(configuration.getFormat(), createOptions(configuration), snapshot);
+
+				return snapshot.length();
+			}
+			finally {
+				deleteQuietly(snapshot);
+				deleteQuietly(scratchDirectory.toFile());
+			}
+		}
+
+		@FunctionalInterface
+		interface SnapshotSource {
+			InputStream open() throws IOException;
+		}
+
+		private void deleteQuietly(File file) {
+
+			try {
+				Files.deleteIfExists(file.toPath());
+			}
+			catch (IOException cause) {
+				logDebug(cause, "Failed to delete [%s]", file);
+				file.deleteOnExit();
+			}
+		}
+
 		protected boolean exceptionSuppressingClose(Closeable closeable) {
 
 			try {
@@ -572,6 +1348,8 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected static class CacheSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
 
+		private Cache cache;
+
 		private final CacheSnapshotService snapshotService;
 
 		public CacheSnapshotServiceAdapter(CacheSnapshotService snapshotService) {
@@ -583,11 +1361,156 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return this.snapshotService;
 		}
 
+		/**
+		 * Sets the Cache whose Regions are exported one by one, in parallel, when the concurrency is greater than 1.
+		 *
+		 * @param cache the Cache whose Regions are exported.
+		 */
+		public void setCache(Cache cache) {
+			this.cache = cache;
+		}
+
+		protected Cache getCache() {
+			return this.cache;
+		}
+
+		/**
+		 * In parallel mode, exports each Region to its own snapshot file, named the same as the snapshot files
+		 * written by the CacheSnapshotService, so that the snapshots of different Regions are written in parallel.
+		 */
+		@Override
+		protected List<SnapshotTask> newExportTasks(SnapshotMetadata<Object, Object> configuration) {
+
+			Cache cache = getCache();
+
+			if (!isParallel() || cache == null) {
+				return isCompressed(configuration)
+					? Collections.singletonList(newCompressedExportTask(configuration))
+					: super.newExportTasks(configuration);
+			}
+
+			File directory = configuration.getLocation();
+
+			return regionsOf(cache).stream()
+				.map(region -> newRegionExportTask(region, directory, configuration))
+				.collect(Collectors.toList());
+		}
+
+		/**
+		 * Exports all Regions to the directory with the CacheSnapshotService, then compresses only the snapshot files
+		 * written by this export, leaving any other snapshot files in the directory untouched.
+		 */
+		private SnapshotTask newCompressedExportTask(SnapshotMetadata<Object, Object> configuration) {
+
+			File directory = configuration.getLocation();
+
+			return new SnapshotTask(directory.getName(), directory, () -> {
+
+				Map<File, Long> previousSnapshots = lastModifiedTimes(directory);
+
+				save(directory, configuration.getFormat(), createOptions(configuration));
+
+				return stream(resolveExportedSnapshots(directory, previousSnapshots)).mapToLong(this::compress).sum();
+			});
+		}
+
+		/**
+		 * Resolves the snapshot files written to the directory by an export: the snapshot file of each Region
+		 * in the Cache when the Cache is known, otherwise the snapshot files created or modified by the export.
+		 */
+		File[] resolveExportedSnapshots(File directory, Map<File, Long> previousSnapshots) {
+
+			Cache cache = getCache();
+
+			File[] snapshots = cache != null
+				? regionsOf(cache).stream().map(region -> snapshotFileFor(directory, region)).toArray(File[]::new)
+				: lastModifiedTimes(directory).entrySet().stream()
+					.filter(entry -> !entry.getValue().equals(previousSnapshots.get(entry.getKey())))
+					.map(Map.Entry::getKey)
+					.toArray(File[]::new);
+
+			return stream(snapshots).filter(SnapshotServiceFactoryBean::nullSafeIsFile).toArray(File[]::new);
+		}
+
+		private Map<File, Long> lastModifiedTimes(File directory) {
+
+			return stream(nullSafeArray(directory.listFiles(file -> nullSafeIsFile(file)
+					&& file.getName().endsWith(SNAPSHOT_FILE_EXTENSION)), File.class))
+				.collect(Collectors.toMap(file -> file, File::lastModified));
+		}
+
+		/**
+		 * Returns all Regions of the Cache exported by the CacheSnapshotService, the root Regions and their subregions.
+		 */
+		private List<Region<?, ?>> regionsOf(Cache cache) {
+
+			List<Region<?, ?>> regions = new ArrayList<>();
+
+			for (Region<?, ?> rootRegion : cache.rootRegions()) {
+				regions.add(rootRegion);
+				regions.addAll(rootRegion.subregions(true));
+			}
+
+			return regions;
+		}
+
+		/**
+		 * Returns the snapshot file of the Region, named the same as the snapshot file written
+		 * by the CacheSnapshotService.
+		 */
+		private File snapshotFileFor(File directory, Region<?, ?> region) {
+			return new File(directory, "snapshot" + region.getFullPath().replace(Region.SEPARATOR_CHAR, '-')
+				+ SNAPSHOT_FILE_EXTENSION);
+		}
+
+		@SuppressWarnings("unchecked")
+		private SnapshotTask newRegionExportTask(Region<?, ?> region, File directory,
+				SnapshotMetadata<Object, Object> configuration) {
+
+			File snapshot = snapshotFileFor(directory, region);
+
+			return new SnapshotTask(region.getFullPath(), snapshot, () -> {
+
+				RegionSnapshotService<Object, Object> regionSnapshotService =
+					((Region<Object, Object>) region).getSnapshotService();
+
+				SnapshotOptions<Object, Object> options = regionSnapshotService.createOptions()
+					.invokeCallbacks(configuration.isInvokeCallbacks())
+					.setFilter(configuration.getFilter())
+					.setParallelMode(configuration.isParallel());
+
+				try {
+					Assert.state(directory.isDirectory() || directory.mkdirs(),
+						String.format("Failed to create snapshot directory [%s]", directory));
+
+					regionSnapshotService.save(snapshot, configuration.getFormat(), options);
+				}
+				catch (Throwable cause) {
+					throw new ExportSnapshotException(String.format(
+						"Failed to save snapshot of Region [%1$s] to file [%2$s] in format [%3$s]",
+							region.getFullPath(), snapshot, configuration.getFormat()), cause);
+				}
+
+				return isCompressed(configuration) ? compress(snapshot) : sizeOf(snapshot);
+			});
+		}
+
 		@Override
 		public SnapshotOptions<Object, Object> createOptions() {
 			return getSnapshotService().createOptions();
 		}
 
+		/**
+		 * Imports archives of snapshot files by streaming each archive entry as it is imported.
+		 */
+		@Override
+		protected List<SnapshotTask> newImportTasks(SnapshotMetadata<Object, Object> configuration) {
+
+			return isArchive(configuration)
+				? newArchiveImportTasks(configuration)
+				: super.newImportTasks(configuration);
+		}
+
 		@Override
 		protected File[] handleLocation(SnapshotMetadata<Object, Object> configuration) {
 
@@ -656,6 +1579,15 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected static class RegionSnapshotServiceAdapter<K, V> extends SnapshotServiceAdapterSupport<K, V> {
 
+		protected static final String DELTA_FILE_INFIX = ".delta-";
+		protected static final String DESTROYED_KEYS_FILE_EXTENSION = ".destroyed";
+
+		private ChangeTrackingCacheListener<K, V> changeTracker;
+
+		private Region<K, V> region;
+
+		private ThrottledSnapshotImporter<K, V> importer;
+
 		private final RegionSnapshotService<K, V> snapshotService;
 
 		public RegionSnapshotServiceAdapter(RegionSnapshotService<K, V> snapshotService) {
@@ -667,6 +1599,263 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return this.snapshotService;
 		}
 
+		public void setChangeTracker(ChangeTrackingCacheListener<K, V> changeTracker) {
+			this.changeTracker = changeTracker;
+		}
+
+		protected ChangeTrackingCacheListener<K, V> getChangeTracker() {
+			return this.changeTracker;
+		}
+
+		public void setImporter(ThrottledSnapshotImporter<K, V> importer) {
+			this.importer = importer;
+		}
+
+		protected ThrottledSnapshotImporter<K, V> getImporter() {
+			return this.importer;
+		}
+
+		public void setRegion(Region<K, V> region) {
+			this.region = region;
+		}
+
+		protected Region<K, V> getRegion() {
+			return this.region;
+		}
+
+		private boolean isThrottled(SnapshotFormat format) {
+			return getImporter() != null && getRegion() != null && SnapshotFormat.GEMFIRE.equals(format);
+		}
+
+		/**
+		 * Rejects a throttled import that must not invoke cache callbacks, since the ThrottledSnapshotImporter
+		 * puts the entries through the regular data path, which always invokes them.
+		 */
+		private void assertInvokesCallbacks(SnapshotOptions<K, V> options) {
+
+			if (options == null || !options.shouldInvokeCallbacks()) {
+				throw new ImportSnapshotException(String.format("Batched imports into Region [%s] always invoke"
+					+ " cache callbacks; invokeCallbacks must be true when an import batch size is set",
+						getRegion().getFullPath()));
+			}
+		}
+
+		/**
+		 * Creates a task writing a delta file when the Region changes are tracked and a full snapshot was
+		 * written since tracking started, otherwise a task writing a full snapshot and deleting previous delta files.
+		 */
+		@Override
+		protected List<SnapshotTask> newExportTasks(SnapshotMetadata<K, V> configuration) {
+
+			ChangeTrackingCacheListener<K, V> changeTracker = getChangeTracker();
+
+			if (changeTracker == null) {
+				return super.newExportTasks(configuration);
+			}
+
+			File location = configuration.getLocation();
+
+			return Collections.singletonList(new SnapshotTask(location.getName(), location, () ->
+				changeTracker.hasBaseline() && resolveSnapshot(location).isFile() && isChangeTrackingComplete()
+					? exportDelta(configuration, changeTracker)
+					: exportBase(configuration, changeTracker)));
+		}
+
+		/**
+		 * Determines whether the tracked changes still cover the entire Region; when another member started
+		 * hosting buckets of a PARTITION Region, a full snapshot is written instead of a delta.
+		 */
+		private boolean isChangeTrackingComplete() {
+
+			Region<K, V> region = getRegion();
+
+			if (region == null || SnapshotServiceFactoryBean.isChangeTrackingComplete(region)) {
+				return true;
+			}
+
+			logger.warn("Region [{}] is no longer hosted only by this member; writing a full snapshot", region.getFullPath());
+
+			return false;
+		}
+
+		private long exportBase(SnapshotMetadata<K, V> configuration, ChangeTrackingCacheListener<K, V> changeTracker) {
+
+			File location = configuration.getLocation();
+
+			changeTracker.resetBaseline();
+
+			try {
+
+				save(location, configuration.getFormat(), createOptions(configuration));
+
+				long bytes = isCompressed(configuration) ? compress(location) : sizeOf(location);
+
+				listDeltas(location).values().stream().flatMap(List::stream).forEach(File::delete);
+
+				return bytes;
+			}
+			catch (RuntimeException cause) {
+				changeTracker.invalidateBaseline();
+				throw cause;
+			}
+		}
+
+		private long exportDelta(SnapshotMetadata<K, V> configuration, ChangeTrackingCacheListener<K, V> changeTracker) {
+
+			ChangeTrackingCacheListener.ChangeSet<K> changes = changeTracker.drain();
+
+			if (changes.isEmpty()) {
+				return 0L;
+			}
+
+			File location = configuration.getLocation();
+
+			long sequence = listDeltas(location).keySet().stream().mapToLong(Long::longValue).max().orElse(0L) + 1L;
+
+			File delta = newDeltaFile(location, sequence, SNAPSHOT_FILE_EXTENSION);
+			File destroyedKeys = newDeltaFile(location, sequence, DESTROYED_KEYS_FILE_EXTENSION);
+
+			try {
+
+				long bytes = 0L;
+
+				if (!changes.getChangedKeys().isEmpty()) {
+
+					Set<K> changedKeys = changes.getChangedKeys();
+
+					SnapshotFilter<K, V> filter = configuration.getFilter();
+
+					SnapshotFilter<K, V> changedEntries = filter != null
+						? entry -> changedKeys.contains(entry.getKey()) && filter.accept(entry)
+						: entry -> changedKeys.contains(entry.getKey());
+
+					SnapshotOptions<K, V> options = createOptions(configuration).setFilter(changedEntries);
+
+					save(delta, configuration.getFormat(), options);
+
+					bytes += isCompressed(configuration) ? compress(delta) : sizeOf(delta);
+				}
+
+				if (!changes.getDestroyedKeys().isEmpty()) {
+					bytes += writeDestroyedKeys(destroyedKeys, changes.getDestroyedKeys());
+				}
+
+				return bytes;
+			}
+			catch (RuntimeException cause) {
+				changeTracker.restore(changes);
+				delta.delete();
+				new File(delta.getPath() + COMPRESSED_FILE_EXTENSION).delete();
+				destroyedKeys.delete();
+				throw cause;
+			}
+		}
+
+		private long writeDestroyedKeys(File file, Set<K> destroyedKeys) {
+
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+				DataSerializer.writeObject(new ArrayList<>(destroyedKeys), out);
+			}
+			catch (IOException cause) {
+				throw new ExportSnapshotException(String.format("Failed to write destroyed keys to file [%s]", file),
+					cause);
+			}
+
+			return file.length();
+		}
+
+		/**
+		 * Creates a task importing the full snapshot followed by the delta files, in order, when delta files
+		 * are present next to the snapshot file, otherwise the default import tasks.
+		 */
+		@Override
+		protected List<SnapshotTask> newImportTasks(SnapshotMetadata<K, V> configuration) {
+
+			File location = configuration.getLocation();
+
+			SortedMap<Long, List<File>> deltas = getRegion() != null ? listDeltas(location) : Collections.emptySortedMap();
+
+			if (deltas.isEmpty()) {
+				return super.newImportTasks(configuration);
+			}
+
+			return Collections.singletonList(new SnapshotTask(location.getName(), location, () -> {
+
+				long bytes = stream(resolveSnapshots(configuration))
+					.mapToLong(snapshot -> loadSnapshot(configuration, snapshot))
+					.sum();
+
+				for (List<File> delta : deltas.values()) {
+					for (File file : delta) {
+						bytes += file.getName().endsWith(DESTROYED_KEYS_FILE_EXTENSION)
+							? removeDestroyedKeys(file)
+							: loadSnapshot(configuration, file);
+					}
+				}
+
+				return bytes;
+			}));
+		}
+
+		private long removeDestroyedKeys(File file) {
+
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+
+				List<K> destroyedKeys = DataSerializer.readObject(in);
+
+				getRegion().removeAll(destroyedKeys);
+
+				return file.length();
+			}
+			catch (ClassNotFoundException | IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to read destroyed keys from file [%s]", file),
+					cause);
+			}
+		}
+
+		/**
+		 * Lists the delta files of the given snapshot file by sequence number; the entries file of a delta,
+		 * if any, precedes the destroyed keys file.
+		 */
+		static SortedMap<Long, List<File>> listDeltas(File location) {
+
+			SortedMap<Long, List<File>> deltas = new TreeMap<>();
+
+			File directory = Optional.ofNullable(location.getAbsoluteFile()).map(File::getParentFile).orElse(null);
+
+			Pattern deltaFilePattern = Pattern.compile(Pattern.quote(toDeltaFilePrefix(location)) + "(\\d+)("
+				+ Pattern.quote(SNAPSHOT_FILE_EXTENSION) + "(" + Pattern.quote(COMPRESSED_FILE_EXTENSION) + ")?|"
+				+ Pattern.quote(DESTROYED_KEYS_FILE_EXTENSION) + ")");
+
+			for (File file : nullSafeArray(directory != null ? directory.listFiles() : null, File.class)) {
+
+				Matcher matcher = deltaFilePattern.matcher(file.getName());
+
+				if (nullSafeIsFile(file) && matcher.matches()) {
+					deltas.computeIfAbsent(Long.parseLong(matcher.group(1)), sequence -> new ArrayList<>()).add(file);
+				}
+			}
+
+			deltas.values().forEach(files -> files.sort(Comparator.comparing((File file) ->
+				file.getName().endsWith(DESTROYED_KEYS_FILE_EXTENSION))));
+
+			return deltas;
+		}
+
+		static File newDeltaFile(File location, long sequence, String extension) {
+			return new File(location.getAbsoluteFile().getParentFile(),
+				String.format("%1$s%2$06d%3$s", toDeltaFilePrefix(location), sequence, extension));
+		}
+
+		private static String toDeltaFilePrefix(File location) {
+
+			String name = location.getName();
+
+			return (name.endsWith(SNAPSHOT_FILE_EXTENSION)
+				? name.substring(0, name.length() - SNAPSHOT_FILE_EXTENSION.length())
+				: name) + DELTA_FILE_INFIX;
+		}
+
 		@Override
 		public SnapshotOptions<K, V> createOptions() {
 			return getSnapshotService().createOptions();
@@ -680,6 +1869,13 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		@Override
 		public void load(File snapshot, SnapshotFormat format) {
 
+			if (isThrottled(format)) {
+				// without SnapshotOptions, GemFire/Geode loads snapshots without invoking cache callbacks
+				throw new ImportSnapshotException(String.format("Batched imports into Region [%s] always invoke"
+					+ " cache callbacks; load the snapshot with SnapshotOptions invoking callbacks instead",
+						getRegion().getFullPath()));
+			}
+
 			try {
 				getSnapshotService().load(snapshot, format);
 			}
@@ -693,6 +1889,17 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		@Override
 		public void load(SnapshotFormat format, SnapshotOptions<K, V> options, File... snapshots) {
 
+			if (isThrottled(format)) {
+
+				assertInvokesCallbacks(options);
+
+				for (File snapshot : snapshots) {
+					getImporter().importSnapshot(snapshot, getRegion(), options.getFilter());
+				}
+
+				return;
+			}
+
 			try {
 				for (File snapshot : snapshots) {
 					getSnapshotService().load(snapshot, format, options);
@@ -741,11 +1948,13 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	public static class SnapshotMetadata<K, V> {
 
+		protected static final boolean DEFAULT_COMPRESSED = false;
 		protected static final boolean DEFAULT_INVOKE_CALLBACKS = false;
 		protected static final boolean DEFAULT_PARALLEL = false;
 
 		protected static final SnapshotFormat DEFAULT_SNAPSHOT_FORMAT = SnapshotFormat.GEMFIRE;
 
+		private boolean compressed = DEFAULT_COMPRESSED;
 		private boolean invokeCallbacks = DEFAULT_INVOKE_CALLBACKS;
 		private boolean parallel = DEFAULT_PARALLEL;
 
@@ -796,6 +2005,23 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return this.filter;
 		}
 
+		/**
+		 * Sets whether the snapshot files are compressed with GZIP on export.
+		 *
+		 * Compressed snapshot files have a {@literal .gz} extension and are decompressed on import.
+		 * Each snapshot file is compressed after it has been written in full, since GemFire/Geode only saves
+		 * snapshots to a file.
+		 *
+		 * @param compressed a boolean value indicating whether the snapshot files are compressed on export.
+		 */
+		public void setCompressed(boolean compressed) {
+			this.compressed = compressed;
+		}
+
+		public boolean isCompressed() {
+			return this.compressed;
+		}
+
 		public void setInvokeCallbacks(boolean invokeCallbacks) {
 			this.invokeCallbacks = invokeCallbacks;
 		}
@@ -0,0 +1,487 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.apache.geode.cache.EntryOperation;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.PartitionResolver;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.snapshot.SnapshotFilter;
+import org.apache.geode.cache.snapshot.SnapshotIterator;
+import org.apache.geode.cache.snapshot.SnapshotReader;
+
+import org.springframework.data.gemfire.snapshot.event.SnapshotImportProgressApplicationEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * The ThrottledSnapshotImporter class imports a Region snapshot file by reading its entries with
+ * {@link SnapshotReader} and putting them into the Region in batches with {@link Region#putAll(Map)},
+ * optionally limiting the rate, in entries per second, at which entries are put.
+ *
+ * Unlike {@link org.apache.geode.cache.snapshot.RegionSnapshotService#load}, the import goes through
+ * the regular data path, spreading the load over time to protect live traffic.  Cache callbacks are therefore
+ * always invoked; {@link Region#putAll(Map)} offers no way to suppress them.
+ *
+ * When the parallelism is greater than 1, batches are put by that many threads.  For a PARTITION Region,
+ * the entries of a bucket are always put by the same thread, so that each {@code putAll} targets few buckets.
+ * The bucket is computed the way GemFire/Geode computes it: from the routing object of the Region's
+ * {@link PartitionResolver}, or of the key when the key is a {@link PartitionResolver}, otherwise from the key,
+ * as {@code abs(hashCode % totalNumBuckets)}.  Fixed-partitioned Regions are not taken into account;
+ * entries with the same routing object still share a thread.
+ * Progress is reported, at most once per progress interval and on completion, with
+ * a {@link SnapshotImportProgressApplicationEvent}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region#putAll(Map)
+ * @see org.apache.geode.cache.snapshot.SnapshotReader
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotImportProgressApplicationEvent
+ * @since 2.3.0
+ */
+public class ThrottledSnapshotImporter<K, V> {
+
+	public static final int DEFAULT_PARALLELISM = 1;
+
+	public static final long DEFAULT_PROGRESS_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+	private final int batchSize;
+
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private long entriesPerSecond = 0L;
+
+	private long progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
+	private Consumer<SnapshotImportProgressApplicationEvent> progressListener = event -> {};
+
+	/**
+	 * Constructs a new instance of ThrottledSnapshotImporter.
+	 *
+	 * @param batchSize maximum number of entries put in a single {@link Region#putAll(Map)};
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the {@code batchSize} is not greater than {@literal 0}.
+	 */
+	public ThrottledSnapshotImporter(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Sets the maximum number of entries put per second; {@literal 0} or less disables rate limiting.
+	 *
+	 * @param entriesPerSecond maximum number of entries put per second.
+	 */
+	public void setEntriesPerSecond(long entriesPerSecond) {
+		this.entriesPerSecond = Math.max(entriesPerSecond, 0L);
+	}
+
+	public long getEntriesPerSecond() {
+		return this.entriesPerSecond;
+	}
+
+	/**
+	 * Sets the number of threads putting batches concurrently.
+	 *
+	 * @param parallelism number of threads putting batches concurrently; values less than {@literal 1}
+	 * are treated as {@literal 1}.
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(parallelism, 1);
+	}
+
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * Sets the minimum time, in milliseconds, between two progress events of the same import.
+	 *
+	 * @param progressInterval minimum time, in milliseconds, between two progress events.
+	 */
+	public void setProgressInterval(long progressInterval) {
+		this.progressInterval = Math.max(progressInterval, 0L);
+	}
+
+	public long getProgressInterval() {
+		return this.progressInterval;
+	}
+
+	public void setProgressListener(Consumer<SnapshotImportProgressApplicationEvent> progressListener) {
+		this.progressListener = progressListener != null ? progressListener : event -> {};
+	}
+
+	/**
+	 * Imports the entries of the given snapshot file accepted by the {@link SnapshotFilter} into the {@link Region}.
+	 *
+	 * @param snapshot the Region snapshot file to import.
+	 * @param region the {@link Region} into which the entries are put.
+	 * @param filter the {@link SnapshotFilter} selecting the entries to import; may be {@literal null}.
+	 * @return the number of entries imported.
+	 * @throws ImportSnapshotException if the snapshot file cannot be read or an entry cannot be put.
+	 */
+	public long importSnapshot(File snapshot, Region<K, V> region, SnapshotFilter<K, V> filter) {
+
+		try (SnapshotIterator<K, V> iterator = read(snapshot)) {
+			return importEntries(snapshot, iterator, region, filter);
+		}
+		catch (IOException | ClassNotFoundException cause) {
+			throw new ImportSnapshotException(String.format("Failed to read snapshot [%1$s] to import into Region [%2$s]",
+				snapshot, region.getFullPath()), cause);
+		}
+	}
+
+	protected SnapshotIterator<K, V> read(File snapshot) throws IOException, ClassNotFoundException {
+		return SnapshotReader.read(snapshot);
+	}
+
+	private long importEntries(File snapshot, SnapshotIterator<K, V> iterator, Region<K, V> region,
+			SnapshotFilter<K, V> filter) throws IOException, ClassNotFoundException {
+
+		int lanes = getParallelism();
+
+		boolean partitioned = lanes > 1 && PartitionRegionHelper.isPartitionedRegion(region);
+
+		int totalNumBuckets = partitioned
+			? region.getAttributes().getPartitionAttributes().getTotalNumBuckets()
+			: 0;
+
+		// RegionAttributes.getPartitionAttributes() returns a raw PartitionAttributes
+		@SuppressWarnings("unchecked")
+		PartitionResolver<K, V> partitionResolver = partitioned
+			? region.getAttributes().getPartitionAttributes().getPartitionResolver()
+			: null;
+
+		List<Map<K, V>> batches = new ArrayList<>(lanes);
+
+		for (int lane = 0; lane < lanes; lane++) {
+			batches.add(new LinkedHashMap<>());
+		}
+
+		Progress progress = new Progress(region.getFullPath(), snapshot);
+
+		RateLimiter rateLimiter = getEntriesPerSecond() > 0 ? new RateLimiter(getEntriesPerSecond()) : null;
+
+		ExecutorService executor = lanes > 1 ? Executors.newFixedThreadPool(lanes, newThreadFactory()) : null;
+
+		Semaphore inFlightBatches = new Semaphore(lanes * 2);
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		try {
+
+			while (iterator.hasNext()) {
+
+				Map.Entry<K, V> entry = iterator.next();
+
+				if (filter == null || filter.accept(entry)) {
+
+					int lane = partitioned
+						? resolveBucket(region, partitionResolver, totalNumBuckets, entry) % lanes
+						: Math.floorMod(Objects.hashCode(entry.getKey()), lanes);
+
+					Map<K, V> batch = batches.get(lane);
+
+					batch.put(entry.getKey(), entry.getValue());
+
+					if (batch.size() >= getBatchSize()) {
+						batches.set(lane, new LinkedHashMap<>());
+						dispatch(batch, region, rateLimiter, executor, inFlightBatches, failure, progress);
+					}
+				}
+			}
+
+			for (Map<K, V> batch : batches) {
+				if (!batch.isEmpty()) {
+					dispatch(batch, region, rateLimiter, executor, inFlightBatches, failure, progress);
+				}
+			}
+
+			acquire(inFlightBatches, lanes * 2);
+			throwIfFailed(failure);
+
+			progress.complete();
+
+			return progress.entries.get();
+		}
+		finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Resolves the bucket of the entry in the PARTITION {@link Region} like GemFire/Geode does.
+	 *
+	 * @param region the PARTITION {@link Region} into which the entry is put.
+	 * @param partitionResolver the {@link PartitionResolver} of the {@link Region}; may be {@literal null}.
+	 * @param totalNumBuckets the total number of buckets of the {@link Region}.
+	 * @param entry the entry to put.
+	 * @return the bucket of the entry.
+	 */
+	@SuppressWarnings("unchecked")
+	static <K, V> int resolveBucket(Region<K, V> region, PartitionResolver<K, V> partitionResolver,
+			int totalNumBuckets, Map.Entry<K, V> entry) {
+
+		K key = entry.getKey();
+
+		PartitionResolver<K, V> resolver = partitionResolver != null ? partitionResolver
+			: key instanceof PartitionResolver ? (PartitionResolver<K, V>) key
+			: null;
+
+		Object routingObject = resolver != null
+			? resolver.getRoutingObject(new ImportEntryOperation<>(region, entry))
+			: key;
+
+		return Math.abs(Objects.hashCode(routingObject) % totalNumBuckets);
+	}
+
+	private CustomizableThreadFactory newThreadFactory() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("SnapshotImport-");
+
+		threadFactory.setDaemon(true);
+
+		return threadFactory;
+	}
+
+	private void dispatch(Map<K, V> batch, Region<K, V> region, RateLimiter rateLimiter, ExecutorService executor,
+			Semaphore inFlightBatches, AtomicReference<Throwable> failure, Progress progress) {
+
+		throwIfFailed(failure);
+
+		if (rateLimiter != null) {
+			sleep(TimeUnit.NANOSECONDS.toMillis(rateLimiter.reserve(batch.size(), System.nanoTime())));
+		}
+
+		if (executor == null) {
+			putAll(batch, region, progress);
+		}
+		else {
+
+			acquire(inFlightBatches, 1);
+
+			executor.execute(() -> {
+				try {
+					putAll(batch, region, progress);
+				}
+				catch (Throwable cause) {
+					failure.compareAndSet(null, cause);
+				}
+				finally {
+					inFlightBatches.release();
+				}
+			});
+		}
+	}
+
+	private void putAll(Map<K, V> batch, Region<K, V> region, Progress progress) {
+
+		region.putAll(batch);
+
+		progress.batchCompleted(batch.size());
+	}
+
+	private void acquire(Semaphore semaphore, int permits) {
+
+		try {
+			semaphore.acquire(permits);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new ImportSnapshotException("Interrupted while importing snapshot", cause);
+		}
+	}
+
+	private void throwIfFailed(AtomicReference<Throwable> failure) {
+
+		Throwable cause = failure.get();
+
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		}
+		else if (cause != null) {
+			throw new ImportSnapshotException("Failed to put batch of snapshot entries", cause);
+		}
+	}
+
+	/**
+	 * Waits for the given amount of time, in milliseconds, to honor the rate limit.
+	 *
+	 * @param milliseconds time to wait, in milliseconds.
+	 */
+	protected void sleep(long milliseconds) {
+
+		if (milliseconds > 0) {
+			try {
+				Thread.sleep(milliseconds);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new ImportSnapshotException("Interrupted while importing snapshot", cause);
+			}
+		}
+	}
+
+	/**
+	 * Hands out permits at a fixed rate; a caller reserving permits waits until the permits reserved
+	 * before it have been used up.
+	 */
+	static class RateLimiter {
+
+		private final double nanosPerPermit;
+
+		private long nextFreeTime = Long.MIN_VALUE;
+
+		RateLimiter(long permitsPerSecond) {
+			this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / (double) permitsPerSecond;
+		}
+
+		/**
+		 * Reserves the given number of permits.
+		 *
+		 * @param permits number of permits to reserve.
+		 * @param now current time, in nanoseconds.
+		 * @return the time, in nanoseconds, to wait before using the permits.
+		 */
+		synchronized long reserve(int permits, long now) {
+
+			long startTime = this.nextFreeTime == Long.MIN_VALUE ? now : Math.max(this.nextFreeTime, now);
+
+			this.nextFreeTime = startTime + (long) (permits * this.nanosPerPermit);
+
+			return startTime - now;
+		}
+	}
+
+	/**
+	 * The {@link EntryOperation} passed to a {@link PartitionResolver} to resolve the routing object of an entry.
+	 */
+	private static final class ImportEntryOperation<K, V> implements EntryOperation<K, V> {
+
+		private final Map.Entry<K, V> entry;
+
+		private final Region<K, V> region;
+
+		private ImportEntryOperation(Region<K, V> region, Map.Entry<K, V> entry) {
+			this.region = region;
+			this.entry = entry;
+		}
+
+		@Override
+		public Region<K, V> getRegion() {
+			return this.region;
+		}
+
+		// deprecated in EntryOperation, yet still abstract and therefore required
+		@Override
+		@SuppressWarnings("deprecation")
+		public Operation getOperation() {
+			return Operation.PUTALL_CREATE;
+		}
+
+		@Override
+		public K getKey() {
+			return this.entry.getKey();
+		}
+
+		@Override
+		public Object getCallbackArgument() {
+			return null;
+		}
+
+		@Override
+		public boolean isCallbackArgumentAvailable() {
+			return true;
+		}
+
+		// deprecated in EntryOperation, yet still abstract and therefore required
+		@Override
+		@SuppressWarnings("deprecation")
+		public V getNewValue() {
+			return this.entry.getValue();
+		}
+	}
+
+	private final class Progress {
+
+		private final AtomicLong batches = new AtomicLong();
+		private final AtomicLong entries = new AtomicLong();
+		private final AtomicLong lastPublishedTime;
+
+		private final long startTime = System.currentTimeMillis();
+
+		private final File snapshot;
+
+		private final String regionPath;
+
+		private Progress(String regionPath, File snapshot) {
+			this.regionPath = regionPath;
+			this.snapshot = snapshot;
+			this.lastPublishedTime = new AtomicLong(this.startTime);
+		}
+
+		private void batchCompleted(int entries) {
+
+			this.entries.addAndGet(entries);
+			this.batches.incrementAndGet();
+
+			long now = System.currentTimeMillis();
+			long lastPublishedTime = this.lastPublishedTime.get();
+
+			if (now - lastPublishedTime >= getProgressInterval()
+					&& this.lastPublishedTime.compareAndSet(lastPublishedTime, now)) {
+
+				publish(now, false);
+			}
+		}
+
+		private void complete() {
+			publish(System.currentTimeMillis(), true);
+		}
+
+		private void publish(long now, boolean completed) {
+
+			progressListener.accept(new SnapshotImportProgressApplicationEvent(ThrottledSnapshotImporter.this,
+				this.regionPath, this.snapshot, this.entries.get(), this.batches.get(), now - this.startTime,
+					completed));
+		}
+	}
+}
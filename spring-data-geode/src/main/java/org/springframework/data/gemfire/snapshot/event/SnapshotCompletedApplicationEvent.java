@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.snapshot.event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.data.gemfire.snapshot.SnapshotResult;
+
+/**
+ * The SnapshotCompletedApplicationEvent class is a Spring ApplicationEvent signaling that a GemFire Cache
+ * or Region snapshot import or export completed, carrying the {@link SnapshotResult} of each snapshot
+ * along with the aggregate throughput.
+ *
+ * @author John Blum
+ * @see org.springframework.context.ApplicationEvent
+ * @see org.springframework.data.gemfire.snapshot.SnapshotResult
+ * @since 2.3.0
+ */
+@SuppressWarnings("serial")
+public class SnapshotCompletedApplicationEvent extends ApplicationEvent {
+
+	private final boolean export;
+
+	private final long elapsedTime;
+
+	private final List<SnapshotResult> results;
+
+	/**
+	 * Constructs an instance of SnapshotCompletedApplicationEvent.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param export whether the snapshots were exported, or imported.
+	 * @param results the {@link SnapshotResult} of each snapshot.
+	 * @param elapsedTime wall clock time, in milliseconds, taken to import or export all snapshots.
+	 */
+	public SnapshotCompletedApplicationEvent(Object source, boolean export, List<SnapshotResult> results,
+			long elapsedTime) {
+
+		super(source);
+
+		this.export = export;
+		this.results = Collections.unmodifiableList(results);
+		this.elapsedTime = elapsedTime;
+	}
+
+	public boolean isExport() {
+		return this.export;
+	}
+
+	public boolean isImport() {
+		return !isExport();
+	}
+
+	public List<SnapshotResult> getResults() {
+		return this.results;
+	}
+
+	public List<SnapshotResult> getFailures() {
+		return getResults().stream().filter(result -> !result.isSuccessful()).collect(Collectors.toList());
+	}
+
+	public boolean isSuccessful() {
+		return getResults().stream().allMatch(SnapshotResult::isSuccessful);
+	}
+
+	/**
+	 * Gets the wall clock time, in milliseconds, taken to import or export all snapshots.
+	 *
+	 * @return the wall clock time, in milliseconds, taken to import or export all snapshots.
+	 */
+	public long getElapsedTime() {
+		return this.elapsedTime;
+	}
+
+	public long getTotalBytes() {
+		return getResults().stream().mapToLong(SnapshotResult::getBytes).sum();
+	}
+
+	/**
+	 * Gets the aggregate throughput, in bytes per second, of all snapshots.
+	 *
+	 * @return the aggregate throughput, in bytes per second, of all snapshots.
+	 */
+	public double getThroughput() {
+		return getTotalBytes() / (Math.max(getElapsedTime(), 1L) / 1000.0d);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[%2$s, snapshots = %3$d, failures = %4$d, bytes = %5$d, elapsedTime = %6$d ms]",
+			getClass().getSimpleName(), isExport() ? "export" : "import", getResults().size(), getFailures().size(),
+			getTotalBytes(), getElapsedTime());
+	}
+}
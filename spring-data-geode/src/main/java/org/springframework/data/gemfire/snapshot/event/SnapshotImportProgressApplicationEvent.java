@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.snapshot.event;
+
+import java.io.File;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * The SnapshotImportProgressApplicationEvent class is a Spring ApplicationEvent periodically reporting
+ * the progress of a throttled, batched Region snapshot import.
+ *
+ * @author John Blum
+ * @see org.springframework.context.ApplicationEvent
+ * @see org.springframework.data.gemfire.snapshot.ThrottledSnapshotImporter
+ * @since 2.3.0
+ */
+@SuppressWarnings("serial")
+public class SnapshotImportProgressApplicationEvent extends ApplicationEvent {
+
+	private final boolean completed;
+
+	private final long batches;
+	private final long elapsedTime;
+	private final long entries;
+
+	private final File snapshot;
+
+	private final String regionPath;
+
+	/**
+	 * Constructs an instance of SnapshotImportProgressApplicationEvent.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath the full path of the Region into which the snapshot is imported.
+	 * @param snapshot the snapshot file being imported.
+	 * @param entries the number of entries imported so far.
+	 * @param batches the number of batches imported so far.
+	 * @param elapsedTime wall clock time, in milliseconds, since the import started.
+	 * @param completed whether all entries of the snapshot file were imported.
+	 */
+	public SnapshotImportProgressApplicationEvent(Object source, String regionPath, File snapshot, long entries,
+			long batches, long elapsedTime, boolean completed) {
+
+		super(source);
+
+		this.regionPath = regionPath;
+		this.snapshot = snapshot;
+		this.entries = entries;
+		this.batches = batches;
+		this.elapsedTime = elapsedTime;
+		this.completed = completed;
+	}
+
+	public String getRegionPath() {
+		return this.regionPath;
+	}
+
+	public File getSnapshot() {
+		return this.snapshot;
+	}
+
+	public long getBatches() {
+		return this.batches;
+	}
+
+	public boolean isCompleted() {
+		return this.completed;
+	}
+
+	/**
+	 * Gets the wall clock time, in milliseconds, since the import started.
+	 *
+	 * @return the wall clock time, in milliseconds, since the import started.
+	 */
+	public long getElapsedTime() {
+		return this.elapsedTime;
+	}
+
+	public long getEntries() {
+		return this.entries;
+	}
+
+	/**
+	 * Gets the throughput, in entries per second, of the import.
+	 *
+	 * @return the throughput, in entries per second, of the import.
+	 */
+	public double getThroughput() {
+		return getEntries() / (Math.max(getElapsedTime(), 1L) / 1000.0d);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[region = %2$s, snapshot = %3$s, entries = %4$d, batches = %5$d,"
+			+ " elapsedTime = %6$d ms, completed = %7$s]", getClass().getSimpleName(), getRegionPath(),
+				getSnapshot(), getEntries(), getBatches(), getElapsedTime(), isCompleted());
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MethodInterceptor} re-invoking a {@link org.springframework.transaction.annotation.Transactional}
+ * method whose transaction failed to commit with a {@link org.apache.geode.cache.CommitConflictException}.
+ *
+ * Must be ordered before Spring's {@link org.springframework.transaction.interceptor.TransactionInterceptor}
+ * so that each invocation runs in a new transaction.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryTemplate
+ * @since 2.3.0
+ */
+public class CommitConflictRetryInterceptor implements MethodInterceptor {
+
+	private final CommitConflictRetryTemplate retryTemplate;
+
+	/**
+	 * Constructs a new instance of {@link CommitConflictRetryInterceptor}.
+	 *
+	 * @param retryTemplate {@link CommitConflictRetryTemplate} controlling the retries.
+	 * @throws IllegalArgumentException if {@link CommitConflictRetryTemplate} is {@literal null}.
+	 */
+	public CommitConflictRetryInterceptor(CommitConflictRetryTemplate retryTemplate) {
+
+		Assert.notNull(retryTemplate, "CommitConflictRetryTemplate must not be null");
+
+		this.retryTemplate = retryTemplate;
+	}
+
+	/**
+	 * Returns the {@link CommitConflictRetryTemplate} controlling the retries.
+	 *
+	 * @return the {@link CommitConflictRetryTemplate} controlling the retries.
+	 */
+	public CommitConflictRetryTemplate getRetryTemplate() {
+		return this.retryTemplate;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		return getRetryTemplate().doExecute(() -> proceed(invocation));
+	}
+
+	// each attempt proceeds on a clone so it runs the remaining interceptor chain, including the transaction
+	private Object proceed(MethodInvocation invocation) throws Throwable {
+
+		return invocation instanceof ProxyMethodInvocation
+			? ((ProxyMethodInvocation) invocation).invocableClone().proceed()
+			: invocation.proceed();
+	}
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.CommitConflictException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Template re-running a cache transaction that failed to commit with a {@link CommitConflictException}.
+ *
+ * Between attempts, the calling {@link Thread} backs off for an exponentially increasing, randomly jittered
+ * amount of time so that competing transactions on hot keys do not keep colliding in lock step.
+ *
+ * Only the outermost transaction is retried.  When a transaction is already active on the calling {@link Thread},
+ * the work is run once and the conflict is left to the enclosing transaction.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.CommitConflictException
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @see org.springframework.transaction.support.TransactionOperations
+ * @since 2.3.0
+ */
+public class CommitConflictRetryTemplate {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	public static final long DEFAULT_INITIAL_BACKOFF = 50L;
+	public static final long DEFAULT_MAX_BACKOFF = 1000L;
+
+	public static final double DEFAULT_MULTIPLIER = 2.0d;
+
+	private double multiplier = DEFAULT_MULTIPLIER;
+
+	private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+	private long initialBackoff = DEFAULT_INITIAL_BACKOFF;
+	private long maxBackoff = DEFAULT_MAX_BACKOFF;
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final LongAdder exhaustedCount = new LongAdder();
+	private final LongAdder retryCount = new LongAdder();
+
+	/**
+	 * Determines whether the given {@link Throwable} was caused by a {@link CommitConflictException}.
+	 *
+	 * @param cause {@link Throwable} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Throwable} was caused by
+	 * a {@link CommitConflictException}.
+	 */
+	public static boolean isCommitConflict(Throwable cause) {
+
+		for (Throwable current = cause; current != null; current = current.getCause()) {
+			if (current instanceof CommitConflictException) {
+				return true;
+			}
+			if (current.getCause() == current) {
+				break;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Sets the maximum number of times the transaction is attempted, including the first attempt.
+	 *
+	 * @param maxAttempts maximum number of attempts; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code maxAttempts} is not greater than {@literal 0}.
+	 */
+	public void setMaxAttempts(int maxAttempts) {
+
+		Assert.isTrue(maxAttempts > 0, String.format("Max attempts [%d] must be greater than 0", maxAttempts));
+
+		this.maxAttempts = maxAttempts;
+	}
+
+	/**
+	 * Returns the maximum number of times the transaction is attempted.  Defaults to {@literal 3}.
+	 *
+	 * @return the maximum number of times the transaction is attempted.
+	 */
+	protected int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	/**
+	 * Sets the backoff, in milliseconds, before the first retry.
+	 *
+	 * @param initialBackoff backoff, in milliseconds, before the first retry; must not be negative.
+	 * @throws IllegalArgumentException if {@code initialBackoff} is negative.
+	 */
+	public void setInitialBackoff(long initialBackoff) {
+
+		Assert.isTrue(initialBackoff >= 0, String.format("Initial backoff [%d] must not be negative", initialBackoff));
+
+		this.initialBackoff = initialBackoff;
+	}
+
+	/**
+	 * Returns the backoff, in milliseconds, before the first retry.  Defaults to {@literal 50 ms}.
+	 *
+	 * @return the backoff, in milliseconds, before the first retry.
+	 */
+	protected long getInitialBackoff() {
+		return this.initialBackoff;
+	}
+
+	/**
+	 * Sets the upper bound, in milliseconds, of the backoff between attempts.
+	 *
+	 * @param maxBackoff upper bound, in milliseconds, of the backoff between attempts; must not be negative.
+	 * @throws IllegalArgumentException if {@code maxBackoff} is negative.
+	 */
+	public void setMaxBackoff(long maxBackoff) {
+
+		Assert.isTrue(maxBackoff >= 0, String.format("Max backoff [%d] must not be negative", maxBackoff));
+
+		this.maxBackoff = maxBackoff;
+	}
+
+	/**
+	 * Returns the upper bound, in milliseconds, of the backoff between attempts.  Defaults to {@literal 1 second}.
+	 *
+	 * @return the upper bound, in milliseconds, of the backoff between attempts.
+	 */
+	protected long getMaxBackoff() {
+		return this.maxBackoff;
+	}
+
+	/**
+	 * Sets the factor by which the backoff grows after each attempt.
+	 *
+	 * @param multiplier factor by which the backoff grows after each attempt; must be {@literal 1.0} or greater.
+	 * @throws IllegalArgumentException if {@code multiplier} is less than {@literal 1.0}.
+	 */
+	public void setMultiplier(double multiplier) {
+
+		Assert.isTrue(multiplier >= 1.0d, String.format("Multiplier [%s] must be 1.0 or greater", multiplier));
+
+		this.multiplier = multiplier;
+	}
+
+	/**
+	 * Returns the factor by which the backoff grows after each attempt.  Defaults to {@literal 2.0}.
+	 *
+	 * @return the factor by which the backoff grows after each attempt.
+	 */
+	protected double getMultiplier() {
+		return this.multiplier;
+	}
+
+	/**
+	 * Returns the number of times a transaction was retried after a {@link CommitConflictException}.
+	 *
+	 * @return the number of times a transaction was retried after a {@link CommitConflictException}.
+	 */
+	public long getRetryCount() {
+		return this.retryCount.sum();
+	}
+
+	/**
+	 * Returns the number of transactions that still conflicted after the maximum number of attempts.
+	 *
+	 * @return the number of transactions that still conflicted after the maximum number of attempts.
+	 */
+	public long getExhaustedCount() {
+		return this.exhaustedCount.sum();
+	}
+
+	/**
+	 * Runs the {@link TransactionCallback} in a transaction using the given {@link TransactionOperations},
+	 * retrying when the commit fails with a {@link CommitConflictException}.
+	 *
+	 * @param <T> {@link Class} type of the result.
+	 * @param transactionOperations {@link TransactionOperations} used to run each attempt in a new transaction,
+	 * for example a {@link org.springframework.transaction.support.TransactionTemplate}.
+	 * @param action {@link TransactionCallback} performing the transactional work.
+	 * @return the result of the {@link TransactionCallback}.
+	 * @throws IllegalArgumentException if {@link TransactionOperations} or {@link TransactionCallback}
+	 * is {@literal null}.
+	 * @see org.springframework.transaction.support.TransactionOperations
+	 */
+	public <T> T execute(TransactionOperations transactionOperations, TransactionCallback<T> action) {
+
+		Assert.notNull(transactionOperations, "TransactionOperations must not be null");
+		Assert.notNull(action, "TransactionCallback must not be null");
+
+		try {
+			return doExecute(() -> transactionOperations.execute(action));
+		}
+		catch (RuntimeException | Error cause) {
+			throw cause;
+		}
+		catch (Throwable cause) {
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	<T> T doExecute(Attempt<T> attempt) throws Throwable {
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return attempt.run();
+		}
+
+		for (int attemptNumber = 1; ; attemptNumber++) {
+			try {
+				return attempt.run();
+			}
+			catch (Throwable cause) {
+
+				if (!isCommitConflict(cause)) {
+					throw cause;
+				}
+
+				if (attemptNumber >= getMaxAttempts()) {
+					this.exhaustedCount.increment();
+					throw cause;
+				}
+
+				long backoff = getBackoff(attemptNumber);
+
+				if (logger.isDebugEnabled()) {
+					logger.debug("Transaction commit conflicted on attempt [{}]; retrying in [{}] ms",
+						attemptNumber, backoff);
+				}
+
+				if (!sleep(backoff)) {
+					throw cause;
+				}
+
+				this.retryCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Computes the backoff, in milliseconds, after the given, failed attempt.
+	 *
+	 * Uses &quot;full jitter&quot;, a random value between {@literal 0} and the exponentially growing,
+	 * capped backoff.
+	 *
+	 * @param attemptNumber number of the attempt that failed, starting at {@literal 1}.
+	 * @return the backoff, in milliseconds.
+	 */
+	protected long getBackoff(int attemptNumber) {
+
+		double exponentialBackoff = getInitialBackoff() * Math.pow(getMultiplier(), attemptNumber - 1);
+
+		long cappedBackoff = (long) Math.min(exponentialBackoff, getMaxBackoff());
+
+		return cappedBackoff > 0 ? ThreadLocalRandom.current().nextLong(cappedBackoff + 1) : 0L;
+	}
+
+	/**
+	 * Pauses the calling {@link Thread} for the given number of milliseconds.
+	 *
+	 * @param millis number of milliseconds to pause.
+	 * @return {@literal false} if the calling {@link Thread} was interrupted.
+	 */
+	protected boolean sleep(long millis) {
+
+		try {
+			if (millis > 0) {
+				Thread.sleep(millis);
+			}
+
+			return true;
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	@FunctionalInterface
+	interface Attempt<T> {
+		T run() throws Throwable;
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import java.io.Serializable;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit of transactional work shipped to, and run on, the server hosting the data by the
+ * {@link DataLocalTransactionFunction}.
+ *
+ * Implementations are serialized to the server with the {@link org.apache.geode.cache.execute.Function}
+ * arguments, therefore the implementing {@link Class} must be {@link Serializable} and on the server's classpath.
+ *
+ * @param <K> {@link Class} type of the {@link Region} key.
+ * @param <V> {@link Class} type of the {@link Region} value.
+ * @param <T> {@link Class} type of the result.
+ * @author John Blum
+ * @see java.io.Serializable
+ * @see org.springframework.data.gemfire.transaction.DataLocalTransactionTemplate
+ * @since 2.3.0
+ */
+@FunctionalInterface
+public interface DataLocalTransactionCallback<K, V, T> extends Serializable {
+
+	/**
+	 * Performs the transactional work on the server.
+	 *
+	 * Other, colocated {@link Region Regions} can be accessed through {@link Region#getRegionService()}.
+	 *
+	 * @param region {@link Region} on which the {@link org.apache.geode.cache.execute.Function} was executed.
+	 * @return the result of the transactional work; must be {@link Serializable}.
+	 */
+	T doInTransaction(Region<K, V> region);
+
+}
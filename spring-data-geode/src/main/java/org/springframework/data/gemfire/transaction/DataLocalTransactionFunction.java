@@ -0,0 +1,205 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.management.internal.security.ResourcePermissions;
+import org.apache.geode.security.ResourcePermission;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataLocalTransactionFunction} is a server-side {@link Region} {@link Function} running
+ * a {@link DataLocalTransactionCallback} in a cache transaction on the member hosting the data.
+ *
+ * The {@link Function} is routed by key, therefore all operations of the transaction are local
+ * to the member hosting the primary buckets of the (colocated) keys and the {@literal client} pays
+ * a single network round trip for the entire transaction.  This {@link Function} must be registered
+ * on the servers.
+ *
+ * Since Geode only sends each member the filter keys it hosts, the full set of keys is carried by
+ * a {@link RoutedTransactionCallback}.  For partitioned {@link Region Regions}, every member verifies that
+ * all keys are primary locally before it begins the transaction, so keys that are not colocated fail
+ * the execution on every member without committing anything.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.CacheTransactionManager
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.data.gemfire.transaction.DataLocalTransactionCallback
+ * @see org.springframework.data.gemfire.transaction.DataLocalTransactionTemplate
+ * @since 2.3.0
+ */
+@SuppressWarnings("serial")
+public class DataLocalTransactionFunction implements Function<DataLocalTransactionCallback<Object, Object, ?>> {
+
+	public static final String ID = DataLocalTransactionFunction.class.getName();
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	@Override
+	public Collection<ResourcePermission> getRequiredPermissions(String regionName) {
+		return Collections.singleton(ResourcePermissions.DATA_WRITE);
+	}
+
+	/**
+	 * Begins a cache transaction, runs the {@link DataLocalTransactionCallback} passed as the {@link Function}
+	 * argument and commits the transaction, or rolls it back if the {@link DataLocalTransactionCallback} fails.
+	 *
+	 * @param functionContext {@link FunctionContext} of the execution.
+	 * @throws IllegalStateException if any of the keys is not primary on this member of a partitioned
+	 * {@link Region}; the transaction is not begun.
+	 */
+	@Override
+	public void execute(FunctionContext<DataLocalTransactionCallback<Object, Object, ?>> functionContext) {
+
+		Assert.isInstanceOf(RegionFunctionContext.class, functionContext,
+			String.format("Function [%s] must be executed on a Region", getId()));
+
+		DataLocalTransactionCallback<Object, Object, ?> callback = functionContext.getArguments();
+
+		Assert.notNull(callback, "DataLocalTransactionCallback is required");
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+		Region<Object, Object> region = regionFunctionContext.getDataSet();
+
+		assertKeysArePrimaryLocally(region, callback instanceof RoutedTransactionCallback
+			? ((RoutedTransactionCallback<?, ?, ?>) callback).getKeys()
+			: regionFunctionContext.getFilter(), functionContext);
+
+		CacheTransactionManager cacheTransactionManager = functionContext.getCache().getCacheTransactionManager();
+
+		Assert.state(!cacheTransactionManager.exists(),
+			"A cache transaction is already in progress on the Function execution Thread");
+
+		cacheTransactionManager.begin();
+
+		Object result;
+
+		try {
+			result = callback.doInTransaction(region);
+		}
+		catch (RuntimeException | Error cause) {
+
+			if (cacheTransactionManager.exists()) {
+				cacheTransactionManager.rollback();
+			}
+
+			throw cause;
+		}
+
+		cacheTransactionManager.commit();
+
+		functionContext.getResultSender().lastResult(result);
+	}
+
+	private void assertKeysArePrimaryLocally(Region<Object, Object> region, Set<?> keys,
+			FunctionContext<?> functionContext) {
+
+		if (keys != null && PartitionRegionHelper.isPartitionedRegion(region)) {
+
+			DistributedMember localMember = functionContext.getCache().getDistributedSystem().getDistributedMember();
+
+			for (Object key : keys) {
+
+				DistributedMember primaryMember = resolvePrimaryMember(region, key);
+
+				Assert.state(localMember.equals(primaryMember), () -> String.format(
+					"Keys %1$s are not colocated; key [%2$s] is primary on member [%3$s], not [%4$s]",
+						keys, key, primaryMember, localMember));
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	protected DistributedMember resolvePrimaryMember(Region<Object, Object> region, Object key) {
+		return PartitionRegionHelper.getPrimaryMemberForKey(region, key);
+	}
+
+	/**
+	 * {@link DataLocalTransactionCallback} carrying the full {@link Set} of keys the transaction is routed by,
+	 * delegating the transactional work to another {@link DataLocalTransactionCallback}.
+	 *
+	 * @param <K> {@link Class} type of the {@link Region} key.
+	 * @param <V> {@link Class} type of the {@link Region} value.
+	 * @param <T> {@link Class} type of the result.
+	 */
+	public static class RoutedTransactionCallback<K, V, T> implements DataLocalTransactionCallback<K, V, T> {
+
+		private final DataLocalTransactionCallback<K, V, T> callback;
+
+		private final Set<? extends K> keys;
+
+		/**
+		 * Constructs a new instance of {@link RoutedTransactionCallback}.
+		 *
+		 * @param keys {@link Set} of keys the transaction is routed by; must be {@link java.io.Serializable}.
+		 * @param callback {@link DataLocalTransactionCallback} performing the transactional work.
+		 * @throws IllegalArgumentException if {@link DataLocalTransactionCallback} is {@literal null}.
+		 */
+		public RoutedTransactionCallback(Set<? extends K> keys, DataLocalTransactionCallback<K, V, T> callback) {
+
+			Assert.notNull(callback, "DataLocalTransactionCallback must not be null");
+
+			this.keys = keys;
+			this.callback = callback;
+		}
+
+		/**
+		 * Returns the {@link Set} of keys the transaction is routed by.
+		 *
+		 * @return the {@link Set} of keys the transaction is routed by.
+		 */
+		public Set<? extends K> getKeys() {
+			return this.keys;
+		}
+
+		@Override
+		public T doInTransaction(Region<K, V> region) {
+			return this.callback.doInTransaction(region);
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.geode.GemFireException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+
+import org.springframework.data.gemfire.GemfireCacheUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Template running a {@link DataLocalTransactionCallback} in a cache transaction on the server hosting the data
+ * for a given set of colocated keys.
+ *
+ * Rather than paying a network round trip for each {@link Region} operation of a {@literal client} transaction
+ * managed by the {@link GemfireTransactionManager}, the entire unit of work is shipped to the member hosting
+ * the primary buckets of the keys with the {@link DataLocalTransactionFunction}, which begins, runs and commits
+ * the transaction there.
+ *
+ * All keys must route to the same member, for example by using a
+ * {@link org.apache.geode.cache.PartitionResolver} placing them in the same bucket.  The
+ * {@link DataLocalTransactionFunction} verifies this on the servers before the transaction is begun,
+ * so keys that are not colocated fail the execution without committing any work.
+ *
+ * @param <K> {@link Class} type of the {@link Region} key.
+ * @param <V> {@link Class} type of the {@link Region} value.
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryTemplate
+ * @see org.springframework.data.gemfire.transaction.DataLocalTransactionCallback
+ * @see org.springframework.data.gemfire.transaction.DataLocalTransactionFunction
+ * @since 2.3.0
+ */
+public class DataLocalTransactionTemplate<K, V> {
+
+	private CommitConflictRetryTemplate retryTemplate;
+
+	private final Region<K, V> region;
+
+	/**
+	 * Constructs a new instance of {@link DataLocalTransactionTemplate}.
+	 *
+	 * @param region {@link Region} on which the {@link DataLocalTransactionFunction} is executed.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 */
+	public DataLocalTransactionTemplate(Region<K, V> region) {
+
+		Assert.notNull(region, "Region must not be null");
+
+		this.region = region;
+	}
+
+	/**
+	 * Returns the {@link Region} on which the {@link DataLocalTransactionFunction} is executed.
+	 *
+	 * @return the {@link Region} on which the {@link DataLocalTransactionFunction} is executed.
+	 */
+	public Region<K, V> getRegion() {
+		return this.region;
+	}
+
+	/**
+	 * Sets the {@link CommitConflictRetryTemplate} used to re-run the transaction when it fails to commit
+	 * with a {@link org.apache.geode.cache.CommitConflictException}.
+	 *
+	 * @param retryTemplate {@link CommitConflictRetryTemplate} used to re-run conflicting transactions;
+	 * {@literal null} disables retries.
+	 */
+	public void setRetryTemplate(CommitConflictRetryTemplate retryTemplate) {
+		this.retryTemplate = retryTemplate;
+	}
+
+	/**
+	 * Returns the {@link CommitConflictRetryTemplate} used to re-run conflicting transactions.
+	 *
+	 * @return the {@link CommitConflictRetryTemplate} used to re-run conflicting transactions, or {@literal null}.
+	 */
+	protected CommitConflictRetryTemplate getRetryTemplate() {
+		return this.retryTemplate;
+	}
+
+	/**
+	 * Runs the {@link DataLocalTransactionCallback} in a cache transaction on the server hosting the given keys.
+	 *
+	 * @param <T> {@link Class} type of the result.
+	 * @param keys {@link Set} of colocated keys used to route the transaction.
+	 * @param callback {@link DataLocalTransactionCallback} performing the transactional work.
+	 * @return the result of the {@link DataLocalTransactionCallback}.
+	 * @throws IllegalArgumentException if the keys are empty or the callback is {@literal null}.
+	 * @throws GemfireTransactionCommitException if the transaction failed to commit
+	 * with a {@link org.apache.geode.cache.CommitConflictException}.
+	 * @throws org.springframework.dao.DataAccessException if the transaction failed for any other reason.
+	 */
+	public <T> T execute(Set<? extends K> keys, DataLocalTransactionCallback<K, V, T> callback) {
+
+		Assert.isTrue(!CollectionUtils.isEmpty(keys), "At least one key is required to route the transaction");
+		Assert.notNull(callback, "DataLocalTransactionCallback must not be null");
+
+		CommitConflictRetryTemplate retryTemplate = getRetryTemplate();
+
+		if (retryTemplate == null) {
+			return doExecute(keys, callback);
+		}
+
+		try {
+			return retryTemplate.doExecute(() -> doExecute(keys, callback));
+		}
+		catch (RuntimeException | Error cause) {
+			throw cause;
+		}
+		catch (Throwable cause) {
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T doExecute(Set<? extends K> keys, DataLocalTransactionCallback<K, V, T> callback) {
+
+		try {
+
+			Execution execution = FunctionService.onRegion(getRegion())
+				.withFilter(keys)
+				.setArguments(new DataLocalTransactionFunction.RoutedTransactionCallback<>(new HashSet<>(keys),
+					callback));
+
+			Object result = execution.execute(DataLocalTransactionFunction.ID).getResult();
+
+			if (result instanceof List) {
+
+				List<Object> results = (List<Object>) result;
+
+				return results.isEmpty() ? null : (T) results.get(0);
+			}
+
+			return (T) result;
+		}
+		catch (GemFireException cause) {
+
+			if (CommitConflictRetryTemplate.isCommitConflict(cause)) {
+				throw new GemfireTransactionCommitException(
+					"Commit of data local cache transaction conflicted with a concurrent transaction", cause);
+			}
+
+			throw GemfireCacheUtils.convertGemfireAccessException(cause);
+		}
+	}
+}
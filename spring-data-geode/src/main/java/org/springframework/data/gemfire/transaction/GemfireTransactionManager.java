@@ -18,14 +18,29 @@ package org.springframework.data.gemfire.transaction;
 import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheHolder.newCacheHolder;
 import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheTransactionObject.newCacheTransactionObject;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.TransactionEvent;
 import org.apache.geode.cache.TransactionId;
+import org.apache.geode.cache.TransactionListener;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.transaction.NoTransactionException;
@@ -63,6 +78,7 @@ import org.springframework.util.Assert;
  * @see org.apache.geode.cache.CacheTransactionManager
  * @see org.apache.geode.cache.Region
  * @see org.apache.geode.cache.TransactionId
+ * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.InitializingBean
  * @see org.springframework.transaction.PlatformTransactionManager
  * @see org.springframework.transaction.TransactionDefinition
@@ -73,7 +89,7 @@ import org.springframework.util.Assert;
  */
 @SuppressWarnings("unused")
 public class GemfireTransactionManager extends AbstractPlatformTransactionManager
-		implements InitializingBean, ResourceTransactionManager {
+		implements DisposableBean, InitializingBean, ResourceTransactionManager {
 
 	protected static final TimeUnit DEFAULT_RESUME_WAIT_TIME_UNIT = TimeUnit.SECONDS;
 
@@ -85,6 +101,18 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 	private TimeUnit resumeWaitTimeUnit = DEFAULT_RESUME_WAIT_TIME_UNIT;
 
+	private final AtomicBoolean operationCountingListenerRegistered = new AtomicBoolean(false);
+
+	private final GemfireTransactionStatistics statistics = new GemfireTransactionStatistics();
+
+	private final ConcurrentMap<String, GemfireTransactionStatistics> statisticsByName = new ConcurrentHashMap<>();
+
+	private final List<BiConsumer<String, GemfireTransactionStatistics>> statisticsListeners =
+		new CopyOnWriteArrayList<>();
+
+	private final OperationCountingTransactionListener operationCountingListener =
+		new OperationCountingTransactionListener();
+
 	/**
 	 * Constructs an instance of the {@link GemfireTransactionManager}.
 	 */
@@ -116,6 +144,18 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		this.cache.setCopyOnRead(isCopyOnRead());
 	}
 
+	/**
+	 * Removes the {@link TransactionListener} counting the {@link Region} operations of the transactions
+	 * from the {@link CacheTransactionManager}, unless the {@link GemFireCache} is already closed.
+	 */
+	@Override
+	public void destroy() {
+
+		if (this.operationCountingListenerRegistered.compareAndSet(true, false) && !getCache().isClosed()) {
+			getCacheTransactionManager().removeListener(this.operationCountingListener);
+		}
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -151,14 +191,23 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 			CacheTransactionManager cacheTransactionManager = getCacheTransactionManager();
 
+			if (this.operationCountingListenerRegistered.compareAndSet(false, true)) {
+				cacheTransactionManager.addListener(this.operationCountingListener);
+			}
+
 			// begin GemFire local cache transaction
 			cacheTransactionManager.begin();
 
 			TransactionId transactionId = cacheTransactionManager.getTransactionId();
 
 			if (transactionId != null) {
-				TransactionSynchronizationManager.bindResource(cache,
-					cacheTransaction.setAndGetHolder(newCacheHolder(transactionId)));
+
+				CacheHolder holder = newCacheHolder(transactionId);
+
+				holder.name = definition.getName();
+				holder.beginTime = System.nanoTime();
+
+				TransactionSynchronizationManager.bindResource(cache, cacheTransaction.setAndGetHolder(holder));
 			}
 		}
 		catch (Exception cause) {
@@ -174,12 +223,28 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	@Override
 	protected void doCommit(DefaultTransactionStatus status) throws TransactionException {
 
+		CacheHolder holder = ((CacheTransactionObject) status.getTransaction()).getHolder();
+
+		boolean conflict = false;
+
 		try {
 			if (status.isDebug()) {
 				logger.debug("Committing local cache transaction");
 			}
 
+			this.operationCountingListener.watch(holder);
+
 			getCacheTransactionManager().commit();
+
+			this.operationCountingListener.collect(holder)
+				.ifPresent(operationCount -> record(holder, statistics -> statistics.recordOperations(operationCount)));
+		}
+		catch (CommitConflictException cause) {
+
+			conflict = true;
+
+			throw new GemfireTransactionCommitException(
+				"Commit of local cache transaction conflicted with a concurrent transaction", cause);
 		}
 		catch (org.apache.geode.cache.TransactionException cause) {
 			throw new GemfireTransactionCommitException(
@@ -190,6 +255,16 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 				"No transaction is associated with the current thread. Are multiple transaction managers present?",
 					cause);
 		}
+		finally {
+
+			this.operationCountingListener.unwatch(holder);
+
+			long duration = holder != null ? System.nanoTime() - holder.beginTime : 0L;
+
+			boolean commitConflict = conflict;
+
+			record(holder, statistics -> statistics.recordCommit(commitConflict, duration));
+		}
 	}
 
 	/**
@@ -216,10 +291,16 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 			CacheHolder holder = (CacheHolder) suspendedResources;
 
+			long resumeStartTime = System.nanoTime();
+
 			boolean resumeSuccessful = isResumeWaitTimeSet()
 				? getCacheTransactionManager().tryResume(holder.getTransactionId(), getResumeWaitTime(), getResumeWaitTimeUnit())
 				: getCacheTransactionManager().tryResume(holder.getTransactionId());
 
+			long resumeWaitTime = System.nanoTime() - resumeStartTime;
+
+			record(holder, statistics -> statistics.recordResume(resumeSuccessful, resumeWaitTime));
+
 			if (resumeSuccessful) {
 				TransactionSynchronizationManager.bindResource(getCache(),
 					((CacheTransactionObject) transaction).setAndGetHolder(holder));
@@ -238,6 +319,9 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 				logger.debug("Rolling back local cache transaction");
 			}
 
+			record(((CacheTransactionObject) status.getTransaction()).getHolder(),
+				GemfireTransactionStatistics::recordRollback);
+
 			getCacheTransactionManager().rollback();
 		}
 		catch (Exception cause) {
@@ -417,6 +501,92 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		return Optional.ofNullable(this.resumeWaitTimeUnit).orElse(DEFAULT_RESUME_WAIT_TIME_UNIT);
 	}
 
+	/**
+	 * Returns the {@link GemfireTransactionStatistics} of all the local cache transactions managed by
+	 * this transaction manager.
+	 *
+	 * @return the {@link GemfireTransactionStatistics} of all managed local cache transactions.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionStatistics
+	 */
+	public GemfireTransactionStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Returns the {@link GemfireTransactionStatistics} of the local cache transactions managed by
+	 * this transaction manager, keyed by {@link TransactionDefinition#getName() transaction name}.
+	 *
+	 * For {@link org.springframework.transaction.annotation.Transactional @Transactional} methods,
+	 * the transaction name is the fully-qualified name of the method.
+	 *
+	 * @return an unmodifiable {@link Map} of {@link GemfireTransactionStatistics} keyed by transaction name.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionStatistics
+	 */
+	public Map<String, GemfireTransactionStatistics> getTransactionStatistics() {
+		return Collections.unmodifiableMap(new TreeMap<>(this.statisticsByName));
+	}
+
+	void addStatisticsListener(BiConsumer<String, GemfireTransactionStatistics> listener) {
+		this.statisticsListeners.add(listener);
+	}
+
+	/**
+	 * Returns the number of local cache transactions this transaction manager attempted to commit.
+	 *
+	 * @return the number of local cache transactions this transaction manager attempted to commit.
+	 * @see #getStatistics()
+	 */
+	public long getCommitCount() {
+		return getStatistics().getCommitCount();
+	}
+
+	/**
+	 * Returns the number of local cache transactions that failed to commit with a {@link CommitConflictException}.
+	 *
+	 * @return the number of local cache transactions that failed to commit with a {@link CommitConflictException}.
+	 * @see #getStatistics()
+	 */
+	public long getCommitConflictCount() {
+		return getStatistics().getCommitConflictCount();
+	}
+
+	/**
+	 * Returns the ratio of commits that failed with a {@link CommitConflictException} to all commits attempted.
+	 *
+	 * @return the ratio of commits that failed with a {@link CommitConflictException} to all commits attempted,
+	 * or {@literal 0.0} if no commit was attempted.
+	 * @see #getStatistics()
+	 */
+	public double getCommitConflictRate() {
+		return getStatistics().getCommitConflictRate();
+	}
+
+	private void record(CacheHolder holder, Consumer<GemfireTransactionStatistics> recorder) {
+
+		recorder.accept(this.statistics);
+
+		String name = holder != null ? holder.name : null;
+
+		if (name != null) {
+
+			GemfireTransactionStatistics namedStatistics = this.statisticsByName.get(name);
+
+			if (namedStatistics == null) {
+
+				GemfireTransactionStatistics newStatistics = new GemfireTransactionStatistics();
+
+				namedStatistics = this.statisticsByName.putIfAbsent(name, newStatistics);
+
+				if (namedStatistics == null) {
+					namedStatistics = newStatistics;
+					this.statisticsListeners.forEach(listener -> listener.accept(name, newStatistics));
+				}
+			}
+
+			recorder.accept(namedStatistics);
+		}
+	}
+
 	/**
 	 * GemFire local cache transaction object.
 	 *
@@ -464,6 +634,10 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 		private boolean rollbackOnly = false;
 
+		private long beginTime;
+
+		private String name;
+
 		private TransactionId transactionId;
 
 		static CacheHolder newCacheHolder(TransactionId transactionId) {
@@ -484,4 +658,54 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 			return this.transactionId;
 		}
 	}
+
+	/**
+	 * {@link TransactionListener} capturing the number of {@link Region} operations of the transactions
+	 * committed by this transaction manager.
+	 */
+	static class OperationCountingTransactionListener implements TransactionListener {
+
+		private final Map<TransactionId, Integer> operationCounts = new ConcurrentHashMap<>();
+
+		private final Set<TransactionId> watchedTransactions = ConcurrentHashMap.newKeySet();
+
+		void watch(CacheHolder holder) {
+			if (holder != null && holder.getTransactionId() != null) {
+				this.watchedTransactions.add(holder.getTransactionId());
+			}
+		}
+
+		Optional<Integer> collect(CacheHolder holder) {
+			return holder != null && holder.getTransactionId() != null
+				? Optional.ofNullable(this.operationCounts.remove(holder.getTransactionId()))
+				: Optional.empty();
+		}
+
+		void unwatch(CacheHolder holder) {
+			if (holder != null && holder.getTransactionId() != null) {
+				this.watchedTransactions.remove(holder.getTransactionId());
+				this.operationCounts.remove(holder.getTransactionId());
+			}
+		}
+
+		@Override
+		public void afterCommit(TransactionEvent event) {
+
+			TransactionId transactionId = event.getTransactionId();
+
+			if (transactionId != null && this.watchedTransactions.contains(transactionId)) {
+				this.operationCounts.put(transactionId, event.getEvents().size());
+			}
+		}
+
+		@Override
+		public void afterFailedCommit(TransactionEvent event) { }
+
+		@Override
+		public void afterRollback(TransactionEvent event) { }
+
+		@Override
+		public void close() { }
+
+	}
 }
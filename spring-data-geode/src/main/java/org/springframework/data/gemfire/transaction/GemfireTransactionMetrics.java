@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.data.gemfire.cache.LatencyHistogram;
+import org.springframework.util.Assert;
+
+/**
+ * Micrometer {@link MeterBinder} publishing the {@link GemfireTransactionStatistics} of
+ * a {@link GemfireTransactionManager} to a {@link MeterRegistry}.
+ *
+ * Meters are tagged with the {@literal transaction} name, which for
+ * {@link org.springframework.transaction.annotation.Transactional @Transactional} methods is the
+ * fully-qualified name of the method.  Meters for transactions first seen after {@link #bindTo(MeterRegistry)}
+ * was called are registered when the transaction completes.  The statistics of all transactions are tagged
+ * with the {@literal transaction} name {@literal all}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager#getTransactionStatistics()
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionStatistics
+ * @since 2.3.0
+ */
+public class GemfireTransactionMetrics implements MeterBinder {
+
+	public static final String ALL_TRANSACTIONS = "all";
+
+	private final GemfireTransactionManager transactionManager;
+
+	/**
+	 * Constructs a new instance of {@link GemfireTransactionMetrics}.
+	 *
+	 * @param transactionManager {@link GemfireTransactionManager} managing the transactions to publish.
+	 * @throws IllegalArgumentException if {@link GemfireTransactionManager} is {@literal null}.
+	 */
+	public GemfireTransactionMetrics(GemfireTransactionManager transactionManager) {
+
+		Assert.notNull(transactionManager, "GemfireTransactionManager must not be null");
+
+		this.transactionManager = transactionManager;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		bindTo(registry, ALL_TRANSACTIONS, this.transactionManager.getStatistics());
+
+		this.transactionManager.addStatisticsListener((name, statistics) -> bindTo(registry, name, statistics));
+
+		this.transactionManager.getTransactionStatistics()
+			.forEach((name, statistics) -> bindTo(registry, name, statistics));
+	}
+
+	private void bindTo(MeterRegistry registry, String name, GemfireTransactionStatistics statistics) {
+
+		Tags tags = Tags.of("transaction", name);
+
+		FunctionTimer.builder("gemfire.transactions", statistics.getCommitLatency(), LatencyHistogram::getCount,
+			LatencyHistogram::getTotalTime, TimeUnit.NANOSECONDS).tags(tags).register(registry);
+
+		Gauge.builder("gemfire.transactions.duration.p99", statistics.getCommitLatency(),
+			histogram -> histogram.getPercentile(0.99d) / 1_000_000.0d)
+			.tags(tags).baseUnit("milliseconds").register(registry);
+
+		Gauge.builder("gemfire.transactions.duration.max", statistics.getCommitLatency(),
+			histogram -> histogram.getMax() / 1_000_000.0d)
+			.tags(tags).baseUnit("milliseconds").register(registry);
+
+		FunctionCounter.builder("gemfire.transactions.conflicts", statistics,
+			GemfireTransactionStatistics::getCommitConflictCount).tags(tags).register(registry);
+
+		FunctionCounter.builder("gemfire.transactions.rollbacks", statistics,
+			GemfireTransactionStatistics::getRollbackCount).tags(tags).register(registry);
+
+		FunctionCounter.builder("gemfire.transactions.operations", statistics,
+			GemfireTransactionStatistics::getOperationCount).tags(tags).register(registry);
+
+		Gauge.builder("gemfire.transactions.operations.max", statistics,
+			GemfireTransactionStatistics::getMaxOperationCount).tags(tags).register(registry);
+
+		FunctionTimer.builder("gemfire.transactions.resume.wait", statistics.getResumeWaitTime(),
+			LatencyHistogram::getCount, LatencyHistogram::getTotalTime, TimeUnit.NANOSECONDS)
+			.tags(tags).register(registry);
+
+		FunctionCounter.builder("gemfire.transactions.resume.failures", statistics,
+			GemfireTransactionStatistics::getResumeFailureCount).tags(tags).register(registry);
+	}
+}
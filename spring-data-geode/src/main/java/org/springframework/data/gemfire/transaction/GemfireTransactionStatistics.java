@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.gemfire.cache.LatencyHistogram;
+
+/**
+ * Statistics of the cache transactions managed by a {@link GemfireTransactionManager}, recorded with
+ * striped counters.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.cache.LatencyHistogram
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @since 2.3.0
+ */
+public class GemfireTransactionStatistics {
+
+	private final LatencyHistogram commitLatency = new LatencyHistogram();
+	private final LatencyHistogram resumeWaitTime = new LatencyHistogram();
+
+	private final LongAccumulator maxOperationCount = new LongAccumulator(Math::max, 0L);
+
+	private final LongAdder commitConflictCount = new LongAdder();
+	private final LongAdder commitCount = new LongAdder();
+	private final LongAdder operationCount = new LongAdder();
+	private final LongAdder operationCountedCommitCount = new LongAdder();
+	private final LongAdder resumeFailureCount = new LongAdder();
+	private final LongAdder rollbackCount = new LongAdder();
+
+	void recordCommit(boolean conflict, long nanoseconds) {
+
+		this.commitCount.increment();
+
+		if (conflict) {
+			this.commitConflictCount.increment();
+		}
+
+		this.commitLatency.record(nanoseconds);
+	}
+
+	void recordOperations(int count) {
+		this.operationCount.add(count);
+		this.operationCountedCommitCount.increment();
+		this.maxOperationCount.accumulate(count);
+	}
+
+	void recordResume(boolean success, long nanoseconds) {
+
+		if (!success) {
+			this.resumeFailureCount.increment();
+		}
+
+		this.resumeWaitTime.record(nanoseconds);
+	}
+
+	void recordRollback() {
+		this.rollbackCount.increment();
+	}
+
+	/**
+	 * Returns the number of transactions for which a commit was attempted.
+	 *
+	 * @return the number of transactions for which a commit was attempted.
+	 */
+	public long getCommitCount() {
+		return this.commitCount.sum();
+	}
+
+	/**
+	 * Returns the number of commits that failed with a {@link org.apache.geode.cache.CommitConflictException}.
+	 *
+	 * @return the number of commits that failed with a {@link org.apache.geode.cache.CommitConflictException}.
+	 */
+	public long getCommitConflictCount() {
+		return this.commitConflictCount.sum();
+	}
+
+	/**
+	 * Returns the fraction of commits that failed with a {@link org.apache.geode.cache.CommitConflictException}.
+	 *
+	 * @return the fraction of commits that failed with a {@link org.apache.geode.cache.CommitConflictException};
+	 * {@literal 0} if there were no commits.
+	 */
+	public double getCommitConflictRate() {
+
+		long commitCount = getCommitCount();
+
+		return commitCount > 0 ? (double) getCommitConflictCount() / commitCount : 0.0d;
+	}
+
+	/**
+	 * Returns the number of transactions rolled back.
+	 *
+	 * @return the number of transactions rolled back.
+	 */
+	public long getRollbackCount() {
+		return this.rollbackCount.sum();
+	}
+
+	/**
+	 * Returns the total number of {@link org.apache.geode.cache.Region} operations of the committed transactions.
+	 *
+	 * @return the total number of {@link org.apache.geode.cache.Region} operations of the committed transactions.
+	 */
+	public long getOperationCount() {
+		return this.operationCount.sum();
+	}
+
+	/**
+	 * Returns the mean number of {@link org.apache.geode.cache.Region} operations per committed transaction.
+	 *
+	 * @return the mean number of {@link org.apache.geode.cache.Region} operations per committed transaction.
+	 */
+	public double getMeanOperationCount() {
+
+		long commitCount = this.operationCountedCommitCount.sum();
+
+		return commitCount > 0 ? (double) getOperationCount() / commitCount : 0.0d;
+	}
+
+	/**
+	 * Returns the largest number of {@link org.apache.geode.cache.Region} operations of a committed transaction.
+	 *
+	 * @return the largest number of {@link org.apache.geode.cache.Region} operations of a committed transaction.
+	 */
+	public long getMaxOperationCount() {
+		return this.maxOperationCount.get();
+	}
+
+	/**
+	 * Returns the number of suspended transactions that could not be resumed.
+	 *
+	 * @return the number of suspended transactions that could not be resumed.
+	 */
+	public long getResumeFailureCount() {
+		return this.resumeFailureCount.sum();
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} of the time from the beginning of a transaction until
+	 * its commit completed, whether or not the commit succeeded.
+	 *
+	 * @return the {@link LatencyHistogram} of the transaction durations.
+	 */
+	public LatencyHistogram getCommitLatency() {
+		return this.commitLatency;
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} of the time spent waiting to resume a suspended transaction.
+	 *
+	 * @return the {@link LatencyHistogram} of the time spent waiting to resume a suspended transaction.
+	 * @see GemfireTransactionManager#setResumeWaitTime(Long)
+	 */
+	public LatencyHistogram getResumeWaitTime() {
+		return this.resumeWaitTime;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s[commits = %2$d, conflicts = %3$d, rollbacks = %4$d, meanOperations = %5$.1f,"
+			+ " meanDuration = %6$dns, resumeFailures = %7$d]", getClass().getSimpleName(), getCommitCount(),
+			getCommitConflictCount(), getRollbackCount(), getMeanOperationCount(), getCommitLatency().getMean(),
+			getResumeFailureCount());
+	}
+}
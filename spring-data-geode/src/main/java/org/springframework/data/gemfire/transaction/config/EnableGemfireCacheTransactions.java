@@ -23,6 +23,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.transaction.CommitConflictRetryTemplate;
 import org.springframework.data.gemfire.transaction.event.TransactionApplicationEvent;
 
 /**
@@ -57,4 +58,31 @@ public @interface EnableGemfireCacheTransactions {
 	 */
 	boolean enableAutoTransactionEventPublishing() default false;
 
+	/**
+	 * Configures the maximum number of times a {@link org.springframework.transaction.annotation.Transactional}
+	 * method is invoked when its transaction fails to commit with a {@link org.apache.geode.cache.CommitConflictException},
+	 * including the first invocation.
+	 *
+	 * @return the maximum number of attempts.  Defaults to {@literal 1}, which disables retries.
+	 * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+	 */
+	int commitConflictMaxAttempts() default 1;
+
+	/**
+	 * Configures the backoff, in milliseconds, before the first retry of a conflicting transaction.
+	 * The backoff doubles, with random jitter, on each subsequent retry.
+	 *
+	 * @return the backoff, in milliseconds, before the first retry.  Defaults to {@literal 50 ms}.
+	 * @see org.springframework.data.gemfire.transaction.CommitConflictRetryTemplate#setInitialBackoff(long)
+	 */
+	long commitConflictInitialBackoff() default CommitConflictRetryTemplate.DEFAULT_INITIAL_BACKOFF;
+
+	/**
+	 * Configures the upper bound, in milliseconds, of the backoff between retries of a conflicting transaction.
+	 *
+	 * @return the upper bound, in milliseconds, of the backoff between retries.  Defaults to {@literal 1 second}.
+	 * @see org.springframework.data.gemfire.transaction.CommitConflictRetryTemplate#setMaxBackoff(long)
+	 */
+	long commitConflictMaxBackoff() default CommitConflictRetryTemplate.DEFAULT_MAX_BACKOFF;
+
 }
@@ -23,10 +23,17 @@ import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.TransactionListener;
 import org.apache.geode.cache.TransactionWriter;
 
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportAware;
+import org.springframework.context.annotation.Role;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.Order;
@@ -35,10 +42,13 @@ import org.springframework.data.gemfire.CacheFactoryBean;
 import org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer;
 import org.springframework.data.gemfire.config.annotation.PeerCacheConfigurer;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
+import org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor;
+import org.springframework.data.gemfire.transaction.CommitConflictRetryTemplate;
 import org.springframework.data.gemfire.transaction.GemfireTransactionManager;
 import org.springframework.data.gemfire.transaction.event.ComposableTransactionWriter;
 import org.springframework.data.gemfire.transaction.event.TransactionListenerAdapter;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The {@link GemfireCacheTransactionsConfiguration} class is a Spring {@link Configuration @Configuration} class
@@ -72,6 +82,11 @@ public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationCon
 
 	private volatile boolean enableAutoTransactionEventPublishing;
 
+	private volatile int commitConflictMaxAttempts = 1;
+
+	private volatile long commitConflictInitialBackoff = CommitConflictRetryTemplate.DEFAULT_INITIAL_BACKOFF;
+	private volatile long commitConflictMaxBackoff = CommitConflictRetryTemplate.DEFAULT_MAX_BACKOFF;
+
 	@Override
 	protected Class<? extends Annotation> getAnnotationType() {
 		return EnableGemfireCacheTransactions.class;
@@ -86,6 +101,15 @@ public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationCon
 
 			this.enableAutoTransactionEventPublishing =
 				enableGemfireCacheTransactionsAttributes.getBoolean("enableAutoTransactionEventPublishing");
+
+			this.commitConflictMaxAttempts =
+				enableGemfireCacheTransactionsAttributes.getNumber("commitConflictMaxAttempts");
+
+			this.commitConflictInitialBackoff =
+				enableGemfireCacheTransactionsAttributes.getNumber("commitConflictInitialBackoff");
+
+			this.commitConflictMaxBackoff =
+				enableGemfireCacheTransactionsAttributes.getNumber("commitConflictMaxBackoff");
 		}
 	}
 
@@ -103,6 +127,39 @@ public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationCon
 		return new GemfireTransactionManager(gemfireCache);
 	}
 
+	/**
+	 * Declares an infrastructure {@link Advisor} re-invoking {@link Transactional @Transactional} methods
+	 * whose transaction failed to commit with a {@link org.apache.geode.cache.CommitConflictException}.
+	 *
+	 * The {@link Advisor} is ordered before Spring's transaction {@link Advisor} so that each attempt
+	 * runs in a new transaction.  Retries are disabled unless more than {@literal 1} attempt is configured.
+	 *
+	 * @return the commit conflict retry {@link Advisor}.
+	 * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public Advisor commitConflictRetryAdvisor() {
+
+		CommitConflictRetryTemplate retryTemplate = new CommitConflictRetryTemplate();
+
+		retryTemplate.setMaxAttempts(this.commitConflictMaxAttempts);
+		retryTemplate.setInitialBackoff(this.commitConflictInitialBackoff);
+		retryTemplate.setMaxBackoff(this.commitConflictMaxBackoff);
+
+		Pointcut pointcut = this.commitConflictMaxAttempts > 1
+			? new ComposablePointcut(new AnnotationMatchingPointcut(Transactional.class, true))
+				.union(AnnotationMatchingPointcut.forMethodAnnotation(Transactional.class))
+			: new ComposablePointcut(type -> false);
+
+		DefaultPointcutAdvisor advisor =
+			new DefaultPointcutAdvisor(pointcut, new CommitConflictRetryInterceptor(retryTemplate));
+
+		advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+
+		return advisor;
+	}
+
 	@Bean
 	@Order(Ordered.LOWEST_PRECEDENCE)
 	public ClientCacheConfigurer registerTransactionListenerAdapterClientCacheConfigurer(
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.geode.cache.Region;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Unit Tests for {@link BulkCacheableInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.cache.BulkCacheable
+ * @see org.springframework.data.gemfire.cache.BulkCacheableInterceptor
+ * @since 2.3.0
+ */
+public class BulkCacheableInterceptorUnitTests {
+
+	private Region<Object, Object> mockRegion;
+
+	private TestService testService;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockRegion = mock(Region.class);
+
+		this.testService = new TestService();
+	}
+
+	private TestRepository proxy(CacheManager cacheManager) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(this.testService);
+
+		proxyFactory.addAdvice(new BulkCacheableInterceptor(cacheManager));
+
+		return (TestRepository) proxyFactory.getProxy();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadsOnlyMissingKeysWithSingleGetAllAndPutAll() {
+
+		Map<Object, Object> cachedValues = new HashMap<>();
+
+		cachedValues.put(1, "one");
+		cachedValues.put(2, null);
+		cachedValues.put(3, null);
+
+		when(this.mockRegion.getAll(anyCollection())).thenReturn(cachedValues);
+
+		CacheManager mockCacheManager = mock(CacheManager.class);
+
+		when(mockCacheManager.getCache("Numbers")).thenReturn(GemfireCache.wrap(this.mockRegion));
+
+		Map<Integer, String> values = proxy(mockCacheManager).findAll(Arrays.asList(1, 2, 3));
+
+		assertThat(values).containsExactly(entry(1, "one"), entry(2, "2"), entry(3, "3"));
+		assertThat(this.testService.invocations).containsExactly(Arrays.asList(2, 3));
+
+		verify(this.mockRegion, times(1)).getAll(anyCollection());
+		verify(this.mockRegion, times(1)).putAll(anyMap());
+	}
+
+	@Test
+	public void cachesPerKeyWithOtherCacheProviders() {
+
+		TestRepository repository = proxy(new ConcurrentMapCacheManager("Numbers"));
+
+		assertThat(repository.findAll(Arrays.asList(1, 2))).containsExactly(entry(1, "1"), entry(2, "2"));
+		assertThat(repository.findAll(Arrays.asList(2, 3))).containsExactly(entry(2, "2"), entry(3, "3"));
+		assertThat(this.testService.invocations).containsExactly(Arrays.asList(1, 2), Collections.singletonList(3));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void exceptionThrownByMethodIsRethrown() {
+		proxy(new ConcurrentMapCacheManager("Numbers")).findAll(Collections.singletonList(-1));
+	}
+
+	private static Map.Entry<Integer, String> entry(Integer key, String value) {
+		return new AbstractMap.SimpleEntry<>(key, value);
+	}
+
+	interface TestRepository {
+		Map<Integer, String> findAll(List<Integer> ids);
+	}
+
+	static class TestService implements TestRepository {
+
+		private final List<List<Integer>> invocations = new CopyOnWriteArrayList<>();
+
+		@Override
+		@BulkCacheable("Numbers")
+		public Map<Integer, String> findAll(List<Integer> ids) {
+
+			this.invocations.add(ids);
+
+			Map<Integer, String> values = new LinkedHashMap<>();
+
+			for (Integer id : ids) {
+				if (id < 0) {
+					throw new IllegalArgumentException("Negative ID");
+				}
+				values.put(id, String.valueOf(id));
+			}
+
+			return values;
+		}
+	}
+}
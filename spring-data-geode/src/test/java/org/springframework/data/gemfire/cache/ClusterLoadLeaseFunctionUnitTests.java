@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link ClusterLoadLeaseFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.cache.ClusterLoadLeaseFunction
+ * @since 2.3.0
+ */
+public class ClusterLoadLeaseFunctionUnitTests {
+
+	private final ClusterLoadLeaseFunction function = new ClusterLoadLeaseFunction();
+
+	@Test
+	public void leaseIsGrantedToOneOwnerUntilReleased() {
+
+		List<Object> leaseName = Arrays.asList("/Example", "leaseIsGrantedToOneOwnerUntilReleased");
+
+		assertThat(this.function.acquire(leaseName, "one", 60000L)).isTrue();
+		assertThat(this.function.acquire(leaseName, "two", 60000L)).isFalse();
+		assertThat(this.function.release(leaseName, "two")).isTrue();
+		assertThat(this.function.acquire(leaseName, "two", 60000L)).isFalse();
+		assertThat(this.function.release(leaseName, "one")).isTrue();
+		assertThat(this.function.acquire(leaseName, "two", 60000L)).isTrue();
+	}
+
+	@Test
+	public void expiredLeaseIsGrantedToAnotherOwner() throws Exception {
+
+		List<Object> leaseName = Arrays.asList("/Example", "expiredLeaseIsGrantedToAnotherOwner");
+
+		assertThat(this.function.acquire(leaseName, "one", 10L)).isTrue();
+
+		Thread.sleep(20L);
+
+		assertThat(this.function.acquire(leaseName, "two", 60000L)).isTrue();
+	}
+
+	@Test
+	public void expiredLeasesArePurged() {
+
+		List<Object> leaseName = Arrays.asList("/Example", "expiredLeasesArePurged");
+
+		assertThat(this.function.acquire(leaseName, "one", 10L)).isTrue();
+
+		int leaseCount = this.function.getLeaseCount();
+
+		this.function.purgeExpired(System.currentTimeMillis() + ClusterLoadLeaseFunction.PURGE_INTERVAL + 60000L);
+
+		assertThat(this.function.getLeaseCount()).isLessThan(leaseCount);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void nonPartitionedRegionIsRejected() {
+
+		RegionFunctionContext mockFunctionContext = mock(RegionFunctionContext.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockFunctionContext.getDataSet()).thenReturn(mockRegion);
+		when(mockFunctionContext.getArguments())
+			.thenReturn(new Object[] { ClusterLoadLeaseFunction.ACQUIRE, "key", "one", 60000L });
+
+		assertThatThrownBy(() -> this.function.execute(mockFunctionContext))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("Region [/Example] is not partitioned");
+	}
+}
@@ -32,7 +32,10 @@ import static org.mockito.Mockito.when;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
@@ -322,4 +325,64 @@ public class GemfireCacheManagerUnitTests {
 
 		assertThat(cacheManager.getRegions()).isNull();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cacheStatisticsAreReportedPerCache() {
+		Region<?, ?> mockRegionOne = mockRegion("one");
+		Region<?, ?> mockRegionTwo = mockRegion("two");
+
+		when(((Region<Object, Object>) mockRegionOne).get(eq("key"))).thenReturn("value");
+
+		cacheManager.setRegions(asSet(mockRegionOne, mockRegionTwo));
+		cacheManager.afterPropertiesSet();
+		cacheManager.getCache("one").get("key");
+		cacheManager.getCache("two").get("key");
+
+		Map<String, GemfireCacheStatistics> cacheStatistics = cacheManager.getCacheStatistics();
+
+		assertThat(cacheStatistics).containsOnlyKeys("one", "two");
+		assertThat(cacheStatistics.get("one").getHitCount()).isEqualTo(1L);
+		assertThat(cacheStatistics.get("one").getMissCount()).isZero();
+		assertThat(cacheStatistics.get("two").getHitCount()).isZero();
+		assertThat(cacheStatistics.get("two").getMissCount()).isEqualTo(1L);
+		assertThat(cacheStatistics.get("two").getGetLatency().getCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void cachesShareBoundedExecutorShutDownOnDestroy() {
+		cacheManager.setRegions(asSet(mockRegion("one"), mockRegion("two")));
+		cacheManager.afterPropertiesSet();
+
+		Executor executor = ((GemfireCache) cacheManager.getCache("one")).getExecutor();
+
+		assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize())
+			.isEqualTo(GemfireCache.DEFAULT_EXECUTOR_POOL_SIZE);
+		assertThat(((GemfireCache) cacheManager.getCache("two")).getExecutor()).isSameAs(executor);
+
+		cacheManager.destroy();
+
+		assertThat(((ThreadPoolExecutor) executor).isShutdown()).isTrue();
+	}
+
+	@Test
+	public void configuredExecutorIsNotShutDownOnDestroy() {
+		ThreadPoolExecutor executor = GemfireCache.newExecutor("test-");
+
+		try {
+			cacheManager.setExecutor(executor);
+			cacheManager.setRegions(asSet(mockRegion("one")));
+			cacheManager.afterPropertiesSet();
+
+			assertThat(((GemfireCache) cacheManager.getCache("one")).getExecutor()).isSameAs(executor);
+
+			cacheManager.destroy();
+
+			assertThat(executor.isShutdown()).isFalse();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
 }
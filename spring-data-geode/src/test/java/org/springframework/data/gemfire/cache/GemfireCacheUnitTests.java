@@ -18,22 +18,43 @@
 package org.springframework.data.gemfire.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Map;
 import java.util.concurrent.Callable;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.CustomExpiry;
+import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -209,6 +230,339 @@ public class GemfireCacheUnitTests {
 		}
 	}
 
+	@Test
+	public void getWithValueLoaderSharesInFlightLoadForSameKey() throws Exception {
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		AtomicInteger loads = new AtomicInteger(0);
+
+		Map<Object, Object> entries = new ConcurrentHashMap<>();
+
+		// a waiter arriving after the load completed finds the loaded value in the Region
+		doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(mockRegion).put(any(), any());
+		when(mockRegion.get(any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+
+		Callable<Object> valueLoader = () -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return "mockValue";
+		};
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<Object> owner = executorService.submit(() -> gemfireCache.get("key", valueLoader));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<Object> waiter = executorService.submit(() -> gemfireCache.get("key", valueLoader));
+
+			// a load for a different key is not blocked by the in-flight load
+			assertThat(gemfireCache.<Object>get("otherKey", () -> "otherValue")).isEqualTo("otherValue");
+
+			release.countDown();
+
+			assertThat(owner.get(5, TimeUnit.SECONDS)).isEqualTo("mockValue");
+			assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("mockValue");
+			assertThat(loads.get()).isEqualTo(1);
+			assertThat(gemfireCache.getLoadCount()).isEqualTo(2L);
+			assertThat(gemfireCache.getTotalLoadTime()).isPositive();
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderCompletesInFlightLoadWhenValueLoaderThrowsError() throws Exception {
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Callable<Object> valueLoader = () -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			throw new Error("TEST");
+		};
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<Object> owner = executorService.submit(() -> gemfireCache.get("key", valueLoader));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<Object> waiter = executorService.submit(() -> gemfireCache.get("key", valueLoader));
+
+			Thread.sleep(100L);
+
+			release.countDown();
+
+			assertThatThrownBy(() -> owner.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(Error.class);
+
+			// the waiter fails with the owner's Error rather than waiting forever on the in-flight load
+			assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderThrowsValueRetrievalExceptionWhenWaitingOnInFlightLoadTimesOut() throws Exception {
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setLoadTimeout(50L);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		try {
+			Future<Object> owner = executorService.submit(() -> gemfireCache.get("key", () -> {
+				loading.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return "mockValue";
+			}));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			assertThatThrownBy(() -> gemfireCache.get("key", mockCallable))
+				.isInstanceOf(Cache.ValueRetrievalException.class)
+				.hasCauseInstanceOf(TimeoutException.class);
+
+			release.countDown();
+
+			assertThat(owner.get(5, TimeUnit.SECONDS)).isEqualTo("mockValue");
+			verifyZeroInteractions(mockCallable);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderLoadsValueWhenClusterLoadLockIsAcquired() throws Exception {
+		ClusterLoadLock mockClusterLoadLock = mock(ClusterLoadLock.class);
+
+		when(mockClusterLoadLock.tryLock(eq("key"), eq(1000L))).thenReturn(true);
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setClusterLoadLock(mockClusterLoadLock);
+		gemfireCache.setLoadLeaseTimeout(1000L);
+
+		assertThat(gemfireCache.<Object>get("key", mockCallable)).isEqualTo("mockValue");
+
+		verify(mockCallable, times(1)).call();
+		verify(mockClusterLoadLock, times(1)).unlock(eq("key"));
+	}
+
+	@Test
+	public void getWithValueLoaderWaitsForValueLoadedByAnotherMember() throws Exception {
+		ClusterLoadLock mockClusterLoadLock = mock(ClusterLoadLock.class);
+
+		when(mockClusterLoadLock.tryLock(eq("key"), anyLong())).thenReturn(false);
+		when(mockRegion.get(eq("key"))).thenReturn(null, null, null, "test");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setClusterLoadLock(mockClusterLoadLock);
+
+		assertThat(gemfireCache.<Object>get("key", mockCallable)).isEqualTo("test");
+
+		verify(mockClusterLoadLock, never()).unlock(any());
+		verifyZeroInteractions(mockCallable);
+	}
+
+	@Test
+	public void getWithValueLoaderFallsBackToLocalLoadWhenClusterLoadLockFails() throws Exception {
+		ClusterLoadLock mockClusterLoadLock = mock(ClusterLoadLock.class);
+
+		when(mockClusterLoadLock.tryLock(eq("key"), anyLong())).thenThrow(new IllegalStateException("TEST"));
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setClusterLoadLock(mockClusterLoadLock);
+
+		assertThat(gemfireCache.<Object>get("key", mockCallable)).isEqualTo("mockValue");
+
+		verify(mockCallable, times(1)).call();
+	}
+
+	@Test
+	public void retrieveReturnsValueAsynchronously() throws Exception {
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+
+		assertThat(gemfireCache.retrieve("key").get(5, TimeUnit.SECONDS)).isEqualTo("test");
+		assertThat(gemfireCache.retrieve("key", () -> CompletableFuture.completedFuture("mockValue"))
+			.get(5, TimeUnit.SECONDS)).isEqualTo("test");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void retrieveWithValueLoaderCoalescesConcurrentLoadsForSameKey() throws Exception {
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		CompletableFuture<String> pendingValue = new CompletableFuture<>();
+
+		AtomicInteger loads = new AtomicInteger(0);
+
+		Supplier<CompletableFuture<String>> valueLoader = () -> {
+			loads.incrementAndGet();
+			return pendingValue;
+		};
+
+		gemfireCache.setExecutor(Runnable::run);
+
+		CompletableFuture<String> one = gemfireCache.retrieve("key", valueLoader);
+		CompletableFuture<String> two = gemfireCache.retrieve("key", valueLoader);
+
+		assertThat(one).isNotDone();
+		assertThat(two).isNotDone();
+
+		pendingValue.complete("mockValue");
+
+		assertThat(one.get(5, TimeUnit.SECONDS)).isEqualTo("mockValue");
+		assertThat(two.get(5, TimeUnit.SECONDS)).isEqualTo("mockValue");
+		assertThat(loads.get()).isEqualTo(1);
+
+		verify(mockRegion, times(1)).put(eq("key"), eq("mockValue"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void retrieveWithValueLoaderCompletesLoadWhenValueLoaderThrowsError() throws Exception {
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+
+		CompletableFuture<String> failed = gemfireCache.retrieve("key", () -> {
+			throw new Error("TEST");
+		});
+
+		assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(Error.class);
+
+		CompletableFuture<String> next = gemfireCache.retrieve("key",
+			() -> CompletableFuture.completedFuture("mockValue"));
+
+		assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("mockValue");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void retrieveWithValueLoaderCompletesLoadWhenPutThrowsError() throws Exception {
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+
+		when(mockRegion.put(eq("key"), eq("mockValue"))).thenThrow(new Error("TEST")).thenReturn(null);
+
+		CompletableFuture<String> failed = gemfireCache.retrieve("key",
+			() -> CompletableFuture.completedFuture("mockValue"));
+
+		assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(Error.class);
+
+		CompletableFuture<String> next = gemfireCache.retrieve("key",
+			() -> CompletableFuture.completedFuture("mockValue"));
+
+		assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("mockValue");
+	}
+
+	@SuppressWarnings("unchecked")
+	private void mockEntryAge(long ageInMilliseconds) {
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+		Region.Entry mockEntry = mock(Region.Entry.class);
+		CacheStatistics mockCacheStatistics = mock(CacheStatistics.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getEntryTimeToLive()).thenReturn(new ExpirationAttributes(10));
+		when(mockRegion.getEntry(eq("key"))).thenReturn(mockEntry);
+		when(mockEntry.getStatistics()).thenReturn(mockCacheStatistics);
+		when(mockCacheStatistics.getLastModifiedTime()).thenReturn(System.currentTimeMillis() - ageInMilliseconds);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderRefreshesEntryNearingExpiration() throws Exception {
+		mockEntryAge(9000L);
+
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+		gemfireCache.setRefreshAheadFactor(0.75d);
+
+		assertThat(gemfireCache.<Object>get("key", mockCallable)).isEqualTo("test");
+		assertThat(gemfireCache.getRefreshCount()).isEqualTo(1L);
+
+		verify(mockRegion, times(1)).put(eq("key"), eq("mockValue"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderRefreshesEntryNearingCustomExpiration() throws Exception {
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+		Region.Entry mockEntry = mock(Region.Entry.class);
+		CacheStatistics mockCacheStatistics = mock(CacheStatistics.class);
+		CustomExpiry mockCustomExpiry = mock(CustomExpiry.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getCustomEntryTimeToLive()).thenReturn(mockCustomExpiry);
+		when(mockCustomExpiry.getExpiry(eq(mockEntry))).thenReturn(new ExpirationAttributes(10));
+		when(mockRegion.getEntry(eq("key"))).thenReturn(mockEntry);
+		when(mockEntry.getStatistics()).thenReturn(mockCacheStatistics);
+		when(mockCacheStatistics.getLastModifiedTime()).thenReturn(System.currentTimeMillis() - 9000L);
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+		gemfireCache.setRefreshAheadFactor(0.75d);
+
+		assertThat(gemfireCache.<Object>get("key", mockCallable)).isEqualTo("test");
+		assertThat(gemfireCache.getRefreshCount()).isEqualTo(1L);
+
+		verify(mockCustomExpiry, times(1)).getExpiry(eq(mockEntry));
+		verify(mockRegion, times(1)).put(eq("key"), eq("mockValue"));
+	}
+
+	@Test
+	public void getWithValueLoaderDoesNotRefreshYoungEntry() {
+		mockEntryAge(1000L);
+
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+		gemfireCache.setRefreshAheadFactor(0.75d);
+
+		assertThat(gemfireCache.<Object>get("key", mockCallable)).isEqualTo("test");
+		assertThat(gemfireCache.getRefreshCount()).isZero();
+
+		verifyZeroInteractions(mockCallable);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void putCachesValue() {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link LatencyHistogram}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.cache.LatencyHistogram
+ * @since 2.3.0
+ */
+public class LatencyHistogramUnitTests {
+
+	@Test
+	public void emptyHistogramReportsZero() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMean()).isZero();
+		assertThat(histogram.getPercentile(0.99d)).isZero();
+	}
+
+	@Test
+	public void percentilesAreApproximatedByBucketUpperBound() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (int count = 0; count < 99; count++) {
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+		}
+
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+
+		assertThat(histogram.getCount()).isEqualTo(100L);
+		assertThat(histogram.getMax()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+		assertThat(histogram.getPercentile(0.5d)).isEqualTo(TimeUnit.MICROSECONDS.toNanos(128));
+		assertThat(histogram.getPercentile(0.99d)).isEqualTo(TimeUnit.MICROSECONDS.toNanos(128));
+		assertThat(histogram.getPercentile(1.0d)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+		assertThat(histogram.getMean()).isEqualTo((99L * 100_000L + 50_000_000L) / 100L);
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit Tests for {@link TwoLevelGemfireCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache
+ * @since 2.3.0
+ */
+public class TwoLevelGemfireCacheUnitTests {
+
+	private CacheListener<Object, Object> cacheListener;
+
+	private Region<Object, Object> mockRegion;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockRegion = mock(Region.class);
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		when(this.mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+	}
+
+	@SuppressWarnings("unchecked")
+	private TwoLevelGemfireCache newCache(int maximumSize, long timeToLive) {
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, maximumSize, timeToLive);
+
+		ArgumentCaptor<CacheListener> cacheListenerCaptor = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(this.mockRegion.getAttributesMutator()).addCacheListener(cacheListenerCaptor.capture());
+
+		this.cacheListener = cacheListenerCaptor.getValue();
+
+		return cache;
+	}
+
+	@Test
+	public void secondLookupIsServedFromL1() {
+
+		when(this.mockRegion.get(eq("key"))).thenReturn("value");
+
+		TwoLevelGemfireCache cache = newCache(10, 60000L);
+
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(cache.get("missing")).isNull();
+
+		verify(this.mockRegion, times(1)).get(eq("key"));
+
+		assertThat(cache.getL1HitCount()).isEqualTo(1L);
+		assertThat(cache.getL1MissCount()).isEqualTo(2L);
+		assertThat(cache.getL2HitCount()).isEqualTo(1L);
+		assertThat(cache.getL2MissCount()).isEqualTo(1L);
+		assertThat(cache.getStatistics().getHitCount()).isEqualTo(2L);
+		assertThat(cache.getStatistics().getMissCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionEventInvalidatesL1() {
+
+		when(this.mockRegion.get(eq("key"))).thenReturn("one", "two");
+
+		TwoLevelGemfireCache cache = newCache(10, 60000L);
+
+		assertThat(cache.get("key").get()).isEqualTo("one");
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn("key");
+
+		this.cacheListener.afterUpdate(mockEntryEvent);
+
+		assertThat(cache.get("key").get()).isEqualTo("two");
+		verify(this.mockRegion, times(2)).get(eq("key"));
+	}
+
+	@Test
+	public void l1IsBoundedBySize() {
+
+		when(this.mockRegion.get(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		TwoLevelGemfireCache cache = newCache(2, 60000L);
+
+		cache.get("one");
+		cache.get("two");
+		cache.get("three");
+
+		assertThat(cache.getLocalSize()).isEqualTo(2);
+
+		cache.get("one");
+
+		verify(this.mockRegion, times(2)).get(eq("one"));
+	}
+
+	@Test
+	public void expiredL1EntryIsReloadedFromRegion() throws Exception {
+
+		when(this.mockRegion.get(eq("key"))).thenReturn("value");
+
+		TwoLevelGemfireCache cache = newCache(10, 10L);
+
+		cache.get("key");
+
+		Thread.sleep(20L);
+
+		cache.get("key");
+
+		verify(this.mockRegion, times(2)).get(eq("key"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void evictInvalidatesL1() {
+
+		when(this.mockRegion.get(eq("key"))).thenReturn("value");
+
+		TwoLevelGemfireCache cache = newCache(10, 60000L);
+
+		cache.get("key");
+		cache.evict("key");
+
+		assertThat(cache.getLocalSize()).isZero();
+		verify(this.mockRegion, times(1)).remove(eq("key"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invalidationOnlyAffectsConcurrentLoadsOfSameKey() {
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn("one");
+
+		when(this.mockRegion.get(any())).thenAnswer(invocation -> {
+			cacheListener.afterUpdate(mockEntryEvent);
+			return invocation.getArgument(0);
+		});
+
+		TwoLevelGemfireCache cache = newCache(10, 60000L);
+
+		assertThat(cache.get("one").get()).isEqualTo("one");
+		assertThat(cache.get("two").get()).isEqualTo("two");
+		assertThat(cache.getLocalSize()).isEqualTo(1);
+
+		cache.get("two");
+
+		verify(this.mockRegion, times(1)).get(eq("two"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void closeRemovesCacheListener() {
+
+		when(this.mockRegion.get(eq("key"))).thenReturn("value");
+
+		TwoLevelGemfireCache cache = newCache(10, 60000L);
+
+		cache.get("key");
+		cache.close();
+
+		verify(this.mockRegion.getAttributesMutator()).removeCacheListener(eq(this.cacheListener));
+		assertThat(cache.getLocalSize()).isZero();
+	}
+
+	@Test
+	public void largeL1IsSegmented() {
+
+		when(this.mockRegion.get(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		TwoLevelGemfireCache cache = newCache(TwoLevelGemfireCache.DEFAULT_MAXIMUM_SIZE, 60000L);
+
+		for (int key = 0; key < 1000; key++) {
+			cache.get(key);
+			cache.get(key);
+		}
+
+		assertThat(cache.getLocalSize()).isEqualTo(1000);
+		assertThat(cache.getL1HitCount()).isEqualTo(1000L);
+	}
+}
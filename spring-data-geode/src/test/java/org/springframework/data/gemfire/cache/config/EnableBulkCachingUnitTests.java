@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.cache.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.cache.BulkCacheable;
+
+/**
+ * Unit Tests for {@link EnableBulkCaching} and {@link BulkCachingConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.cache.config.BulkCachingConfiguration
+ * @see org.springframework.data.gemfire.cache.config.EnableBulkCaching
+ * @since 2.3.0
+ */
+public class EnableBulkCachingUnitTests {
+
+	@Test
+	public void onlyBulkCacheableMethodsAreInterceptedWithoutEnablingSpringCaching() {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(TestConfiguration.class)) {
+
+			TestService testService = applicationContext.getBean(TestService.class);
+
+			assertThat(AopUtils.isAopProxy(testService)).isTrue();
+			assertThat(applicationContext.getBeanNamesForType(CacheInterceptor.class)).isEmpty();
+
+			assertThat(testService.findAll(Collections.singletonList(1))).containsEntry(1, "1");
+			assertThat(testService.findAll(Collections.singletonList(1))).containsEntry(1, "1");
+			assertThat(testService.find(1)).isEqualTo("1");
+			assertThat(testService.toString()).isEqualTo("TestService");
+			assertThat(testService.getInvocations()).isEqualTo(2);
+		}
+	}
+
+	@Configuration
+	@EnableBulkCaching
+	static class TestConfiguration {
+
+		@Bean
+		CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager("Numbers");
+		}
+
+		@Bean
+		TestService testService() {
+			return new TestService();
+		}
+	}
+
+	static class TestService {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		public int getInvocations() {
+			return this.invocations.get();
+		}
+
+		@BulkCacheable("Numbers")
+		public Map<Integer, String> findAll(List<Integer> ids) {
+			this.invocations.incrementAndGet();
+			return Collections.singletonMap(ids.get(0), String.valueOf(ids.get(0)));
+		}
+
+		public String find(Integer id) {
+			this.invocations.incrementAndGet();
+			return String.valueOf(id);
+		}
+
+		@Override
+		public String toString() {
+			return "TestService";
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.junit.Test;
+
+import org.springframework.data.gemfire.function.execution.MapReduceResultCollector;
+
+/**
+ * Unit tests for {@link MapReduceFunction} and {@link MapReduceResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.MapReduceFunction
+ * @see org.springframework.data.gemfire.function.execution.MapReduceResultCollector
+ * @since 2.3.0
+ */
+@SuppressWarnings("unchecked")
+public class MapReduceFunctionUnitTests {
+
+	private final MapReduceFunction.Mapper<Object, Object, Object> lengthMapper =
+		(key, value) -> value != null ? ((String) value).length() : null;
+
+	private final MapReduceFunction.Combiner<Object> sumCombiner = (one, two) -> (Integer) one + (Integer) two;
+
+	@Test
+	public void executeSendsCombinedPartialResult() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionFunctionContext mockFunctionContext = mock(RegionFunctionContext.class);
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		when(mockRegion.entrySet()).thenReturn(new HashSet<>(Arrays.<Map.Entry<Object, Object>>asList(
+			new AbstractMap.SimpleEntry<>(1, "one"), new AbstractMap.SimpleEntry<>(2, "three"),
+			new AbstractMap.SimpleEntry<>(3, null))));
+		when(mockFunctionContext.getDataSet()).thenReturn(mockRegion);
+		when(mockFunctionContext.getArguments()).thenReturn(new Object[] { lengthMapper, sumCombiner });
+		when(mockFunctionContext.getFilter()).thenReturn(Collections.emptySet());
+		when(mockFunctionContext.getResultSender()).thenReturn(mockResultSender);
+
+		new MapReduceFunction().execute(mockFunctionContext);
+
+		verify(mockResultSender).lastResult(eq(8));
+	}
+
+	@Test
+	public void combineUsesFilterWhenPresent() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		when(mockRegion.containsKey(eq(1))).thenReturn(true);
+		when(mockRegion.containsKey(eq(2))).thenReturn(false);
+		when(mockRegion.get(eq(1))).thenReturn("four");
+
+		Object result = new MapReduceFunction()
+			.combine(mockRegion, new HashSet<>(Arrays.asList(1, 2)), lengthMapper, sumCombiner);
+
+		assertThat(result).isEqualTo(4);
+
+		verify(mockRegion, never()).entrySet();
+		verify(mockRegion, never()).get(eq(2));
+	}
+
+	@Test
+	public void resultCollectorReducesPartialResults() {
+
+		MapReduceResultCollector<Integer> resultCollector = new MapReduceResultCollector<>(Integer::sum);
+
+		DistributedMember mockMember = mock(DistributedMember.class);
+
+		resultCollector.addResult(mockMember, 2);
+		resultCollector.addResult(mockMember, null);
+		resultCollector.addResult(mockMember, 5);
+
+		assertThat(resultCollector.getReducedResult()).isEqualTo(7);
+		assertThat(resultCollector.getResult()).containsExactly(7);
+
+		resultCollector.clearResults();
+
+		assertThat(resultCollector.getReducedResult()).isNull();
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.geode.cache.Region;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Unit tests for {@link GemfireOnRegionFunctionTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionFunctionTemplate
+ * @since 2.3.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GemfireOnRegionFunctionTemplateUnitTests {
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	@Test
+	public void groupKeysByOwnerForNonPartitionedRegionReturnsSingleGroup() {
+
+		Map<Object, Set<Object>> keysByOwner = new GemfireOnRegionFunctionTemplate(this.mockRegion)
+			.groupKeysByOwner(new HashSet<>(Arrays.asList(1, 2, 3)));
+
+		assertThat(keysByOwner).hasSize(1);
+		assertThat(keysByOwner.values().iterator().next()).containsExactlyInAnyOrder(1, 2, 3);
+	}
+
+	@Test
+	public void groupKeysByOwnerWithNoKeysReturnsEmptyMap() {
+		assertThat(new GemfireOnRegionFunctionTemplate(this.mockRegion).groupKeysByOwner(null)).isEmpty();
+	}
+
+	@Test
+	public void executeOnKeyOwnersExecutesOncePerOwnerAndCombinesResults() {
+
+		CopyOnWriteArrayList<Set<?>> executedFilters = new CopyOnWriteArrayList<>();
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion) {
+
+			@Override
+			protected Map<Object, Set<Object>> groupKeysByOwner(Set<?> keys) {
+
+				Map<Object, Set<Object>> keysByOwner = new LinkedHashMap<>();
+
+				keysByOwner.put("one", new HashSet<>(Arrays.asList(1, 3)));
+				keysByOwner.put("two", Collections.singleton(2));
+
+				return keysByOwner;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+				executedFilters.add(keys);
+				return (Iterable<T>) Collections.singletonList(keys.size());
+			}
+		};
+
+		template.setExecutor(Runnable::run);
+
+		Iterable<Integer> results = template.executeOnKeyOwners(new HashSet<>(Arrays.asList(1, 2, 3)), "TestFunction");
+
+		assertThat(results).containsExactly(2, 1);
+		assertThat(executedFilters).hasSize(2);
+	}
+
+	@Test
+	public void defaultExecutorIsOwnedBoundedAndShutDownOnDestroy() {
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion);
+
+		Executor executor = template.getExecutor();
+
+		assertThat(executor).isInstanceOf(ThreadPoolExecutor.class).isNotSameAs(ForkJoinPool.commonPool());
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize())
+			.isEqualTo(GemfireOnRegionFunctionTemplate.DEFAULT_MAXIMUM_PARALLELISM);
+
+		template.destroy();
+
+		assertThat(((ThreadPoolExecutor) executor).isShutdown()).isTrue();
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.query.CqEvent;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link BatchingContinuousQueryListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.BatchingContinuousQueryListener
+ * @since 2.3.0
+ */
+public class BatchingContinuousQueryListenerUnitTests {
+
+	private final List<List<CqEvent>> batches = new CopyOnWriteArrayList<>();
+
+	private BatchingContinuousQueryListener listener;
+
+	@After
+	public void tearDown() {
+
+		if (this.listener != null) {
+			this.listener.destroy();
+		}
+	}
+
+	private CqEvent mockEvent(Object key) {
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		when(mockEvent.getKey()).thenReturn(key);
+
+		return mockEvent;
+	}
+
+	private void waitForBatches(int count) throws InterruptedException {
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+
+		while (this.batches.size() < count && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10L);
+		}
+	}
+
+	@Test
+	public void deliversBatchWhenBatchSizeIsReached() throws Exception {
+
+		this.listener = new BatchingContinuousQueryListener(this.batches::add, 3, 60000L, false);
+
+		List<CqEvent> events = new ArrayList<>();
+
+		for (int index = 0; index < 3; index++) {
+			CqEvent event = mockEvent(index);
+			events.add(event);
+			this.listener.onEvent(event);
+		}
+
+		waitForBatches(1);
+
+		assertThat(this.batches).hasSize(1);
+		assertThat(this.batches.get(0)).containsExactlyElementsOf(events);
+		assertThat(this.listener.getPendingEventCount()).isZero();
+	}
+
+	@Test
+	public void deliversBatchWhenBatchTimeoutElapses() throws Exception {
+
+		this.listener = new BatchingContinuousQueryListener(this.batches::add, 100, 50L, false);
+
+		CqEvent event = mockEvent("key");
+
+		this.listener.onEvent(event);
+
+		waitForBatches(1);
+
+		assertThat(this.batches).hasSize(1);
+		assertThat(this.batches.get(0)).containsExactly(event);
+	}
+
+	@Test
+	public void conflatesEventsForSameKey() throws Exception {
+
+		this.listener = new BatchingContinuousQueryListener(this.batches::add, 100, 60000L, true);
+
+		CqEvent eventOne = mockEvent(1);
+		CqEvent eventTwo = mockEvent(2);
+		CqEvent eventThree = mockEvent(1);
+
+		this.listener.onEvent(eventOne);
+		this.listener.onEvent(eventTwo);
+		this.listener.onEvent(eventThree);
+
+		assertThat(this.listener.getPendingEventCount()).isEqualTo(2);
+
+		this.listener.destroy();
+
+		assertThat(this.batches).hasSize(1);
+		assertThat(this.batches.get(0)).containsExactly(eventTwo, eventThree);
+	}
+
+	@Test
+	public void eventsWithoutKeyAreNotConflated() {
+
+		this.listener = new BatchingContinuousQueryListener(this.batches::add, 100, 60000L, true);
+
+		this.listener.onEvent(mockEvent(null));
+		this.listener.onEvent(mockEvent(null));
+
+		assertThat(this.listener.getPendingEventCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void listenerErrorIsHandledByErrorHandler() throws Exception {
+
+		List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+		this.listener = new BatchingContinuousQueryListener(events -> {
+			throw new IllegalStateException("TEST");
+		}, 1, 60000L, false);
+
+		this.listener.setErrorHandler(errors::add);
+		this.listener.onEvent(mockEvent("key"));
+		this.listener.destroy();
+
+		assertThat(errors).hasSize(1);
+		assertThat(errors.get(0)).isInstanceOf(IllegalStateException.class).hasMessage("TEST");
+	}
+}
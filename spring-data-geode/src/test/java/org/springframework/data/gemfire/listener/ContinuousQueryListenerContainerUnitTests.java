@@ -34,7 +34,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executor;
 
@@ -50,6 +52,7 @@ import org.apache.geode.cache.query.CqAttributes;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqException;
 import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
 import org.apache.geode.cache.query.CqState;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryService;
@@ -642,6 +645,69 @@ public class ContinuousQueryListenerContainerUnitTests {
 		}
 	}
 
+	@Test(expected = GemfireQueryException.class)
+	public void cqListenerContainerStartExecutesQueriesConcurrentlyIsolatingFailures() throws Exception {
+
+		CqQuery mockQueryOne = mock(CqQuery.class);
+		CqQuery mockQueryTwo = mock(CqQuery.class);
+		CqQuery mockQueryThree = mock(CqQuery.class);
+
+		CqState mockQueryState = mock(CqState.class);
+
+		cqListenerContainer.getContinuousQueries().add(mockQueryOne);
+		cqListenerContainer.getContinuousQueries().add(mockQueryTwo);
+		cqListenerContainer.getContinuousQueries().add(mockQueryThree);
+		cqListenerContainer.setExecutionConcurrency(2);
+
+		when(mockQueryOne.getName()).thenReturn("ONE");
+		when(mockQueryOne.getState()).thenReturn(mockQueryState);
+		when(mockQueryTwo.getName()).thenReturn("TWO");
+		when(mockQueryThree.getName()).thenReturn("THREE");
+		doThrow(new CqException("ONE")).when(mockQueryOne).execute();
+
+		try {
+			cqListenerContainer.start();
+		}
+		catch (GemfireQueryException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Could not execute query [ONE]");
+
+			throw expected;
+		}
+		finally {
+			assertThat(cqListenerContainer.isRunning()).isFalse();
+			assertThat(cqListenerContainer.getExecutionTimes()).containsOnlyKeys("TWO", "THREE");
+
+			verify(mockQueryOne, times(1)).execute();
+			verify(mockQueryTwo, times(1)).execute();
+			verify(mockQueryThree, times(1)).execute();
+		}
+	}
+
+	@Test
+	public void slowestQueryIsResolvedFromTheQueriesOfTheCurrentRunOnly() throws Exception {
+
+		CqQuery mockSlowQuery = mock(CqQuery.class);
+		CqQuery mockFastQuery = mock(CqQuery.class);
+
+		when(mockSlowQuery.getName()).thenReturn("SLOW");
+		when(mockFastQuery.getName()).thenReturn("FAST");
+		doAnswer(invocation -> {
+			Thread.sleep(50L);
+			return null;
+		}).when(mockSlowQuery).execute();
+
+		cqListenerContainer.getContinuousQueries().add(mockSlowQuery);
+		cqListenerContainer.getContinuousQueries().add(mockFastQuery);
+		cqListenerContainer.start();
+
+		assertThat(cqListenerContainer.getExecutionTimes()).containsOnlyKeys("SLOW", "FAST");
+		assertThat(cqListenerContainer.resolveSlowestQuery(Arrays.asList(mockSlowQuery, mockFastQuery)))
+			.contains("SLOW");
+		assertThat(cqListenerContainer.resolveSlowestQuery(Collections.singletonList(mockFastQuery)))
+			.contains("FAST");
+	}
+
 	@Test
 	public void cqListenerContainerDoesNotStartWhenAlreadyRunning() {
 
@@ -673,6 +739,54 @@ public class ContinuousQueryListenerContainerUnitTests {
 		verify(mockListener, times(1)).onEvent(eq(mockEvent));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void addListenerExecutesWithInitialResultsAndDispatchesInitialResultsBeforeHeldEvents() throws Exception {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		CqEvent mockLiveEvent = mock(CqEvent.class);
+
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		List<CqEvent> events = new ArrayList<>();
+
+		ContinuousQueryListener listener = events::add;
+
+		ContinuousQueryDefinition definition =
+			new ContinuousQueryDefinition("TestQuery", "SELECT * FROM /Utilization u WHERE u.value > 100",
+				listener, false, true);
+
+		when(mockQueryService.newCq(anyString(), anyString(), any(CqAttributes.class), anyBoolean()))
+			.thenAnswer(invocation -> {
+
+				CqQuery mockQuery = mockCqQuery(invocation.getArgument(0), invocation.getArgument(1),
+					invocation.getArgument(2), invocation.getArgument(3));
+
+				when(mockQuery.executeWithInitialResults()).thenAnswer(executeInvocation -> {
+					invocation.<CqAttributes>getArgument(2).getCqListener().onEvent(mockLiveEvent);
+					return mockResults;
+				});
+
+				return mockQuery;
+			});
+
+		when(mockResults.iterator()).thenReturn(Arrays.<Object>asList("one", "two").iterator());
+		when(cqListenerContainer.isRunning()).thenReturn(true);
+
+		cqListenerContainer.setQueryService(mockQueryService);
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+		cqListenerContainer.addListener(definition);
+
+		assertThat(events).hasSize(3);
+		assertThat(events.get(0)).isInstanceOf(InitialResultCqEvent.class);
+		assertThat(events.get(0).getNewValue()).isEqualTo("one");
+		assertThat(events.get(1).getNewValue()).isEqualTo("two");
+		assertThat(events.get(2)).isSameAs(mockLiveEvent);
+
+		verify(cqListenerContainer.getContinuousQueries().peek(), never()).execute();
+	}
+
 	@Test
 	public void dispatchEventInvokesConfiguredErrorHandlerOnListenerException() {
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Unit Tests for {@link KeyOrderedTaskExecutor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor
+ * @since 2.3.0
+ */
+public class KeyOrderedTaskExecutorUnitTests {
+
+	private KeyOrderedTaskExecutor taskExecutor;
+
+	@After
+	public void tearDown() {
+
+		if (this.taskExecutor != null) {
+			this.taskExecutor.destroy();
+		}
+	}
+
+	@Test
+	public void tasksForSameKeyRunInOrder() throws Exception {
+
+		this.taskExecutor = new KeyOrderedTaskExecutor("TestLane-", 4, 16,
+			KeyOrderedTaskExecutor.OverflowPolicy.BLOCK);
+
+		List<Integer> results = new CopyOnWriteArrayList<>();
+
+		CountDownLatch latch = new CountDownLatch(100);
+
+		for (int index = 0; index < 100; index++) {
+
+			int value = index;
+
+			this.taskExecutor.execute("key", () -> {
+				results.add(value);
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(results).isSorted().hasSize(100);
+	}
+
+	@Test
+	public void dropOldestDropsQueuedTaskWhenFull() throws Exception {
+
+		this.taskExecutor = new KeyOrderedTaskExecutor("TestLane-", 1, 2,
+			KeyOrderedTaskExecutor.OverflowPolicy.DROP_OLDEST);
+
+		List<Integer> results = new CopyOnWriteArrayList<>();
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+
+		this.taskExecutor.execute("key", () -> await(blocker));
+
+		waitForEmptyQueue();
+
+		this.taskExecutor.execute("key", () -> results.add(1));
+		this.taskExecutor.execute("key", () -> results.add(2));
+		this.taskExecutor.execute("key", () -> { results.add(3); done.countDown(); });
+
+		assertThat(this.taskExecutor.getQueueDepth()).isEqualTo(2);
+		assertThat(this.taskExecutor.getDroppedCount()).isEqualTo(1L);
+
+		blocker.countDown();
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(results).containsExactly(2, 3);
+	}
+
+	@Test
+	public void conflateReplacesQueuedTaskForSameKeyWhenFull() throws Exception {
+
+		this.taskExecutor = new KeyOrderedTaskExecutor("TestLane-", 1, 2,
+			KeyOrderedTaskExecutor.OverflowPolicy.CONFLATE);
+
+		List<String> results = new CopyOnWriteArrayList<>();
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+
+		this.taskExecutor.execute("one", () -> await(blocker));
+
+		waitForEmptyQueue();
+
+		this.taskExecutor.execute("one", () -> results.add("one-1"));
+		this.taskExecutor.execute("two", () -> { results.add("two-1"); done.countDown(); });
+		this.taskExecutor.execute("one", () -> results.add("one-2"));
+
+		assertThat(this.taskExecutor.getQueueDepth()).isEqualTo(2);
+		assertThat(this.taskExecutor.getConflatedCount()).isEqualTo(1L);
+		assertThat(this.taskExecutor.getLagMillis()).isGreaterThanOrEqualTo(0L);
+
+		blocker.countDown();
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(results).containsExactly("one-2", "two-1");
+	}
+
+	@Test(expected = TaskRejectedException.class)
+	public void executeAfterDestroyIsRejected() {
+
+		this.taskExecutor = new KeyOrderedTaskExecutor("TestLane-");
+		this.taskExecutor.destroy();
+		this.taskExecutor.execute("key", () -> {});
+	}
+
+	@Test
+	public void laneForKeyIsStable() {
+
+		this.taskExecutor = new KeyOrderedTaskExecutor("TestLane-", 8, 16,
+			KeyOrderedTaskExecutor.OverflowPolicy.BLOCK);
+
+		assertThat(this.taskExecutor.laneFor("key")).isEqualTo(this.taskExecutor.laneFor("key"));
+		assertThat(this.taskExecutor.laneFor(null)).isBetween(0, 7);
+	}
+
+	private void waitForEmptyQueue() throws InterruptedException {
+
+		long timeout = System.currentTimeMillis() + 5000L;
+
+		while (this.taskExecutor.getQueueDepth() > 0 && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10L);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
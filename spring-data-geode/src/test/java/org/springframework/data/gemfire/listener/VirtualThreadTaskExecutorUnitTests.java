@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Unit Tests for {@link VirtualThreadTaskExecutor}.
+ *
+ * Uses platform {@link Thread Threads} so the tests run on any supported Java version.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.VirtualThreadTaskExecutor
+ * @since 2.3.0
+ */
+public class VirtualThreadTaskExecutorUnitTests {
+
+	private final VirtualThreadTaskExecutor taskExecutor =
+		new VirtualThreadTaskExecutor(new CustomizableThreadFactory("TestThread-"));
+
+	@Test
+	public void tasksForSameKeyRunInOrderEvenWhenOneFails() throws Exception {
+
+		List<Integer> results = new CopyOnWriteArrayList<>();
+
+		CountDownLatch latch = new CountDownLatch(100);
+
+		for (int index = 0; index < 100; index++) {
+
+			int value = index;
+
+			this.taskExecutor.execute("key", () -> {
+				try {
+					if (value == 50) {
+						throw new IllegalStateException("TEST");
+					}
+					results.add(value);
+				}
+				finally {
+					latch.countDown();
+				}
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(results).isSorted().hasSize(99).doesNotContain(50);
+	}
+
+	@Test
+	public void tasksForDifferentKeysRunConcurrently() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+
+		for (String key : new String[] { "one", "two" }) {
+			this.taskExecutor.execute(key, () -> {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.taskExecutor.getActiveKeyCount()).isEqualTo(2);
+
+		release.countDown();
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+
+		while (this.taskExecutor.getActiveKeyCount() > 0 && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10L);
+		}
+
+		assertThat(this.taskExecutor.getActiveKeyCount()).isZero();
+	}
+
+	@Test
+	public void executeAfterDestroyIsRejected() {
+
+		this.taskExecutor.destroy();
+
+		assertThatThrownBy(() -> this.taskExecutor.execute("key", () -> {}))
+			.isInstanceOf(TaskRejectedException.class);
+	}
+
+	@Test
+	public void virtualThreadFactoryIsAvailableOnlyWhenSupported() {
+
+		if (VirtualThreadTaskExecutor.isSupported()) {
+			assertThat(VirtualThreadTaskExecutor.newVirtualThreadFactory("Test-")).isNotNull();
+		}
+		else {
+			assertThatThrownBy(() -> new VirtualThreadTaskExecutor("Test-"))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("Virtual Threads require Java 21 or later");
+		}
+	}
+}
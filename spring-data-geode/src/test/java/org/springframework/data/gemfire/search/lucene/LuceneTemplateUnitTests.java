@@ -25,14 +25,19 @@ import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.search.lucene.LuceneAccessor.LuceneQueryExecutor;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.lucene.LuceneQuery;
 import org.apache.geode.cache.lucene.LuceneQueryException;
 import org.apache.geode.cache.lucene.LuceneQueryFactory;
@@ -48,6 +53,8 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache;
+
 /**
  * Unit tests for {@link LuceneTemplate}.
  *
@@ -329,4 +336,46 @@ public class LuceneTemplateUnitTests {
 			eq("/Example"), eq(mockLuceneQueryProvider));
 		verify(mockLuceneQuery, times(1)).findValues();
 	}
+
+	@Test
+	@SuppressWarnings({ "deprecation", "unchecked" })
+	public void cachedStringQueryReadsValuesFromRegion() throws LuceneQueryException {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+		when(mockRegion.getAll(eq(asList("keyOne", "keyTwo"))))
+			.thenReturn(Collections.singletonMap("keyTwo", "valueTwo"));
+		when(mockLuceneQueryFactory.create(eq("TestIndex"), eq("/Example"), anyString(), anyString()))
+			.thenReturn(mockLuceneQuery);
+		when(mockLuceneQuery.findResults()).thenReturn(asList(mockLuceneResultStructOne, mockLuceneResultStructTwo));
+		when(mockLuceneResultStructOne.getKey()).thenReturn("keyOne");
+		when(mockLuceneResultStructTwo.getKey()).thenReturn("keyTwo");
+		when(mockLuceneResultStructTwo.getScore()).thenReturn(0.5f);
+
+		doReturn("TestIndex").when(luceneTemplate).resolveIndexName();
+		doReturn("/Example").when(luceneTemplate).resolveRegionPath();
+
+		LuceneQueryResultCache resultCache = new LuceneQueryResultCache();
+
+		luceneTemplate.setRegion(mockRegion);
+		luceneTemplate.setResultCache(resultCache);
+
+		assertThat(luceneTemplate.query("title : Test", "title", 100))
+			.containsExactly(mockLuceneResultStructOne, mockLuceneResultStructTwo);
+
+		List<LuceneResultStruct<Object, Object>> results = luceneTemplate.query("title : Test", "title", 100);
+
+		assertThat(results).hasSize(1);
+		assertThat(results.get(0).getKey()).isEqualTo("keyTwo");
+		assertThat(results.get(0).getValue()).isEqualTo("valueTwo");
+		assertThat(results.get(0).getScore()).isEqualTo(0.5f);
+		assertThat(luceneTemplate.<String>queryForValues("title : Test", "title", 100)).containsExactly("valueTwo");
+		assertThat(resultCache.getHitCount()).isEqualTo(2L);
+		assertThat(resultCache.getMissCount()).isEqualTo(1L);
+		assertThat(resultCache.isTracked("/Example")).isTrue();
+
+		verify(mockLuceneQuery, times(1)).findResults();
+		verify(mockLuceneQuery, never()).findValues();
+	}
 }
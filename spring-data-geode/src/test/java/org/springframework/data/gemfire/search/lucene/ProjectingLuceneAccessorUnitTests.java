@@ -19,15 +19,18 @@ package org.springframework.data.gemfire.search.lucene;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.lucene.LuceneIndex;
 import org.apache.geode.cache.lucene.LuceneService;
+import org.apache.geode.pdx.PdxInstance;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +39,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.gemfire.search.lucene.support.PdxInstanceDtoProjector;
 import org.springframework.data.gemfire.search.lucene.support.ProjectingLuceneAccessorSupport;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
@@ -162,4 +166,26 @@ public class ProjectingLuceneAccessorUnitTests {
 		assertThat(projectionFactory).isInstanceOf(SpelAwareProxyProjectionFactory.class);
 		assertThat(projectingLuceneAccessor.getProjectionFactory()).isSameAs(projectionFactory);
 	}
+
+	@Test
+	public void projectOntoClassUsesDtoProjectorAndInterfaceUsesProjectionFactory() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		PdxInstanceDtoProjector mockDtoProjector = mock(PdxInstanceDtoProjector.class);
+
+		Runnable mockProjection = mock(Runnable.class);
+
+		when(mockDtoProjector.project(mockPdxInstance, StringBuilder.class)).thenReturn(new StringBuilder("dto"));
+		when(mockProjectionFactory.createProjection(Runnable.class, mockPdxInstance)).thenReturn(mockProjection);
+
+		projectingLuceneAccessor.setDtoProjector(mockDtoProjector);
+		projectingLuceneAccessor.setProjectionFactory(mockProjectionFactory);
+
+		assertThat(projectingLuceneAccessor.project(mockPdxInstance, StringBuilder.class).toString()).isEqualTo("dto");
+		assertThat(projectingLuceneAccessor.project(mockPdxInstance, Runnable.class)).isSameAs(mockProjection);
+
+		verify(mockDtoProjector, times(1)).project(mockPdxInstance, StringBuilder.class);
+		verify(mockProjectionFactory, times(1)).createProjection(Runnable.class, mockPdxInstance);
+	}
 }
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -212,7 +213,7 @@ public class LucenePageUnitTests {
 		verify(mockQueryResults, times(3)).hasNext();
 		verify(mockQueryResults, times(2)).next();
 		verifyNoMoreInteractions(mockQueryResults);
-		verify(mockTemplate, times(1))
+		verify(mockTemplate, never())
 			.project(eq(mockResults.get(0)), eq(Person.class));
 		verify(mockTemplate, times(1))
 			.project(eq(mockResults.get(1)), eq(Person.class));
@@ -318,11 +319,58 @@ public class LucenePageUnitTests {
 			verify(mockQueryResults, times(2)).hasNext();
 			verify(mockQueryResults, times(1)).next();
 			verifyNoMoreInteractions(mockQueryResults);
-			verify(mockTemplate, times(1)).project(isA(List.class), eq(Person.class));
-			verifyNoMoreInteractions(mockTemplate);
+			verifyZeroInteractions(mockTemplate);
 		}
 	}
 
+	@Test
+	public void contentIsProjectedOnceOnFirstAccess() {
+
+		List<Person> people = Collections.singletonList(Person.newPerson("Jon", "Doe"));
+
+		List<LuceneResultStruct<Long, String>> mockResultStructList = prepare(mockQueryResults, people);
+
+		LucenePage<Person, Long, String> page =
+			newLucenePage(prepare(mockTemplate), mockQueryResults, 20, Person.class);
+
+		verifyZeroInteractions(mockTemplate);
+
+		assertThat(page.getContent()).isEqualTo(people);
+		assertThat(page.getContent()).isSameAs(page.getContent());
+
+		verify(mockTemplate, times(1)).project(eq(mockResultStructList), eq(Person.class));
+		verifyNoMoreInteractions(mockTemplate);
+	}
+
+	@Test
+	public void pagesOutsideRetainedWindowAreReleased() {
+
+		List<Person> people = Arrays.asList(Person.newPerson("Jon", "Doe"), Person.newPerson("Jane", "Doe"),
+			Person.newPerson("Pie", "Doe"), Person.newPerson("Cookie", "Doe"));
+
+		prepare(mockQueryResults, people, 1);
+
+		LucenePage<Person, Long, String> firstPage =
+			newLucenePage(prepare(mockTemplate), mockQueryResults, 1, Person.class, 2);
+
+		LucenePage<Person, Long, String> secondPage = firstPage.getNext();
+		LucenePage<Person, Long, String> thirdPage = secondPage.getNext();
+		LucenePage<Person, Long, String> fourthPage = thirdPage.getNext();
+
+		assertThat(fourthPage.getNumber()).isEqualTo(4);
+		assertThat(fourthPage.getPrevious()).isSameAs(thirdPage);
+		assertThat(thirdPage.getPrevious()).isNull();
+		assertThat(thirdPage.hasPrevious()).isTrue();
+		assertThat(thirdPage.getNumber()).isEqualTo(3);
+		assertThat(secondPage.getPrevious()).isNull();
+		assertThat(fourthPage.getContent()).containsExactly(people.get(3));
+
+		fourthPage.releasePrevious();
+
+		assertThat(fourthPage.getPrevious()).isNull();
+		assertThat(fourthPage.hasPrevious()).isTrue();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void getNumberReturnsOne() {
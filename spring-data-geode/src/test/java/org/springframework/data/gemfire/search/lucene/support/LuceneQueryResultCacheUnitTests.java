@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.search.lucene.support;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache.Key;
+
+/**
+ * Unit Tests for {@link LuceneQueryResultCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.search.lucene.support.LuceneQueryResultCache
+ * @since 2.3.0
+ */
+public class LuceneQueryResultCacheUnitTests {
+
+	private final AtomicLong clock = new AtomicLong(1000L);
+
+	private LuceneQueryResultCache newResultCache(int maximumSize, long timeToLive) {
+
+		return new LuceneQueryResultCache(maximumSize, timeToLive) {
+
+			@Override
+			protected long now() {
+				return clock.get();
+			}
+		};
+	}
+
+	private Key newKey(String query) {
+		return Key.of("TestIndex", "/Example", query, "title", 100, true);
+	}
+
+	@Test
+	public void cachedResultExpiresAfterTimeToLive() {
+
+		LuceneQueryResultCache resultCache = newResultCache(10, 500L);
+
+		List<String> keys = asList("one", "two");
+
+		resultCache.put(newKey("title : test"), keys, resultCache.getRegionVersion("/Example"));
+
+		assertThat(resultCache.<List<String>>get(newKey("title : test"))).isEqualTo(keys);
+		assertThat(resultCache.<List<String>>get(Key.of("TestIndex", "/Example", "title : test", "title", 10, true)))
+			.isNull();
+
+		this.clock.addAndGet(500L);
+
+		assertThat(resultCache.<List<String>>get(newKey("title : test"))).isNull();
+		assertThat(resultCache.size()).isZero();
+		assertThat(resultCache.getHitCount()).isEqualTo(1L);
+		assertThat(resultCache.getMissCount()).isEqualTo(2L);
+		assertThat(resultCache.getHitRatio()).isEqualTo(1.0d / 3.0d);
+	}
+
+	@Test
+	public void leastRecentlyUsedResultIsEvictedWhenFull() {
+
+		LuceneQueryResultCache resultCache = newResultCache(2, 60000L);
+
+		long regionVersion = resultCache.getRegionVersion("/Example");
+
+		resultCache.put(newKey("one"), asList(1), regionVersion);
+		resultCache.put(newKey("two"), asList(2), regionVersion);
+
+		assertThat(resultCache.<List<Integer>>get(newKey("one"))).containsExactly(1);
+
+		resultCache.put(newKey("three"), asList(3), regionVersion);
+
+		assertThat(resultCache.size()).isEqualTo(2);
+		assertThat(resultCache.getEvictionCount()).isEqualTo(1L);
+		assertThat(resultCache.<List<Integer>>get(newKey("two"))).isNull();
+		assertThat(resultCache.<List<Integer>>get(newKey("one"))).containsExactly(1);
+		assertThat(resultCache.<List<Integer>>get(newKey("three"))).containsExactly(3);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionChangeInvalidatesCachedResults() {
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+
+		LuceneQueryResultCache resultCache = newResultCache(10, 60000L);
+
+		resultCache.track("/Example", mockRegion);
+		resultCache.track("/Example", mockRegion);
+
+		ArgumentCaptor<CacheListener<Object, Object>> listener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(listener.capture());
+
+		long staleRegionVersion = resultCache.getRegionVersion("/Example");
+
+		resultCache.put(newKey("title : test"), asList("one"), staleRegionVersion);
+		resultCache.put(Key.of("TestIndex", "/Other", "title : test", "title", 100, true), asList("two"),
+			resultCache.getRegionVersion("/Other"));
+
+		listener.getValue().afterUpdate(mock(EntryEvent.class));
+
+		assertThat(resultCache.size()).isEqualTo(2);
+		assertThat(resultCache.<List<String>>get(newKey("title : test"))).isNull();
+		assertThat(resultCache.size()).isEqualTo(1);
+		assertThat(resultCache.getInvalidationCount()).isEqualTo(1L);
+
+		resultCache.put(newKey("title : test"), asList("one"), staleRegionVersion);
+
+		assertThat(resultCache.<List<String>>get(newKey("title : test"))).isNull();
+
+		resultCache.put(newKey("title : test"), asList("one"), resultCache.getRegionVersion("/Example"));
+
+		assertThat(resultCache.size()).isEqualTo(2);
+
+		listener.getValue().afterRegionClear(mock(RegionEvent.class));
+
+		assertThat(resultCache.size()).isEqualTo(1);
+		assertThat(resultCache.getInvalidationCount()).isEqualTo(2L);
+
+		resultCache.destroy();
+
+		verify(mockAttributesMutator, times(1)).removeCacheListener(any(CacheListener.class));
+		assertThat(resultCache.isTracked("/Example")).isFalse();
+		assertThat(resultCache.size()).isZero();
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.search.lucene.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link PdxInstanceDtoProjector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceDtoProjector
+ * @since 2.3.0
+ */
+public class PdxInstanceDtoProjectorUnitTests {
+
+	private final PdxInstanceDtoProjector dtoProjector = new PdxInstanceDtoProjector();
+
+	private PdxInstance mockPdxInstance(String name, Object age) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField("name")).thenReturn(true);
+		when(mockPdxInstance.getField("name")).thenReturn(name);
+		when(mockPdxInstance.hasField("age")).thenReturn(true);
+		when(mockPdxInstance.getField("age")).thenReturn(age);
+
+		return mockPdxInstance;
+	}
+
+	@Test
+	public void projectBindsConstructorArgumentsAndProperties() {
+
+		PersonView view = this.dtoProjector.project(mockPdxInstance("Jon Doe", 42), PersonView.class);
+
+		assertThat(view.getName()).isEqualTo("Jon Doe");
+		assertThat(view.getAge()).isEqualTo(42);
+		assertThat(view.getNickname()).isNull();
+	}
+
+	@Test
+	public void projectConvertsPropertyValues() {
+
+		PersonView view = this.dtoProjector.project(mockPdxInstance("Jane Doe", "21"), PersonView.class);
+
+		assertThat(view.getName()).isEqualTo("Jane Doe");
+		assertThat(view.getAge()).isEqualTo(21);
+	}
+
+	@Test
+	public void projectConvertsConstructorArguments() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField("id")).thenReturn(true);
+		when(mockPdxInstance.getField("id")).thenReturn(1);
+		when(mockPdxInstance.hasField("balance")).thenReturn(true);
+		when(mockPdxInstance.getField("balance")).thenReturn(100);
+		when(mockPdxInstance.hasField("visits")).thenReturn(true);
+		when(mockPdxInstance.getField("visits")).thenReturn(8);
+
+		AccountView view = this.dtoProjector.project(mockPdxInstance, AccountView.class);
+
+		assertThat(view.getId()).isEqualTo(1L);
+		assertThat(view.getBalance()).isEqualTo(100L);
+		assertThat(view.getVisits()).isEqualTo(8);
+	}
+
+	@Test
+	public void projectBindsMissingFieldsToDefaultValuesOfConstructorArguments() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField("id")).thenReturn(true);
+		when(mockPdxInstance.getField("id")).thenReturn(2);
+
+		AccountView view = this.dtoProjector.project(mockPdxInstance, AccountView.class);
+
+		assertThat(view.getId()).isEqualTo(2L);
+		assertThat(view.getBalance()).isNull();
+		assertThat(view.getVisits()).isZero();
+	}
+
+	@Test
+	public void isDtoTypeAcceptsConcreteClassesOnly() {
+
+		assertThat(PdxInstanceDtoProjector.isDtoType(PersonView.class)).isTrue();
+		assertThat(PdxInstanceDtoProjector.isDtoType(Runnable.class)).isFalse();
+		assertThat(PdxInstanceDtoProjector.isDtoType(Number.class)).isFalse();
+		assertThat(PdxInstanceDtoProjector.isDtoType(int.class)).isFalse();
+		assertThat(PdxInstanceDtoProjector.isDtoType(null)).isFalse();
+	}
+
+	@Test
+	public void projectOntoInterfaceIsIllegal() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.dtoProjector.project(mockPdxInstance("Jon Doe", 42), Runnable.class))
+			.withMessage("Type [java.lang.Runnable] must be a concrete class");
+	}
+
+	public static class AccountView {
+
+		private final long id;
+
+		private final Long balance;
+
+		private final int visits;
+
+		public AccountView(long id, Long balance, int visits) {
+			this.id = id;
+			this.balance = balance;
+			this.visits = visits;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+		public Long getBalance() {
+			return this.balance;
+		}
+
+		public int getVisits() {
+			return this.visits;
+		}
+	}
+
+	public static class PersonView {
+
+		private final String name;
+
+		private int age;
+
+		private String nickname;
+
+		public PersonView(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public String getNickname() {
+			return this.nickname;
+		}
+
+		public void setNickname(String nickname) {
+			this.nickname = nickname;
+		}
+	}
+}
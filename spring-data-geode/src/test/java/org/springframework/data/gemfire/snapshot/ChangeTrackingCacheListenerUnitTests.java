@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.EntryEvent;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link ChangeTrackingCacheListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.ChangeTrackingCacheListener
+ * @since 2.3.0
+ */
+public class ChangeTrackingCacheListenerUnitTests {
+
+	private final ChangeTrackingCacheListener<String, String> listener = new ChangeTrackingCacheListener<>();
+
+	private EntryEvent<String, String> mockEntryEvent(String key) {
+
+		EntryEvent<String, String> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn(key);
+
+		return mockEntryEvent;
+	}
+
+	@Test
+	public void drainKeepsOnlyTheLatestChangeOfEachKey() {
+
+		this.listener.afterCreate(mockEntryEvent("one"));
+		this.listener.afterUpdate(mockEntryEvent("two"));
+		this.listener.afterDestroy(mockEntryEvent("two"));
+		this.listener.afterDestroy(mockEntryEvent("three"));
+		this.listener.afterCreate(mockEntryEvent("three"));
+
+		ChangeTrackingCacheListener.ChangeSet<String> changes = this.listener.drain();
+
+		assertThat(changes.getChangedKeys()).containsExactlyInAnyOrder("one", "three");
+		assertThat(changes.getDestroyedKeys()).containsExactly("two");
+		assertThat(this.listener.drain().isEmpty()).isTrue();
+	}
+
+	@Test
+	public void restoreDoesNotOverrideNewerChanges() {
+
+		this.listener.afterUpdate(mockEntryEvent("one"));
+		this.listener.afterDestroy(mockEntryEvent("two"));
+
+		ChangeTrackingCacheListener.ChangeSet<String> changes = this.listener.drain();
+
+		this.listener.afterDestroy(mockEntryEvent("one"));
+		this.listener.restore(changes);
+
+		ChangeTrackingCacheListener.ChangeSet<String> restoredChanges = this.listener.drain();
+
+		assertThat(restoredChanges.getChangedKeys()).isEmpty();
+		assertThat(restoredChanges.getDestroyedKeys()).containsExactlyInAnyOrder("one", "two");
+	}
+
+	@Test
+	public void regionClearInvalidatesBaseline() {
+
+		assertThat(this.listener.hasBaseline()).isFalse();
+
+		this.listener.afterUpdate(mockEntryEvent("one"));
+		this.listener.resetBaseline();
+
+		assertThat(this.listener.hasBaseline()).isTrue();
+		assertThat(this.listener.drain().isEmpty()).isTrue();
+
+		this.listener.afterRegionClear(null);
+
+		assertThat(this.listener.hasBaseline()).isFalse();
+	}
+}
@@ -25,10 +25,12 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -41,31 +43,48 @@ import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBe
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport;
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
 import org.apache.geode.cache.snapshot.SnapshotOptions;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.partitioned.RegionAdvisor;
 
 import org.junit.After;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.slf4j.Logger;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotCompletedApplicationEvent;
 import org.springframework.data.gemfire.test.support.FileSystemUtils;
 
 /**
@@ -1417,6 +1436,440 @@ public class SnapshotServiceFactoryBeanTest {
 		assertThat(ArchiveFileFilter.INSTANCE.accept(new File("/path/to/file.tar")), is(false));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void parallelExportReportsFailuresPerSnapshotAndPublishesCompletionEvent() throws Exception {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		File snapshotOne = new File("one.gfd");
+		File snapshotTwo = new File("two.gfd");
+
+		when(mockRegion.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+		doThrow(new IOException("TEST")).when(mockRegionSnapshotService)
+			.save(eq(snapshotTwo), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setApplicationEventPublisher(mockApplicationEventPublisher);
+		factoryBean.setConcurrency(2);
+		factoryBean.setExports(toArray(newSnapshotMetadata(snapshotOne), newSnapshotMetadata(snapshotTwo)));
+		factoryBean.setRegion(mockRegion);
+		factoryBean.setSuppressImportOnInit(true);
+		factoryBean.afterPropertiesSet();
+
+		try {
+			factoryBean.destroy();
+			fail("Expected ExportSnapshotException");
+		}
+		catch (ExportSnapshotException expected) {
+			assertThat(expected.getMessage(), is(equalTo("Failed to export snapshots [two.gfd]")));
+		}
+
+		verify(mockRegionSnapshotService, times(1)).save(eq(snapshotOne), eq(SnapshotFormat.GEMFIRE),
+			eq(mockSnapshotOptions));
+
+		ArgumentCaptor<SnapshotCompletedApplicationEvent> event =
+			ArgumentCaptor.forClass(SnapshotCompletedApplicationEvent.class);
+
+		verify(mockApplicationEventPublisher, times(1)).publishEvent(event.capture());
+
+		assertThat(event.getValue().isExport(), is(true));
+		assertThat(event.getValue().getResults().size(), is(equalTo(2)));
+		assertThat(event.getValue().getFailures().size(), is(equalTo(1)));
+		assertThat(event.getValue().getFailures().get(0).getName(), is(equalTo("two.gfd")));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void importArchiveStreamsEachEntryAndDeletesScratchFiles() throws Exception {
+
+		CacheSnapshotService mockCacheSnapshotService = mock(CacheSnapshotService.class, "MockCacheSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		List<File> loadedSnapshots = new ArrayList<>();
+
+		when(mockCacheSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		doAnswer(invocation -> {
+			File[] snapshots = invocation.getArgument(0);
+			assertThat(snapshots.length, is(equalTo(1)));
+			assertThat(snapshots[0].isFile(), is(true));
+			loadedSnapshots.add(snapshots[0]);
+			return null;
+		}).when(mockCacheSnapshotService).load(any(File[].class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		CacheSnapshotServiceAdapter adapter = new CacheSnapshotServiceAdapter(mockCacheSnapshotService);
+
+		adapter.doImport(newSnapshotMetadata(new ClassPathResource("/cache_snapshot.zip").getFile()));
+
+		assertThat(loadedSnapshots.size(), is(equalTo(3)));
+		assertThat(toFilenames(loadedSnapshots).containsAll(Arrays.asList(
+			"accounts.snapshot", "address.snapshot", "people.snapshot")), is(true));
+
+		for (File snapshot : loadedSnapshots) {
+			assertThat(snapshot.exists(), is(false));
+			assertThat(snapshot.getParentFile().exists(), is(false));
+		}
+	}
+
+	@Test
+	public void compressedExportIsDecompressedOnImport() throws Exception {
+
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		List<String> loadedContents = new ArrayList<>();
+
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		doAnswer(invocation -> {
+			Files.write(invocation.<File>getArgument(0).toPath(), "TEST".getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		doAnswer(invocation -> {
+			File snapshot = invocation.getArgument(0);
+			assertThat(snapshot.getName(), is(equalTo("compressed.gfd")));
+			loadedContents.add(new String(Files.readAllBytes(snapshot.toPath()), StandardCharsets.UTF_8));
+			return null;
+		}).when(mockRegionSnapshotService).load(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		File snapshot = new File(FileSystemUtils.WORKING_DIRECTORY, "compressed.gfd");
+		File compressedSnapshot = new File(FileSystemUtils.WORKING_DIRECTORY, "compressed.gfd.gz");
+
+		try {
+
+			SnapshotMetadata<Object, Object> metadata = newSnapshotMetadata(snapshot);
+
+			metadata.setCompressed(true);
+
+			RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+			adapter.doExport(metadata);
+
+			assertThat(snapshot.exists(), is(false));
+			assertThat(compressedSnapshot.isFile(), is(true));
+
+			adapter.doImport(newSnapshotMetadata(snapshot));
+
+			assertThat(loadedContents, is(equalTo(Collections.singletonList("TEST"))));
+		}
+		finally {
+			compressedSnapshot.delete();
+			snapshot.delete();
+		}
+	}
+
+	@Test
+	public void compressedCacheExportOnlyCompressesSnapshotsWrittenByTheExport() throws Exception {
+
+		Cache mockCache = mock(Cache.class, "MockCache");
+
+		CacheSnapshotService mockCacheSnapshotService = mock(CacheSnapshotService.class, "MockCacheSnapshotService");
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		when(mockCache.rootRegions()).thenReturn(Collections.singleton(mockRegion));
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.subregions(anyBoolean())).thenReturn(Collections.emptySet());
+		when(mockCacheSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		File directory = Files.createTempDirectory("compressedCacheExport").toFile();
+		File otherSnapshot = new File(directory, "snapshot-Other.gfd");
+		File snapshot = new File(directory, "snapshot-Example.gfd");
+
+		doAnswer(invocation -> {
+			Files.write(snapshot.toPath(), "TEST".getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(mockCacheSnapshotService).save(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		try {
+			Files.write(otherSnapshot.toPath(), "OTHER".getBytes(StandardCharsets.UTF_8));
+
+			SnapshotMetadata<Object, Object> metadata = newSnapshotMetadata(directory);
+
+			metadata.setCompressed(true);
+
+			CacheSnapshotServiceAdapter adapter = new CacheSnapshotServiceAdapter(mockCacheSnapshotService);
+
+			adapter.setCache(mockCache);
+			adapter.doExport(metadata);
+
+			assertThat(snapshot.exists(), is(false));
+			assertThat(new File(directory, "snapshot-Example.gfd.gz").isFile(), is(true));
+			assertThat(otherSnapshot.isFile(), is(true));
+			assertThat(new File(directory, "snapshot-Other.gfd.gz").exists(), is(false));
+		}
+		finally {
+			org.springframework.util.FileSystemUtils.deleteRecursively(directory);
+		}
+	}
+
+	@Test(expected = ImportSnapshotException.class)
+	public void throttledImportWithoutSnapshotOptionsIsRejected() throws Exception {
+
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		ThrottledSnapshotImporter mockImporter = mock(ThrottledSnapshotImporter.class, "MockImporter");
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+
+		RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+		adapter.setImporter(mockImporter);
+		adapter.setRegion(mockRegion);
+
+		try {
+			adapter.load(new File("region.gfd"), SnapshotFormat.GEMFIRE);
+		}
+		catch (ImportSnapshotException expected) {
+
+			assertThat(expected.getMessage(), is(equalTo("Batched imports into Region [/Example] always invoke"
+				+ " cache callbacks; load the snapshot with SnapshotOptions invoking callbacks instead")));
+
+			throw expected;
+		}
+		finally {
+			verify(mockImporter, never()).importSnapshot(any(File.class), any(Region.class), any());
+			verify(mockRegionSnapshotService, never()).load(any(File.class), any(SnapshotFormat.class));
+		}
+	}
+
+	@Test(expected = ImportSnapshotException.class)
+	public void throttledImportWithoutCallbacksIsRejected() {
+
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		ThrottledSnapshotImporter mockImporter = mock(ThrottledSnapshotImporter.class, "MockImporter");
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockSnapshotOptions.shouldInvokeCallbacks()).thenReturn(false);
+
+		RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+		adapter.setImporter(mockImporter);
+		adapter.setRegion(mockRegion);
+
+		try {
+			adapter.load(SnapshotFormat.GEMFIRE, mockSnapshotOptions, new File("region.gfd"));
+		}
+		catch (ImportSnapshotException expected) {
+
+			assertThat(expected.getMessage(), is(equalTo("Batched imports into Region [/Example] always invoke"
+				+ " cache callbacks; invokeCallbacks must be true when an import batch size is set")));
+
+			throw expected;
+		}
+		finally {
+			verify(mockImporter, never()).importSnapshot(any(File.class), any(Region.class), any());
+		}
+	}
+
+	private PartitionedRegion mockPartitionedRegion(boolean dataStore, InternalDistributedMember... otherDataStores) {
+
+		PartitionedRegion mockRegion = mock(PartitionedRegion.class, "MockPartitionedRegion");
+
+		RegionAdvisor mockRegionAdvisor = mock(RegionAdvisor.class, "MockRegionAdvisor");
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.isDataStore()).thenReturn(dataStore);
+		when(mockRegion.getRegionAdvisor()).thenReturn(mockRegionAdvisor);
+		when(mockRegion.getSnapshotService()).thenReturn(mock(RegionSnapshotService.class));
+		when(mockRegionAdvisor.adviseDataStore()).thenReturn(new HashSet<>(Arrays.asList(otherDataStores)));
+
+		return mockRegion;
+	}
+
+	@Test
+	public void incrementalSnapshotsOfPartitionedRegionHostedByMultipleMembersAreRejected() {
+
+		PartitionedRegion mockRegion = mockPartitionedRegion(true, mock(InternalDistributedMember.class));
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setRegion(mockRegion);
+		factoryBean.setIncremental(true);
+
+		try {
+			factoryBean.configure(factoryBean.create());
+			fail("Incremental snapshots of a PARTITION Region hosted by multiple members must be rejected");
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected.getMessage(), is(equalTo("Incremental snapshots require a Region receiving every"
+				+ " change; Region [/Example] is a client Region or a PARTITION Region with buckets hosted"
+					+ " by other members")));
+		}
+
+		verify(mockRegion, never()).getAttributesMutator();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void incrementalSnapshotsOfPartitionedRegionHostedOnlyByThisMemberAreTracked() {
+
+		PartitionedRegion mockRegion = mockPartitionedRegion(true);
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class, "MockAttributesMutator");
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setRegion(mockRegion);
+		factoryBean.setIncremental(true);
+		factoryBean.configure(factoryBean.create());
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(any(ChangeTrackingCacheListener.class));
+	}
+
+	@Test
+	public void changeTrackingIsIncompleteForAccessorsAndOtherMembersHostingBuckets() {
+
+		assertThat(SnapshotServiceFactoryBean.isChangeTrackingComplete(mockPartitionedRegion(true)), is(true));
+		assertThat(SnapshotServiceFactoryBean.isChangeTrackingComplete(mockPartitionedRegion(false)), is(false));
+		assertThat(SnapshotServiceFactoryBean.isChangeTrackingComplete(
+			mockPartitionedRegion(true, mock(InternalDistributedMember.class))), is(false));
+	}
+
+	@Test
+	public void incrementalExportWritesDeltasAppliedInOrderOnImport() throws Exception {
+
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		AtomicReference<SnapshotFilter<Object, Object>> filter = new AtomicReference<>();
+
+		List<String> loadedContents = new ArrayList<>();
+
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		doAnswer(invocation -> {
+			filter.set(invocation.getArgument(0));
+			return mockSnapshotOptions;
+		}).when(mockSnapshotOptions).setFilter(any());
+
+		doAnswer(invocation -> {
+
+			StringBuilder content = new StringBuilder();
+
+			for (String key : Arrays.asList("one", "two", "three")) {
+				if (filter.get() == null || filter.get().accept(new AbstractMap.SimpleEntry<>(key, key))) {
+					content.append(key).append(";");
+				}
+			}
+
+			Files.write(invocation.<File>getArgument(0).toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+			return null;
+
+		}).when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		doAnswer(invocation -> {
+			loadedContents.add(new String(Files.readAllBytes(invocation.<File>getArgument(0).toPath()),
+				StandardCharsets.UTF_8));
+			return null;
+		}).when(mockRegionSnapshotService).load(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		File directory = Files.createTempDirectory("incremental-snapshot-").toFile();
+
+		File snapshot = new File(directory, "region.gfd");
+
+		try {
+
+			ChangeTrackingCacheListener<Object, Object> changeTracker = new ChangeTrackingCacheListener<>();
+
+			RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+			adapter.setChangeTracker(changeTracker);
+			adapter.setRegion(mockRegion);
+			adapter.doExport(newSnapshotMetadata(snapshot));
+
+			assertThat(new String(Files.readAllBytes(snapshot.toPath()), StandardCharsets.UTF_8),
+				is(equalTo("one;two;three;")));
+
+			EntryEvent mockEntryEventTwo = mock(EntryEvent.class);
+			EntryEvent mockEntryEventThree = mock(EntryEvent.class);
+
+			when(mockEntryEventTwo.getKey()).thenReturn("two");
+			when(mockEntryEventThree.getKey()).thenReturn("three");
+
+			changeTracker.afterUpdate(mockEntryEventTwo);
+			changeTracker.afterDestroy(mockEntryEventThree);
+
+			adapter.doExport(newSnapshotMetadata(snapshot));
+			adapter.doExport(newSnapshotMetadata(snapshot));
+
+			assertThat(toFilenames(Arrays.asList(directory.listFiles())).containsAll(Arrays.asList("region.gfd",
+				"region.delta-000001.gfd", "region.delta-000001.destroyed")), is(true));
+			assertThat(directory.listFiles().length, is(equalTo(3)));
+
+			adapter.doImport(newSnapshotMetadata(snapshot));
+
+			assertThat(loadedContents, is(equalTo(Arrays.asList("one;two;three;", "two;"))));
+
+			verify(mockRegion, times(1)).removeAll(eq(Collections.singletonList("three")));
+
+			changeTracker.afterRegionClear(null);
+			adapter.doExport(newSnapshotMetadata(snapshot));
+
+			assertThat(toFilenames(Arrays.asList(directory.listFiles())), is(equalTo(
+				Collections.singletonList("region.gfd"))));
+		}
+		finally {
+			for (File file : nullSafeArray(directory.listFiles(), File.class)) {
+				file.delete();
+			}
+
+			directory.delete();
+		}
+	}
+
+	private List<String> toFilenames(List<File> files) {
+
+		List<String> filenames = new ArrayList<>(files.size());
+
+		for (File file : files) {
+			filenames.add(file.getName());
+		}
+
+		return filenames;
+	}
+
 	protected static class TestSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
 
 		@Override
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.apache.geode.cache.EntryOperation;
+import org.apache.geode.cache.PartitionResolver;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.snapshot.SnapshotIterator;
+
+import org.junit.Test;
+
+import org.springframework.data.gemfire.snapshot.event.SnapshotImportProgressApplicationEvent;
+
+/**
+ * Unit Tests for {@link ThrottledSnapshotImporter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.ThrottledSnapshotImporter
+ * @since 2.3.0
+ */
+@SuppressWarnings("unchecked")
+public class ThrottledSnapshotImporterUnitTests {
+
+	private final File snapshot = new File("region.gfd");
+
+	private Region<Integer, String> mockRegion(List<Map<Integer, String>> batches) {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+
+		doAnswer(invocation -> {
+			batches.add(new HashMap<>(invocation.<Map<Integer, String>>getArgument(0)));
+			return null;
+		}).when(mockRegion).putAll(anyMap());
+
+		return mockRegion;
+	}
+
+	private ThrottledSnapshotImporter<Integer, String> newImporter(int batchSize, int entries, AtomicLong slept) {
+
+		return new ThrottledSnapshotImporter<Integer, String>(batchSize) {
+
+			@Override
+			protected SnapshotIterator<Integer, String> read(File snapshot) {
+
+				Iterator<Integer> keys = IntStream.range(0, entries).iterator();
+
+				return new SnapshotIterator<Integer, String>() {
+
+					@Override
+					public boolean hasNext() {
+						return keys.hasNext();
+					}
+
+					@Override
+					public Map.Entry<Integer, String> next() {
+						Integer key = keys.next();
+						return new AbstractMap.SimpleEntry<>(key, String.valueOf(key));
+					}
+
+					@Override
+					public void close() { }
+				};
+			}
+
+			@Override
+			protected void sleep(long milliseconds) {
+				slept.addAndGet(milliseconds);
+			}
+		};
+	}
+
+	@Test
+	public void importPutsFilteredEntriesInBatchesAndReportsCompletion() {
+
+		List<Map<Integer, String>> batches = new ArrayList<>();
+		List<SnapshotImportProgressApplicationEvent> events = new ArrayList<>();
+
+		ThrottledSnapshotImporter<Integer, String> importer = newImporter(4, 10, new AtomicLong());
+
+		importer.setProgressListener(events::add);
+
+		long entries = importer.importSnapshot(this.snapshot, mockRegion(batches), entry -> entry.getKey() != 5);
+
+		assertThat(entries).isEqualTo(9L);
+		assertThat(batches).extracting(Map::size).containsExactly(4, 4, 1);
+		assertThat(batches.get(1)).doesNotContainKey(5);
+		assertThat(events).isNotEmpty();
+
+		SnapshotImportProgressApplicationEvent completed = events.get(events.size() - 1);
+
+		assertThat(completed.isCompleted()).isTrue();
+		assertThat(completed.getEntries()).isEqualTo(9L);
+		assertThat(completed.getBatches()).isEqualTo(3L);
+		assertThat(completed.getRegionPath()).isEqualTo("/Example");
+	}
+
+	@Test
+	public void parallelImportPutsEveryEntryExactlyOnce() {
+
+		List<Map<Integer, String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+		ThrottledSnapshotImporter<Integer, String> importer = newImporter(10, 1000, new AtomicLong());
+
+		importer.setParallelism(4);
+
+		assertThat(importer.importSnapshot(this.snapshot, mockRegion(batches), null)).isEqualTo(1000L);
+
+		Map<Integer, String> imported = new HashMap<>();
+
+		batches.forEach(imported::putAll);
+
+		assertThat(imported).hasSize(1000);
+		assertThat(batches.stream().mapToInt(Map::size).sum()).isEqualTo(1000);
+	}
+
+	@Test
+	public void parallelImportFailsWhenPutAllThrowsError() {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		doThrow(new Error("TEST")).when(mockRegion).putAll(anyMap());
+
+		ThrottledSnapshotImporter<Integer, String> importer = newImporter(10, 100, new AtomicLong());
+
+		importer.setParallelism(4);
+
+		assertThatThrownBy(() -> importer.importSnapshot(this.snapshot, mockRegion, null))
+			.isInstanceOf(ImportSnapshotException.class)
+			.hasCauseInstanceOf(Error.class)
+			.satisfies(cause -> assertThat(cause.getCause()).hasMessage("TEST"));
+	}
+
+	@Test
+	public void rateLimitedImportWaitsBetweenBatches() {
+
+		AtomicLong slept = new AtomicLong();
+
+		ThrottledSnapshotImporter<Integer, String> importer = newImporter(10, 30, slept);
+
+		importer.setEntriesPerSecond(10L);
+
+		importer.importSnapshot(this.snapshot, mockRegion(new ArrayList<>()), null);
+
+		assertThat(slept.get()).isBetween(2900L, 3000L);
+	}
+
+	@Test
+	public void bucketIsResolvedLikeGeode() {
+
+		Region<Integer, String> mockRegion = mockRegion(new ArrayList<>());
+
+		assertThat(ThrottledSnapshotImporter.resolveBucket(mockRegion, null, 113,
+			new AbstractMap.SimpleEntry<>(-7, "value"))).isEqualTo(7);
+
+		assertThat(ThrottledSnapshotImporter.resolveBucket(mockRegion, null, 113,
+			new AbstractMap.SimpleEntry<>(120, "value"))).isEqualTo(7);
+	}
+
+	@Test
+	public void bucketIsResolvedFromRoutingObjectOfPartitionResolver() {
+
+		Region<Integer, String> mockRegion = mockRegion(new ArrayList<>());
+
+		PartitionResolver<Integer, String> mockPartitionResolver = mock(PartitionResolver.class);
+
+		when(mockPartitionResolver.getRoutingObject(any())).thenAnswer(invocation ->
+			invocation.<EntryOperation<Integer, String>>getArgument(0).getKey() / 10);
+
+		assertThat(ThrottledSnapshotImporter.resolveBucket(mockRegion, mockPartitionResolver, 113,
+			new AbstractMap.SimpleEntry<>(41, "value"))).isEqualTo(4);
+
+		assertThat(ThrottledSnapshotImporter.resolveBucket(mockRegion, mockPartitionResolver, 113,
+			new AbstractMap.SimpleEntry<>(-49, "value"))).isEqualTo(4);
+	}
+
+	@Test
+	public void rateLimiterSpacesReservationsByPermits() {
+
+		ThrottledSnapshotImporter.RateLimiter rateLimiter = new ThrottledSnapshotImporter.RateLimiter(1000L);
+
+		long second = TimeUnit.SECONDS.toNanos(1);
+
+		assertThat(rateLimiter.reserve(500, 0L)).isZero();
+		assertThat(rateLimiter.reserve(500, 0L)).isEqualTo(second / 2);
+		assertThat(rateLimiter.reserve(100, 0L)).isEqualTo(second);
+		assertThat(rateLimiter.reserve(100, 5 * second)).isZero();
+	}
+}
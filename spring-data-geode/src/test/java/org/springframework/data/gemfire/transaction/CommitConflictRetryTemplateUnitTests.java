@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.cache.CommitConflictException;
+
+import org.junit.Test;
+
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Unit Tests for {@link CommitConflictRetryTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryTemplate
+ * @since 2.3.0
+ */
+public class CommitConflictRetryTemplateUnitTests {
+
+	private final CommitConflictRetryTemplate retryTemplate = new CommitConflictRetryTemplate() {
+
+		@Override
+		protected boolean sleep(long millis) {
+			return true;
+		}
+	};
+
+	private final TransactionOperations transactionOperations = new TransactionOperations() {
+
+		@Override
+		public <T> T execute(TransactionCallback<T> action) {
+			return action.doInTransaction(null);
+		}
+	};
+
+	private static GemfireTransactionCommitException newCommitConflict() {
+		return new GemfireTransactionCommitException("TEST", new CommitConflictException("TEST"));
+	}
+
+	@Test
+	public void retriesUntilCommitSucceeds() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = this.retryTemplate.execute(this.transactionOperations, status -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw newCommitConflict();
+			}
+			return "committed";
+		});
+
+		assertThat(result).isEqualTo("committed");
+		assertThat(attempts.get()).isEqualTo(3);
+		assertThat(this.retryTemplate.getRetryCount()).isEqualTo(2L);
+		assertThat(this.retryTemplate.getExhaustedCount()).isZero();
+	}
+
+	@Test
+	public void rethrowsConflictAfterMaxAttempts() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		this.retryTemplate.setMaxAttempts(2);
+
+		assertThatThrownBy(() -> this.retryTemplate.execute(this.transactionOperations, status -> {
+			attempts.incrementAndGet();
+			throw newCommitConflict();
+		})).isInstanceOf(GemfireTransactionCommitException.class).hasCauseInstanceOf(CommitConflictException.class);
+
+		assertThat(attempts.get()).isEqualTo(2);
+		assertThat(this.retryTemplate.getExhaustedCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void doesNotRetryOtherFailures() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> this.retryTemplate.execute(this.transactionOperations, status -> {
+			attempts.incrementAndGet();
+			throw new IllegalStateException("TEST");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(attempts.get()).isEqualTo(1);
+		assertThat(this.retryTemplate.getRetryCount()).isZero();
+	}
+
+	@Test
+	public void backoffIsJitteredAndCapped() {
+
+		this.retryTemplate.setInitialBackoff(100L);
+		this.retryTemplate.setMaxBackoff(300L);
+
+		for (int count = 0; count < 100; count++) {
+			assertThat(this.retryTemplate.getBackoff(1)).isBetween(0L, 100L);
+			assertThat(this.retryTemplate.getBackoff(2)).isBetween(0L, 200L);
+			assertThat(this.retryTemplate.getBackoff(10)).isBetween(0L, 300L);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.distributed.internal.InternalDistributedSystem;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.PartitionedRegion;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/**
+ * Unit Tests for {@link DataLocalTransactionFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.transaction.DataLocalTransactionFunction
+ * @since 2.3.0
+ */
+public class DataLocalTransactionFunctionUnitTests {
+
+	private CacheTransactionManager mockCacheTransactionManager;
+
+	private RegionFunctionContext mockFunctionContext;
+
+	private Region<Object, Object> mockRegion;
+
+	private ResultSender<Object> mockResultSender;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		InternalCache mockCache = mock(InternalCache.class);
+
+		this.mockCacheTransactionManager = mock(CacheTransactionManager.class);
+		this.mockFunctionContext = mock(RegionFunctionContext.class);
+		this.mockRegion = mock(Region.class);
+		this.mockResultSender = mock(ResultSender.class);
+
+		when(mockCache.getCacheTransactionManager()).thenReturn(this.mockCacheTransactionManager);
+		when(this.mockFunctionContext.getCache()).thenReturn(mockCache);
+		when(this.mockFunctionContext.getDataSet()).thenReturn(this.mockRegion);
+		when(this.mockFunctionContext.getResultSender()).thenReturn(this.mockResultSender);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void runsCallbackInTransactionAndCommits() {
+
+		DataLocalTransactionCallback<Object, Object, Object> callback = region -> region.put("key", "value");
+
+		when(this.mockFunctionContext.getArguments()).thenReturn(callback);
+
+		new DataLocalTransactionFunction().execute(this.mockFunctionContext);
+
+		InOrder inOrder = inOrder(this.mockCacheTransactionManager, this.mockRegion, this.mockResultSender);
+
+		inOrder.verify(this.mockCacheTransactionManager).begin();
+		inOrder.verify(this.mockRegion).put("key", "value");
+		inOrder.verify(this.mockCacheTransactionManager).commit();
+		inOrder.verify(this.mockResultSender).lastResult(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void rollsBackWhenCallbackFails() {
+
+		when(this.mockCacheTransactionManager.exists()).thenReturn(false, true);
+
+		DataLocalTransactionCallback<Object, Object, Object> callback = region -> {
+			throw new IllegalStateException("TEST");
+		};
+
+		when(this.mockFunctionContext.getArguments()).thenReturn(callback);
+
+		assertThatThrownBy(() -> new DataLocalTransactionFunction().execute(this.mockFunctionContext))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("TEST");
+
+		verify(this.mockCacheTransactionManager).begin();
+		verify(this.mockCacheTransactionManager).rollback();
+		verify(this.mockCacheTransactionManager, never()).commit();
+		verify(this.mockResultSender, never()).lastResult(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void rejectsKeysNotPrimaryLocallyBeforeBeginningTransaction() {
+
+		InternalDistributedMember localMember = mock(InternalDistributedMember.class);
+		DistributedMember remoteMember = mock(DistributedMember.class);
+
+		InternalDistributedSystem mockDistributedSystem = mock(InternalDistributedSystem.class);
+
+		when(mockDistributedSystem.getDistributedMember()).thenReturn(localMember);
+		when(this.mockFunctionContext.getCache().getDistributedSystem()).thenReturn(mockDistributedSystem);
+		when(this.mockFunctionContext.getDataSet()).thenReturn(mock(PartitionedRegion.class));
+
+		DataLocalTransactionCallback<Object, Object, Object> callback = region -> region.put("one", "value");
+
+		when(this.mockFunctionContext.getArguments()).thenReturn(
+			new DataLocalTransactionFunction.RoutedTransactionCallback<>(new HashSet<>(Arrays.asList("one", "two")),
+				callback));
+
+		DataLocalTransactionFunction function = new DataLocalTransactionFunction() {
+
+			@Override
+			protected DistributedMember resolvePrimaryMember(Region<Object, Object> region, Object key) {
+				return "one".equals(key) ? localMember : remoteMember;
+			}
+		};
+
+		assertThatThrownBy(() -> function.execute(this.mockFunctionContext))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("are not colocated");
+
+		verifyZeroInteractions(this.mockCacheTransactionManager, this.mockResultSender);
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.apache.geode.cache.CacheEvent;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.TransactionEvent;
+import org.apache.geode.cache.TransactionId;
+import org.apache.geode.cache.TransactionListener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit Tests for the statistics recorded by {@link GemfireTransactionManager}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionStatistics
+ * @since 2.3.0
+ */
+public class GemfireTransactionManagerUnitTests {
+
+	private CacheTransactionManager mockCacheTransactionManager;
+
+	private GemfireTransactionManager transactionManager;
+
+	private TransactionId mockTransactionId;
+
+	private TransactionTemplate transactionTemplate;
+
+	@Before
+	public void setup() {
+
+		GemFireCache mockCache = mock(GemFireCache.class);
+
+		this.mockCacheTransactionManager = mock(CacheTransactionManager.class);
+		this.mockTransactionId = mock(TransactionId.class);
+
+		when(mockCache.getCacheTransactionManager()).thenReturn(this.mockCacheTransactionManager);
+		when(this.mockCacheTransactionManager.getTransactionId()).thenReturn(this.mockTransactionId);
+
+		this.transactionManager = new GemfireTransactionManager(mockCache);
+		this.transactionTemplate = new TransactionTemplate(this.transactionManager);
+		this.transactionTemplate.setName("CustomerService.save");
+	}
+
+	@Test
+	public void commitRecordsDurationAndOperationCount() {
+
+		TransactionEvent mockTransactionEvent = mock(TransactionEvent.class);
+
+		when(mockTransactionEvent.getTransactionId()).thenReturn(this.mockTransactionId);
+		doAnswer(invocation -> Arrays.asList(mock(CacheEvent.class), mock(CacheEvent.class)))
+			.when(mockTransactionEvent).getEvents();
+
+		this.transactionTemplate.execute(status -> null);
+
+		ArgumentCaptor<TransactionListener> listener = ArgumentCaptor.forClass(TransactionListener.class);
+
+		verify(this.mockCacheTransactionManager).addListener(listener.capture());
+
+		doAnswer(invocation -> {
+			listener.getValue().afterCommit(mockTransactionEvent);
+			return null;
+		}).when(this.mockCacheTransactionManager).commit();
+
+		this.transactionTemplate.execute(status -> null);
+
+		GemfireTransactionStatistics statistics =
+			this.transactionManager.getTransactionStatistics().get("CustomerService.save");
+
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.getCommitCount()).isEqualTo(2L);
+		assertThat(statistics.getCommitLatency().getCount()).isEqualTo(2L);
+		assertThat(statistics.getOperationCount()).isEqualTo(2L);
+		assertThat(statistics.getMaxOperationCount()).isEqualTo(2L);
+		assertThat(this.transactionManager.getStatistics().getCommitCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void commitConflictsAndRollbacksAreRecorded() {
+
+		doThrow(new CommitConflictException("TEST")).when(this.mockCacheTransactionManager).commit();
+
+		assertThatThrownBy(() -> this.transactionTemplate.execute(status -> null))
+			.isInstanceOf(GemfireTransactionCommitException.class)
+			.hasCauseInstanceOf(CommitConflictException.class);
+
+		this.transactionTemplate.execute(status -> {
+			status.setRollbackOnly();
+			return null;
+		});
+
+		GemfireTransactionStatistics statistics =
+			this.transactionManager.getTransactionStatistics().get("CustomerService.save");
+
+		assertThat(statistics.getCommitConflictCount()).isEqualTo(1L);
+		assertThat(statistics.getRollbackCount()).isEqualTo(1L);
+		assertThat(this.transactionManager.getCommitConflictRate()).isEqualTo(1.0d);
+		verify(this.mockCacheTransactionManager).rollback();
+	}
+
+	@Test
+	public void destroyRemovesOperationCountingListener() {
+
+		this.transactionTemplate.execute(status -> null);
+
+		ArgumentCaptor<TransactionListener> listener = ArgumentCaptor.forClass(TransactionListener.class);
+
+		verify(this.mockCacheTransactionManager).addListener(listener.capture());
+
+		this.transactionManager.destroy();
+
+		verify(this.mockCacheTransactionManager).removeListener(listener.getValue());
+	}
+}